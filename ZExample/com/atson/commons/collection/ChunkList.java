@@ -0,0 +1,218 @@
+package com.atson.commons.collection;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * z̃`NȂXg<br>
+ *
+ * <p>
+ * vf͔z̃`Nɋl߁A`NPɂȂB
+ * LinkedList ̂悤ɗvfƂɃm[hȂ̂ŁA1vf̃͂قڎQ1ŁA
+ * zɓǂނɂȂB
+ * Xgő傫z𖳑ʂɂȂ悤A擪̃`N͏A{@link #CHUNK_SIZE} ܂Ŕ{Xɑ傫B
+ * </p>
+ * <p>
+ * ւ̒ǉ O(1)A{@link #concat(ChunkList)} ̓`NȂւ邾Ȃ̂ O(1)B
+ * YɂANZX̓`Nǂ̂ O(n / CHUNK_SIZE)BO珇ɓǂޏꍇ͒ÖʒuTB
+ * rւ̑}ƍ폜͂łȂB
+ * </p>
+ * XbhZ[tł͂ȂB
+ *
+ * @param <E> vf̌^
+ */
+public class ChunkList<E> extends AbstractList<E> {
+
+    /** `N̑傫̏ */
+    public static final int CHUNK_SIZE = 64;
+    private static final int FIRST_CHUNK_SIZE = 4;
+
+    private static final class Chunk {
+        final Object[] items;
+        int size = 0;
+        Chunk next;
+
+        Chunk(final int capacity) {
+            this.items = new Object[capacity];
+        }
+    }
+
+    private Chunk head;
+    private Chunk tail;
+    private int size = 0;
+
+    // get(int) ōŌɌ`NƂ̐擪̓Y
+    private Chunk cursor;
+    private int cursorBase;
+
+    public ChunkList() {
+    }
+
+    public ChunkList(final Collection<? extends E> c) {
+        addAll(c);
+    }
+
+    @SafeVarargs
+    public static <E> ChunkList<E> of(final E... es) {
+        final ChunkList<E> rv = new ChunkList<E>();
+        for (E e : es) {
+            rv.add(e);
+        }
+        return rv;
+    }
+
+    @Override
+    public boolean add(final E e) {
+        Chunk t = this.tail;
+        if (t == null || t.size == t.items.length) {
+            t = new Chunk(t == null ? FIRST_CHUNK_SIZE : Math.min(t.items.length * 2, CHUNK_SIZE));
+            if (this.tail == null) {
+                this.head = t;
+            } else {
+                this.tail.next = t;
+            }
+            this.tail = t;
+        }
+        t.items[t.size++] = e;
+        this.size++;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * other ̗vf𖖔ɂȂBvf̓Rs[`Nڂ̂ŁAother ͋ɂȂB
+     *
+     * @param other thisƈقȂ郊Xg
+     * @return this
+     * @throws IllegalArgumentException otherthis̏ꍇ
+     */
+    public ChunkList<E> concat(final ChunkList<? extends E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("cannot concat a ChunkList to itself");
+        }
+        if (other.head == null) {
+            return this;
+        }
+        if (this.tail == null) {
+            this.head = other.head;
+        } else {
+            this.tail.next = other.head;
+        }
+        this.tail = other.tail;
+        this.size += other.size;
+        this.modCount++;
+        other.clear();
+        return this;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(final int index) {
+        final Chunk c = chunkOf(index);
+        return (E) c.items[index - this.cursorBase];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(final int index, final E e) {
+        final Chunk c = chunkOf(index);
+        final int i = index - this.cursorBase;
+        final E old = (E) c.items[i];
+        c.items[i] = e;
+        return old;
+    }
+
+    private Chunk chunkOf(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+        Chunk c = this.cursor;
+        int base = this.cursorBase;
+        if (c == null || index < base) {
+            c = this.head;
+            base = 0;
+        }
+        while (index >= base + c.size) {
+            base += c.size;
+            c = c.next;
+        }
+        this.cursor = c;
+        this.cursorBase = base;
+        return c;
+    }
+
+    /**
+     * ̗vf ̏ꍇ͗O
+     */
+    @SuppressWarnings("unchecked")
+    public E getLast() {
+        if (this.tail == null) {
+            throw new NoSuchElementException();
+        }
+        return (E) this.tail.items[this.tail.size - 1];
+    }
+
+    @Override
+    public void clear() {
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+        this.cursor = null;
+        this.cursorBase = 0;
+        this.modCount++;
+    }
+
+    @Override
+    public Object[] toArray() {
+        final Object[] rv = new Object[this.size];
+        int i = 0;
+        for (Chunk c = this.head; c != null; c = c.next) {
+            System.arraycopy(c.items, 0, rv, i, c.size);
+            i += c.size;
+        }
+        return rv;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Chunk chunk = ChunkList.this.head;
+            private int i = 0;
+            private final int expectedModCount = ChunkList.this.modCount;
+
+            @Override
+            public boolean hasNext() {
+                while (this.chunk != null && this.i == this.chunk.size) {
+                    this.chunk = this.chunk.next;
+                    this.i = 0;
+                }
+                return this.chunk != null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (ChunkList.this.modCount != this.expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (E) this.chunk.items[this.i++];
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
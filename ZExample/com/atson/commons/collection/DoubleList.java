@@ -0,0 +1,276 @@
+package com.atson.commons.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import com.atson.commons.lang.FP.DoubleFun;
+import com.atson.commons.lang.FP.DoubleOp;
+import com.atson.commons.lang.FP.DoubleOp2;
+
+/**
+ * double ̉ϒz<br>
+ * ArrayList{@code <Double>} ƈႢvf boxing ȂB
+ * map/filter/foldl Ȃǂ̊֐ double ̂܂܌vZB<br>
+ * XbhZ[tł͂ȂB
+ */
+public class DoubleList {
+
+    private static final double[] EMPTY = new double[0];
+
+    private double[] elems;
+    private int size = 0;
+
+    public DoubleList() {
+        this.elems = EMPTY;
+    }
+
+    /**
+     * @param capacity e
+     */
+    public DoubleList(final int capacity) {
+        this.elems = capacity == 0 ? EMPTY : new double[capacity];
+    }
+
+    /**
+     * @param xs Rs[vf
+     */
+    public static DoubleList of(final double... xs) {
+        final DoubleList rv = new DoubleList(xs.length);
+        rv.addAll(xs);
+        return rv;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void add(final double x) {
+        if (this.size == this.elems.length) {
+            grow(this.size + 1);
+        }
+        this.elems[this.size++] = x;
+    }
+
+    public void addAll(final double[] xs) {
+        if (this.size + xs.length > this.elems.length) {
+            grow(this.size + xs.length);
+        }
+        System.arraycopy(xs, 0, this.elems, this.size, xs.length);
+        this.size += xs.length;
+    }
+
+    public void addAll(final DoubleList xs) {
+        if (this.size + xs.size > this.elems.length) {
+            grow(this.size + xs.size);
+        }
+        System.arraycopy(xs.elems, 0, this.elems, this.size, xs.size);
+        this.size += xs.size;
+    }
+
+    private void grow(final int minCapacity) {
+        int capacity = Math.max(this.elems.length + (this.elems.length >> 1), 10);
+        if (capacity < minCapacity) {
+            capacity = minCapacity;
+        }
+        this.elems = Arrays.copyOf(this.elems, capacity);
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException index͈͊Ȍꍇ
+     */
+    public double get(final int index) {
+        check(index);
+        return this.elems[index];
+    }
+
+    /**
+     * @return ̒l
+     * @throws IndexOutOfBoundsException index͈͊Ȍꍇ
+     */
+    public double set(final int index, final double x) {
+        check(index);
+        final double old = this.elems[index];
+        this.elems[index] = x;
+        return old;
+    }
+
+    private void check(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * @return vfRs[z
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(this.elems, this.size);
+    }
+
+    /**
+     * map :: (a -> a) -> [a] -> [a]
+     */
+    public DoubleList map(final DoubleOp f) {
+        final DoubleList rv = new DoubleList(this.size);
+        for (int i = 0; i < this.size; i++) {
+            rv.elems[i] = f.app(this.elems[i]);
+        }
+        rv.size = this.size;
+        return rv;
+    }
+
+    /**
+     * map :: (a -> b) -> [a] -> [b]
+     */
+    public <B> ArrayList<B> mapToObj(final DoubleFun<? extends B> f) {
+        final ArrayList<B> rv = new ArrayList<B>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            rv.add(f.app(this.elems[i]));
+        }
+        return rv;
+    }
+
+    /**
+     * filter :: (a -> Bool) -> [a] -> [a]
+     */
+    public DoubleList filter(final DoubleFun<Boolean> pred) {
+        final DoubleList rv = new DoubleList();
+        for (int i = 0; i < this.size; i++) {
+            if (pred.app(this.elems[i])) {
+                rv.add(this.elems[i]);
+            }
+        }
+        return rv;
+    }
+
+    /**
+     * foldl :: (b -> a -> b) -> b -> [a] -> b
+     */
+    public double foldl(final DoubleOp2 op, final double init) {
+        double r = init;
+        for (int i = 0; i < this.size; i++) {
+            r = op.app(r, this.elems[i]);
+        }
+        return r;
+    }
+
+    /**
+     * @return vf̘a
+     */
+    public double sum() {
+        double r = 0;
+        for (int i = 0; i < this.size; i++) {
+            r += this.elems[i];
+        }
+        return r;
+    }
+
+    /**
+     * @throws NoSuchElementException ̏ꍇ
+     */
+    public double min() {
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        double r = this.elems[0];
+        for (int i = 1; i < this.size; i++) {
+            r = Math.min(r, this.elems[i]);
+        }
+        return r;
+    }
+
+    /**
+     * @throws NoSuchElementException ̏ꍇ
+     */
+    public double max() {
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        double r = this.elems[0];
+        for (int i = 1; i < this.size; i++) {
+            r = Math.max(r, this.elems[i]);
+        }
+        return r;
+    }
+
+    /**
+     * ɕבւB
+     * @return this
+     */
+    public DoubleList sort() {
+        Arrays.sort(this.elems, 0, this.size);
+        return this;
+    }
+
+    /**
+     * ɕłꍇ x TB
+     * @return {@link Arrays#binarySearch(double[], int, int, double)} Ɠ
+     */
+    public int binarySearch(final double x) {
+        return Arrays.binarySearch(this.elems, 0, this.size, x);
+    }
+
+    public int indexOf(final double x) {
+        for (int i = 0; i < this.size; i++) {
+            if (Double.compare(this.elems[i], x) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(final double x) {
+        return indexOf(x) >= 0;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof DoubleList)) {
+            return false;
+        }
+        final DoubleList that = (DoubleList) o;
+        if (that.size != this.size) {
+            return false;
+        }
+        for (int i = 0; i < this.size; i++) {
+            final double x = that.elems[i];
+            if (!(Double.compare(this.elems[i], x) == 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < this.size; i++) {
+            h = 31 * h + Double.hashCode(this.elems[i]);
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder("[");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                b.append(", ");
+            }
+            b.append(this.elems[i]);
+        }
+        return b.append(']').toString();
+    }
+}
@@ -0,0 +1,347 @@
+package com.atson.commons.collection;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.FP.Fun;
+import com.atson.commons.lang.FP.T2;
+import com.atson.commons.sql.Data;
+
+/**
+ * L[Ƃɒl1\ L[͍ŏɒǉꂽɕ<br>
+ *
+ * <p>
+ * I[vAhX@̃nbV\ŁAXbgɂ̓GgԍuA
+ * L[ElEnbVl̓GgԍňzɒuB
+ * LinkedHashMap ƈႢGgƂ̃IuWFNg炸AGgԍ}ɂȂB
+ * </p>
+ * <p>
+ * {@link #groupingBy(Fun, Iterable)} ȂǂŁAׂ荇ĂȂL[̗vf1̑ł܂Ƃ߂B
+ * 񂵂Ă {@link FP.ArrayListJ#groupBy(FP.Eq, Iterable)} Kv͂ȂB
+ * ł {@link com.atson.commons.lang.ParFP} ɂB
+ * </p>
+ * L[ null BL[ equals, hashCode 𐳂Ă邱ƁBXbhZ[tł͂ȂB
+ *
+ * @param <K> L[̌^
+ * @param <V> ľ^
+ */
+final public class GroupTable<K, V> implements Iterable<T2<K, V>> {
+
+    private int[] slots;
+    private int mask;
+    private int[] hashes;
+    private Object[] keys;
+    private Object[] vals;
+    private int size = 0;
+
+    public GroupTable() {
+        this(8);
+    }
+
+    /**
+     * @param expected ݂̃L[̐
+     */
+    public GroupTable(final int expected) {
+        final int capacity = Integer.highestOneBit(Math.max(expected, 4) * 2 - 1) << 1;
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        this.hashes = new int[Math.max(expected, 4)];
+        this.keys = new Object[this.hashes.length];
+        this.vals = new Object[this.hashes.length];
+    }
+
+    private static int hash(final Object k) {
+        int h = k == null ? 0 : k.hashCode();
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @return keỹGgԍ Ȃ-1
+     */
+    public int indexOf(final Object key) {
+        final int h = hash(key);
+        for (int slot = h & this.mask; ; slot = (slot + 1) & this.mask) {
+            final int e = this.slots[slot] - 1;
+            if (e < 0) {
+                return -1;
+            }
+            if (this.hashes[e] == h && eq(this.keys[e], key)) {
+                return e;
+            }
+        }
+    }
+
+    /**
+     * keỹGgԍԂBȂΒlnull̃Gg𖖔ɒǉB
+     *
+     * @return keỹGgԍ
+     */
+    public int add(final K key) {
+        final int h = hash(key);
+        int slot = h & this.mask;
+        for (;; slot = (slot + 1) & this.mask) {
+            final int e = this.slots[slot] - 1;
+            if (e < 0) {
+                break;
+            }
+            if (this.hashes[e] == h && eq(this.keys[e], key)) {
+                return e;
+            }
+        }
+        if (this.size == this.keys.length) {
+            final int n = this.size * 2;
+            this.hashes = Arrays.copyOf(this.hashes, n);
+            this.keys = Arrays.copyOf(this.keys, n);
+            this.vals = Arrays.copyOf(this.vals, n);
+        }
+        final int e = this.size++;
+        this.hashes[e] = h;
+        this.keys[e] = key;
+        if (this.size * 2 > this.slots.length) {
+            rehash();
+        } else {
+            this.slots[slot] = e + 1;
+        }
+        return e;
+    }
+
+    private void rehash() {
+        final int capacity = this.slots.length * 2;
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        for (int e = 0; e < this.size; e++) {
+            int slot = this.hashes[e] & this.mask;
+            while (this.slots[slot] != 0) {
+                slot = (slot + 1) & this.mask;
+            }
+            this.slots[slot] = e + 1;
+        }
+    }
+
+    private static boolean eq(final Object a, final Object b) {
+        return a == b || a != null && a.equals(b);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public K keyAt(final int index) {
+        check(index);
+        return (K) this.keys[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V valueAt(final int index) {
+        check(index);
+        return (V) this.vals[index];
+    }
+
+    public void setValueAt(final int index, final V v) {
+        check(index);
+        this.vals[index] = v;
+    }
+
+    private void check(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * @return key̒l Ȃnull
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final Object key) {
+        final int e = indexOf(key);
+        return e < 0 ? null : (V) this.vals[e];
+    }
+
+    /**
+     * key̒lvɂBȂΖɒǉB
+     */
+    public void put(final K key, final V v) {
+        // add Ŕz񂪑傫Ȃ邱Ƃ̂ŁA add 
+        final int e = add(key);
+        this.vals[e] = v;
+    }
+
+    /**
+     * @return L[̃Xg } \ύXƕς
+     */
+    public List<K> keys() {
+        return new AbstractList<K>() {
+            @Override public K get(final int index) { return keyAt(index); }
+            @Override public int size() { return GroupTable.this.size; }
+        };
+    }
+
+    /**
+     * @return l̃Xg L[̑} \ύXƕς
+     */
+    public List<V> values() {
+        return new AbstractList<V>() {
+            @Override public V get(final int index) { return valueAt(index); }
+            @Override public int size() { return GroupTable.this.size; }
+        };
+    }
+
+    /**
+     * @return e LinkedHashMap
+     */
+    public LinkedHashMap<K, V> toLinkedHashMap() {
+        final LinkedHashMap<K, V> rv = new LinkedHashMap<K, V>(this.size * 4 / 3 + 1);
+        for (int e = 0; e < this.size; e++) {
+            rv.put(keyAt(e), valueAt(e));
+        }
+        return rv;
+    }
+
+    /**
+     * (L[, l) }ɕԂ
+     */
+    @Override
+    public Iterator<T2<K, V>> iterator() {
+        return new Iterator<T2<K, V>>() {
+            private int e = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.e < GroupTable.this.size;
+            }
+
+            @Override
+            public T2<K, V> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final int i = this.e++;
+                return FP.t2(keyAt(i), valueAt(i));
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return toLinkedHashMap().toString();
+    }
+
+    /**
+     * from ̃Gg this ɕBL[ɂꍇ m.mappend(this̒l, from̒l) ɂB<br>
+     * this ɂȂL[ from ̏Ŗɒǉ̂ŁA͂̑O̕\Ɍ㔼̕\𕹍
+     * Ŝ1xɍꍇƓɂȂB
+     *
+     * @return this
+     */
+    public GroupTable<K, V> merge(final GroupTable<? extends K, ? extends V> from, final Data.Monoid<V> m) {
+        for (int i = 0; i < from.size; i++) {
+            final int before = this.size;
+            final int e = add(from.keyAt(i));
+            final V v = from.valueAt(i);
+            if (e == before) {
+                this.vals[e] = v;
+            } else {
+                setValueAt(e, m.mappend(valueAt(e), v));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * {@link #groupingBy(Fun, Iterable)} ō\ into  from ̃O[v𕹍B
+     * L[ɂꍇ into ̃O[v̌ from ̃O[vAB<br>
+     * {@link #merge(GroupTable, Data.Monoid)} ƓɂȂ邪Ainto ̃Xgɒڒǉ̂
+     * XgVȂBfrom ̃Xg into Ɉڂ̂ŁA from gȂƁB
+     *
+     * @return into
+     */
+    public static <K, A> GroupTable<K, ArrayList<A>>
+        mergeGroups(final GroupTable<K, ArrayList<A>> into, final GroupTable<? extends K, ArrayList<A>> from) {
+        for (int i = 0; i < from.size; i++) {
+            final int before = into.size;
+            final int e = into.add(from.keyAt(i));
+            if (e == before) {
+                into.vals[e] = from.valueAt(i);
+            } else {
+                into.valueAt(e).addAll(from.valueAt(i));
+            }
+        }
+        return into;
+    }
+
+    /**
+     * xs  key Ƃɂ܂Ƃ߂BO[v̏̓L[ŏɌꂽAO[v xs ̏B
+     */
+    public static <A, K> GroupTable<K, ArrayList<A>>
+        groupingBy(final Fun<? super A, ? extends K> key, final Iterable<? extends A> xs) {
+        final GroupTable<K, ArrayList<A>> t = new GroupTable<K, ArrayList<A>>();
+        for (A a : xs) {
+            final int e = t.add(key.app(a));
+            ArrayList<A> g = t.valueAt(e);
+            if (g == null) {
+                g = new ArrayList<A>();
+                t.setValueAt(e, g);
+            }
+            g.add(a);
+        }
+        return t;
+    }
+
+    /**
+     * xs  key Ƃ̗vf ĂԂ boxing Ȃ
+     */
+    public static <A, K> GroupTable<K, Integer>
+        countBy(final Fun<? super A, ? extends K> key, final Iterable<? extends A> xs) {
+        final GroupTable<K, Integer> t = new GroupTable<K, Integer>();
+        final IntList counts = new IntList();
+        for (A a : xs) {
+            final int e = t.add(key.app(a));
+            if (e == counts.size()) {
+                counts.add(1);
+            } else {
+                counts.set(e, counts.get(e) + 1);
+            }
+        }
+        for (int e = 0; e < t.size(); e++) {
+            t.setValueAt(e, counts.get(e));
+        }
+        return t;
+    }
+
+    /**
+     * xs  key Ƃ value  m ŏݍށB
+     */
+    public static <A, K, V> GroupTable<K, V>
+        foldBy(final Fun<? super A, ? extends K> key, final Fun<? super A, ? extends V> value,
+               final Data.Monoid<V> m, final Iterable<? extends A> xs) {
+        final GroupTable<K, V> t = new GroupTable<K, V>();
+        for (A a : xs) {
+            final int before = t.size();
+            final int e = t.add(key.app(a));
+            final V v = value.app(a);
+            t.setValueAt(e, m.mappend(e == before ? m.mempty() : t.valueAt(e), v));
+        }
+        return t;
+    }
+}
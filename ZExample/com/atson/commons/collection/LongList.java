@@ -0,0 +1,276 @@
+package com.atson.commons.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import com.atson.commons.lang.FP.LongFun;
+import com.atson.commons.lang.FP.LongOp;
+import com.atson.commons.lang.FP.LongOp2;
+
+/**
+ * long ̉ϒz<br>
+ * ArrayList{@code <Long>} ƈႢvf boxing ȂB
+ * map/filter/foldl Ȃǂ̊֐ long ̂܂܌vZB<br>
+ * XbhZ[tł͂ȂB
+ */
+public class LongList {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] elems;
+    private int size = 0;
+
+    public LongList() {
+        this.elems = EMPTY;
+    }
+
+    /**
+     * @param capacity e
+     */
+    public LongList(final int capacity) {
+        this.elems = capacity == 0 ? EMPTY : new long[capacity];
+    }
+
+    /**
+     * @param xs Rs[vf
+     */
+    public static LongList of(final long... xs) {
+        final LongList rv = new LongList(xs.length);
+        rv.addAll(xs);
+        return rv;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void add(final long x) {
+        if (this.size == this.elems.length) {
+            grow(this.size + 1);
+        }
+        this.elems[this.size++] = x;
+    }
+
+    public void addAll(final long[] xs) {
+        if (this.size + xs.length > this.elems.length) {
+            grow(this.size + xs.length);
+        }
+        System.arraycopy(xs, 0, this.elems, this.size, xs.length);
+        this.size += xs.length;
+    }
+
+    public void addAll(final LongList xs) {
+        if (this.size + xs.size > this.elems.length) {
+            grow(this.size + xs.size);
+        }
+        System.arraycopy(xs.elems, 0, this.elems, this.size, xs.size);
+        this.size += xs.size;
+    }
+
+    private void grow(final int minCapacity) {
+        int capacity = Math.max(this.elems.length + (this.elems.length >> 1), 10);
+        if (capacity < minCapacity) {
+            capacity = minCapacity;
+        }
+        this.elems = Arrays.copyOf(this.elems, capacity);
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException index͈͊Ȍꍇ
+     */
+    public long get(final int index) {
+        check(index);
+        return this.elems[index];
+    }
+
+    /**
+     * @return ̒l
+     * @throws IndexOutOfBoundsException index͈͊Ȍꍇ
+     */
+    public long set(final int index, final long x) {
+        check(index);
+        final long old = this.elems[index];
+        this.elems[index] = x;
+        return old;
+    }
+
+    private void check(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * @return vfRs[z
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(this.elems, this.size);
+    }
+
+    /**
+     * map :: (a -> a) -> [a] -> [a]
+     */
+    public LongList map(final LongOp f) {
+        final LongList rv = new LongList(this.size);
+        for (int i = 0; i < this.size; i++) {
+            rv.elems[i] = f.app(this.elems[i]);
+        }
+        rv.size = this.size;
+        return rv;
+    }
+
+    /**
+     * map :: (a -> b) -> [a] -> [b]
+     */
+    public <B> ArrayList<B> mapToObj(final LongFun<? extends B> f) {
+        final ArrayList<B> rv = new ArrayList<B>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            rv.add(f.app(this.elems[i]));
+        }
+        return rv;
+    }
+
+    /**
+     * filter :: (a -> Bool) -> [a] -> [a]
+     */
+    public LongList filter(final LongFun<Boolean> pred) {
+        final LongList rv = new LongList();
+        for (int i = 0; i < this.size; i++) {
+            if (pred.app(this.elems[i])) {
+                rv.add(this.elems[i]);
+            }
+        }
+        return rv;
+    }
+
+    /**
+     * foldl :: (b -> a -> b) -> b -> [a] -> b
+     */
+    public long foldl(final LongOp2 op, final long init) {
+        long r = init;
+        for (int i = 0; i < this.size; i++) {
+            r = op.app(r, this.elems[i]);
+        }
+        return r;
+    }
+
+    /**
+     * @return vf̘a ӂ͌Ȃ
+     */
+    public long sum() {
+        long r = 0;
+        for (int i = 0; i < this.size; i++) {
+            r += this.elems[i];
+        }
+        return r;
+    }
+
+    /**
+     * @throws NoSuchElementException ̏ꍇ
+     */
+    public long min() {
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        long r = this.elems[0];
+        for (int i = 1; i < this.size; i++) {
+            r = Math.min(r, this.elems[i]);
+        }
+        return r;
+    }
+
+    /**
+     * @throws NoSuchElementException ̏ꍇ
+     */
+    public long max() {
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        long r = this.elems[0];
+        for (int i = 1; i < this.size; i++) {
+            r = Math.max(r, this.elems[i]);
+        }
+        return r;
+    }
+
+    /**
+     * ɕבւB
+     * @return this
+     */
+    public LongList sort() {
+        Arrays.sort(this.elems, 0, this.size);
+        return this;
+    }
+
+    /**
+     * ɕłꍇ x TB
+     * @return {@link Arrays#binarySearch(long[], int, int, long)} Ɠ
+     */
+    public int binarySearch(final long x) {
+        return Arrays.binarySearch(this.elems, 0, this.size, x);
+    }
+
+    public int indexOf(final long x) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.elems[i] == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(final long x) {
+        return indexOf(x) >= 0;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof LongList)) {
+            return false;
+        }
+        final LongList that = (LongList) o;
+        if (that.size != this.size) {
+            return false;
+        }
+        for (int i = 0; i < this.size; i++) {
+            final long x = that.elems[i];
+            if (!(this.elems[i] == x)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < this.size; i++) {
+            h = 31 * h + Long.hashCode(this.elems[i]);
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder("[");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                b.append(", ");
+            }
+            b.append(this.elems[i]);
+        }
+        return b.append(']').toString();
+    }
+}
@@ -0,0 +1,226 @@
+package com.atson.commons.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * 傫 k ̗vfcq[v<br>
+ *
+ * <p>
+ * vf1 {@link #offer(Object, long)} AŌ {@link #toList()} ő傫ɎoB
+ * cĂ k ̂ŏ̗vfɂq[vȂ̂ŁAn ̂ O(n log k) ԁAO(k) B
+ * ŜבւĐ擪 k ̂ƓʂɂȂB
+ * vf͓Y̏ (Ɍꂽ) ̂傫Ƃ݂Ȃ̂ŁAבւȏꍇƓɂȂB
+ * Y long Ȃ̂ŁA2^31 𒴂͂ł͕ȂB
+ * </p>
+ *  k cꍇ͋t Comparator nBXbhZ[tł͂ȂB
+ * ɏW߂ꍇ̓XbhƂɍ {@link #merge(TopKHeap)} B
+ *
+ * @param <A> vf̌^
+ */
+final public class TopKHeap<A> {
+
+    private final int k;
+    private final Comparator<? super A> comparator;
+    private Object[] elems;
+    private long[] indices;
+    private int size = 0;
+
+    /**
+     * @param k cvf̐ 0ȏ
+     * @param comparator vf̏
+     */
+    public TopKHeap(final int k, final Comparator<? super A> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        this.k = k;
+        this.comparator = comparator;
+        // 傫 k nĂvf̕mۂ
+        this.elems = new Object[Math.min(k, 1024)];
+        this.indices = new long[this.elems.length];
+    }
+
+    /**
+     * 傫 k cq[v
+     */
+    public static <A> TopKHeap<A> top(final int k, final Comparator<? super A> comparator) {
+        return new TopKHeap<A>(k, comparator);
+    }
+
+    /**
+     *  k cq[v oƏɂȂ
+     */
+    public static <A> TopKHeap<A> bottom(final int k, final Comparator<? super A> comparator) {
+        return new TopKHeap<A>(k, new Comparator<A>() {
+            @Override
+            public int compare(final A a, final A b) {
+                return comparator.compare(b, a);
+            }
+        });
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param a vf
+     * @param index ͂ł a ̓Y vf̏Ɏg
+     * @return a cꍇtrue
+     */
+    public boolean offer(final A a, final long index) {
+        if (this.k == 0) {
+            return false;
+        }
+        if (this.size < this.k) {
+            if (this.size == this.elems.length) {
+                grow();
+            }
+            this.elems[this.size] = a;
+            this.indices[this.size] = index;
+            siftUp(this.size++);
+            return true;
+        }
+        //  (cĂ钆ōŏ) 傫Γւ
+        if (less(this.elems[0], this.indices[0], a, index)) {
+            this.elems[0] = a;
+            this.indices[0] = index;
+            siftDown(0);
+            return true;
+        }
+        return false;
+    }
+
+    private void grow() {
+        final int n = (int) Math.min((long) this.k, this.elems.length * 2L);
+        final Object[] ne = new Object[n];
+        final long[] ni = new long[n];
+        System.arraycopy(this.elems, 0, ne, 0, this.size);
+        System.arraycopy(this.indices, 0, ni, 0, this.size);
+        this.elems = ne;
+        this.indices = ni;
+    }
+
+    /**
+     * other ̗vfׂ offer BY other  offer Ƃ̂̂gB
+     *
+     * @return this
+     */
+    public TopKHeap<A> merge(final TopKHeap<? extends A> other) {
+        final Object[] oe = other.elems;
+        final long[] oi = other.indices;
+        for (int i = 0; i < other.size; i++) {
+            @SuppressWarnings("unchecked")
+            final A a = (A) oe[i];
+            offer(a, oi[i]);
+        }
+        return this;
+    }
+
+    /**
+     * (a, ai)  (b, bi) 菬 ꍇ͓Y̑傫
+     */
+    @SuppressWarnings("unchecked")
+    private boolean less(final Object a, final long ai, final Object b, final long bi) {
+        final int c = this.comparator.compare((A) a, (A) b);
+        return c != 0 ? c < 0 : ai > bi;
+    }
+
+    private void siftUp(final int from) {
+        final Object[] e = this.elems;
+        final long[] ix = this.indices;
+        final Object x = e[from];
+        final long xi = ix[from];
+        int i = from;
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (!less(x, xi, e[parent], ix[parent])) {
+                break;
+            }
+            e[i] = e[parent];
+            ix[i] = ix[parent];
+            i = parent;
+        }
+        e[i] = x;
+        ix[i] = xi;
+    }
+
+    private void siftDown(final int from) {
+        final Object[] e = this.elems;
+        final long[] ix = this.indices;
+        final Object x = e[from];
+        final long xi = ix[from];
+        int i = from;
+        for (;;) {
+            int child = 2 * i + 1;
+            if (child >= this.size) {
+                break;
+            }
+            if (child + 1 < this.size && less(e[child + 1], ix[child + 1], e[child], ix[child])) {
+                child++;
+            }
+            if (!less(e[child], ix[child], x, xi)) {
+                break;
+            }
+            e[i] = e[child];
+            ix[i] = ix[child];
+            i = child;
+        }
+        e[i] = x;
+        ix[i] = xi;
+    }
+
+    /**
+     * @return q[v̒g傫ɕׂY (elems, indices ̈ʒu)
+     */
+    private int[] order() {
+        final Integer[] pos = new Integer[this.size];
+        for (int i = 0; i < this.size; i++) {
+            pos[i] = i;
+        }
+        final Object[] e = this.elems;
+        final long[] ix = this.indices;
+        Arrays.sort(pos, new Comparator<Integer>() {
+            @Override
+            public int compare(final Integer p, final Integer q) {
+                if (less(e[p], ix[p], e[q], ix[q])) {
+                    return 1;
+                }
+                return less(e[q], ix[q], e[p], ix[p]) ? -1 : 0;
+            }
+        });
+        final int[] rv = new int[this.size];
+        for (int i = 0; i < this.size; i++) {
+            rv[i] = pos[i];
+        }
+        return rv;
+    }
+
+    /**
+     * @return cvf 傫
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayList<A> toList() {
+        final ArrayList<A> rv = new ArrayList<A>(this.size);
+        final Object[] e = this.elems;
+        for (int p : order()) {
+            rv.add((A) e[p]);
+        }
+        return rv;
+    }
+
+    /**
+     * @return cvf̓Y vf̑傫
+     * @throws ArithmeticException Y int Ɏ܂Ȃꍇ
+     */
+    public IntList toIndices() {
+        final IntList rv = new IntList(this.size);
+        final long[] ix = this.indices;
+        for (int p : order()) {
+            rv.add(Math.toIntExact(ix[p]));
+        }
+        return rv;
+    }
+}
@@ -1,7 +1,24 @@
 package com.atson.commons.lang;
 
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.beanutils.BeanComparator;
 import org.apache.commons.collections.comparators.ComparatorChain;
@@ -39,25 +56,222 @@ public final class ComparatorUtil {
      * @return Fun<A, B> fun,
      */
     public static <A, B> Comparator<A> cons(final Comparator<B> comp, final Fun<A, B> fun) {
-        return new Comparator<A>(){
+        return keyComparator(comp, fun);
+    }
 
-            @Override
-            public int compare(final A o1, final A o2) {
-                return comp.compare(fun.app(o1), fun.app(o2));
-            }
-            
-        };
+    /**
+     * {@link #cons(Comparator, Fun)} ƓComparatorAL[o^ŕԂB
+     * @param comp L[̔r
+     * @param fun rΏۂL[֐
+     */
+    public static <A, B> KeyComparator<A, B> keyComparator(final Comparator<B> comp, final Fun<A, B> fun) {
+        return new KeyComparator<A, B>(comp, fun);
+    }
+
+    /**
+     * rΏۂꂼfunĂcompComparator<br>
+     * {@link #sort(List, Comparator)} łfunvfƂ1xĂԁB
+     *
+     * @param <A> rΏۂ̌^
+     * @param <B> L[̌^
+     */
+    public static final class KeyComparator<A, B> implements Comparator<A> {
+        private final Comparator<B> comp;
+        private final Fun<A, B> fun;
+
+        KeyComparator(final Comparator<B> comp, final Fun<A, B> fun) {
+            this.comp = comp;
+            this.fun = fun;
+        }
+
+        @Override
+        public int compare(final A o1, final A o2) {
+            return this.comp.compare(this.fun.app(o1), this.fun.app(o2));
+        }
+
+        public Fun<A, B> getKey() {
+            return this.fun;
+        }
+
+        public Comparator<B> getKeyComparator() {
+            return this.comp;
+        }
     }
     
     /**
-     * BeanComparatorGenericsΉAstatic\bhpӁAnullvpeB (ftHgłnullnon-null傫)
+     * BeañvpeB̒lǂފ֐ Qb^[ MethodHandle vpeB̒iƂɂ
+     */
+    private static final class PropertyAccessor {
+        // MethodHandle œǂ߂ȂvpeB BeanComparator œǂ
+        static final PropertyAccessor UNSUPPORTED = new PropertyAccessor(null);
+
+        // ^ (Object)Object
+        private final MethodHandle[] getters;
+
+        private PropertyAccessor(final MethodHandle[] getters) {
+            this.getters = getters;
+        }
+
+        /**
+         * NXƁAvpeBƂ1x
+         */
+        private static final ClassValue<ConcurrentHashMap<String, PropertyAccessor>> ACCESSORS =
+            new ClassValue<ConcurrentHashMap<String, PropertyAccessor>>() {
+                @Override
+                protected ConcurrentHashMap<String, PropertyAccessor> computeValue(final Class<?> type) {
+                    return new ConcurrentHashMap<String, PropertyAccessor>();
+                }
+            };
+
+        static PropertyAccessor of(final Class<?> type, final String property) {
+            final ConcurrentHashMap<String, PropertyAccessor> byName = ACCESSORS.get(type);
+            PropertyAccessor a = byName.get(property);
+            if (a == null) {
+                a = compile(type, property);
+                final PropertyAccessor prev = byName.putIfAbsent(property, a);
+                if (prev != null) {
+                    a = prev;
+                }
+            }
+            return a;
+        }
+
+        /**
+         * a.b.c ̂悤ȃvpeB̃Qb^[B
+         * Y (a[0])AMap (a(key))AMap  DynaBean ̃vpeBAř^ɂȂvpeB UNSUPPORTED
+         */
+        private static PropertyAccessor compile(final Class<?> type, final String property) {
+            if (property.indexOf('[') >= 0 || property.indexOf('(') >= 0) {
+                return UNSUPPORTED;
+            }
+            final String[] names = property.split("\\.", -1);
+            final MethodHandle[] getters = new MethodHandle[names.length];
+            Class<?> t = type;
+            try {
+                for (int i = 0; i < names.length; i++) {
+                    if (t.isPrimitive() || Map.class.isAssignableFrom(t)) {
+                        return UNSUPPORTED;
+                    }
+                    final Method m = publicMethod(readMethod(t, names[i]));
+                    if (m == null) {
+                        return UNSUPPORTED;
+                    }
+                    getters[i] = MethodHandles.publicLookup().unreflect(m)
+                        .asType(MethodType.methodType(Object.class, Object.class));
+                    t = m.getReturnType();
+                }
+            } catch (IntrospectionException e) {
+                return UNSUPPORTED;
+            } catch (IllegalAccessException e) {
+                return UNSUPPORTED;
+            }
+            return new PropertyAccessor(getters);
+        }
+
+        private static Method readMethod(final Class<?> type, final String name) throws IntrospectionException {
+            for (PropertyDescriptor pd : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                if (pd.getName().equals(name)) {
+                    return pd.getReadMethod();
+                }
+            }
+            return null;
+        }
+
+        /**
+         * public łȂNXŐ錾ꂽ\bh́AVOl` public ȃNXC^[tF[X̃\bhɂ
+         */
+        private static Method publicMethod(final Method m) {
+            if (m == null || !Modifier.isPublic(m.getModifiers())) {
+                return null;
+            }
+            if (Modifier.isPublic(m.getDeclaringClass().getModifiers())) {
+                return m;
+            }
+            for (Class<?> c = m.getDeclaringClass(); c != null; c = c.getSuperclass()) {
+                for (Class<?> i : c.getInterfaces()) {
+                    final Method pm = publicMethodIn(i, m);
+                    if (pm != null) {
+                        return pm;
+                    }
+                }
+                final Class<?> sup = c.getSuperclass();
+                if (sup != null) {
+                    final Method pm = publicMethodIn(sup, m);
+                    if (pm != null) {
+                        return pm;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private static Method publicMethodIn(final Class<?> c, final Method m) {
+            try {
+                return publicMethod(c.getMethod(m.getName(), m.getParameterTypes()));
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+        /**
+         * @return vpeB̒l r̒lnull̏ꍇUNSUPPORTED̏ꍇMISSING
+         */
+        Object get(final Object bean) {
+            if (this.getters == null) {
+                return MISSING;
+            }
+            Object v = bean;
+            for (MethodHandle g : this.getters) {
+                if (v == null) {
+                    return MISSING;
+                }
+                try {
+                    v = (Object) g.invokeExact(v);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            return v;
+        }
+
+        static final Object MISSING = new Object();
+    }
+
+    /**
+     * BeanComparatorGenericsΉAstatic\bhpӁAnullvpeB (ftHgłnullnon-null傫)<br>
+     * vpeB̃Qb^[BeañNXƂ1x MethodHandle ŌĂԁB
+     * YMap̃vpeBABeanr̒lnull̏ꍇȂǂ BeanComparator ŔrB
      * @author wy8h-hsmt
      *
      * @param <T> Beaň^
      */
     public static class BeanComparatorWrapper<T> implements Comparator<T>, Serializable {
 
+        // property, valueComparator O̊l Â񉻌`ǂ߂悤ɌŒ肷
+        private static final long serialVersionUID = 5926010944125791208L;
+
         private BeanComparator beanComparator;
+        private String property;
+        private Comparator<Object> valueComparator;
+
+        /**
+         * ŌɔrBeañNXƂ̃ANZT 񉻂Ȃ
+         */
+        private static final class Cache {
+            final Class<?> type;
+            final PropertyAccessor accessor;
+
+            Cache(final Class<?> type, final PropertyAccessor accessor) {
+                this.type = type;
+                this.accessor = accessor;
+            }
+        }
+
+        private transient volatile Cache cache;
         
         public static <T> BeanComparatorWrapper<T> beanComparatorW(final String property) {
             return new BeanComparatorWrapper<T>(property);
@@ -76,32 +290,82 @@ public final class ComparatorUtil {
         }
         
         public BeanComparatorWrapper(final String property) {
-            this.beanComparator = new BeanComparator(property, new NullComparator());
+            init(property, new NullComparator());
         }
         
         public BeanComparatorWrapper(final String property, final Comparator<?> comparator) {
-            this.beanComparator = new BeanComparator(property, new NullComparator(comparator));
+            init(property, new NullComparator(comparator));
         }
 
         public BeanComparatorWrapper(final String property, final boolean nullsAreHigh) {
-            this.beanComparator = new BeanComparator(property, new NullComparator(nullsAreHigh));
+            init(property, new NullComparator(nullsAreHigh));
         }
         
         public BeanComparatorWrapper(final String property, final Comparator<?> comparator, final boolean nullsAreHigh) {
-            this.beanComparator = new BeanComparator(property, new NullComparator(comparator, nullsAreHigh));
+            init(property, new NullComparator(comparator, nullsAreHigh));
+        }
+
+        @SuppressWarnings("unchecked")
+        private void init(final String property, final NullComparator nullComparator) {
+            this.beanComparator = new BeanComparator(property, nullComparator);
+            this.property = property;
+            this.valueComparator = nullComparator;
         }
         
+        /**
+         * Â`ł property, valueComparator Ȃ̂ beanComparator ߂
+         */
+        @SuppressWarnings("unchecked")
+        private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            if (this.beanComparator != null && (this.property == null || this.valueComparator == null)) {
+                this.property = this.beanComparator.getProperty();
+                this.valueComparator = this.beanComparator.getComparator();
+            }
+        }
+
         @Override
         public int compare(final T o1, final T o2) {
-            return this.beanComparator.compare(o1, o2);
+            if (this.property == null || this.valueComparator == null || o1 == null || o2 == null) {
+                return this.beanComparator.compare(o1, o2);
+            }
+            final Object v1 = accessor(o1).get(o1);
+            final Object v2 = accessor(o2).get(o2);
+            if (v1 == PropertyAccessor.MISSING || v2 == PropertyAccessor.MISSING) {
+                return this.beanComparator.compare(o1, o2);
+            }
+            return this.valueComparator.compare(v1, v2);
+        }
+
+        /**
+         * @return beañvpeB̒l MethodHandle œǂ߂ȂꍇPropertyAccessor.MISSING
+         */
+        private Object keyOf(final Object bean) {
+            if (this.property == null || this.valueComparator == null || bean == null) {
+                return PropertyAccessor.MISSING;
+            }
+            return accessor(bean).get(bean);
+        }
+
+        private PropertyAccessor accessor(final Object bean) {
+            final Class<?> type = bean.getClass();
+            final Cache c = this.cache;
+            if (c != null && c.type == type) {
+                return c.accessor;
+            }
+            final PropertyAccessor a = PropertyAccessor.of(type, this.property);
+            this.cache = new Cache(type, a);
+            return a;
         }
 
         public String getProperty() {
-            return this.beanComparator.getProperty();
+            return this.property;
         }
 
         public void setProperty(final String property) {
             this.beanComparator.setProperty(property);
+            this.property = property;
+            this.cache = null;
         }
         
     }
@@ -159,6 +423,9 @@ public final class ComparatorUtil {
      * @param <T>
      */
     public static class ComparatorChainWrapper<T> implements Comparator<T>, Serializable  {
+
+        // comparators, reverses O̊l Â񉻌`ǂ߂悤ɌŒ肷
+        private static final long serialVersionUID = -8696120643977005362L;
         
         public ComparatorChainWrapper() {
             this.comparatorChain = new ComparatorChain();
@@ -179,13 +446,28 @@ public final class ComparatorUtil {
         }
         
         private ComparatorChain comparatorChain;
+        // comparatorChain ƓŁAsort ŕɂ邽߂ɊoĂ Â`ǂ񂾏ꍇnull
+        private final ArrayList<Comparator<? super T>> comparators = new ArrayList<Comparator<? super T>>();
+        private final ArrayList<Boolean> reverses = new ArrayList<Boolean>();
 
         private void addComparator(final Comparator<? super T> comparator, final boolean reverse) {
             this.comparatorChain.addComparator(comparator, reverse);
+            if (this.comparators != null && this.reverses != null) {
+                this.comparators.add(comparator);
+                this.reverses.add(reverse);
+            }
+        }
+
+        /**
+         * @return comparators, reverses  comparatorChain ƑĂāAiɕɂłꍇtrue
+         */
+        private boolean flattenable() {
+            return this.comparators != null && this.reverses != null
+                && this.comparators.size() == size() && this.reverses.size() == size();
         }
 
         private void addComparator(final Comparator<? super T> comparator) {
-            this.comparatorChain.addComparator(comparator);
+            addComparator(comparator, false);
         }
 
         @Override
@@ -199,4 +481,143 @@ public final class ComparatorUtil {
         }
 
     }
+
+    /**
+     * ɂr1i L[͗vfƂ1x
+     */
+    private static abstract class SortKey {
+        final boolean reverse;
+
+        SortKey(final boolean reverse) {
+            this.reverse = reverse;
+        }
+
+        /**
+         * @return ̒iŔׂL[ vf̂܂ܔׂiłnull
+         */
+        abstract Object key(Object elem);
+
+        abstract int compare(Object k1, Object e1, Object k2, Object e2);
+    }
+
+    /**
+     * comp i̕тɂBComparatorChainWrapper ̓qɂB
+     * Â񉻌`ǂ ComparatorChainWrapper ͕ɂ1̒iɂ
+     */
+    @SuppressWarnings("unchecked")
+    private static void flatten(final Comparator<?> comp, final boolean reverse, final List<SortKey> out) {
+        if (comp instanceof ComparatorChainWrapper && ((ComparatorChainWrapper<?>) comp).flattenable()) {
+            final ComparatorChainWrapper<?> chain = (ComparatorChainWrapper<?>) comp;
+            for (int i = 0; i < chain.comparators.size(); i++) {
+                flatten(chain.comparators.get(i), reverse != chain.reverses.get(i), out);
+            }
+        } else if (comp instanceof KeyComparator) {
+            final KeyComparator<Object, Object> kc = (KeyComparator<Object, Object>) comp;
+            out.add(new SortKey(reverse) {
+                @Override
+                Object key(final Object elem) {
+                    return kc.fun.app(elem);
+                }
+
+                @Override
+                int compare(final Object k1, final Object e1, final Object k2, final Object e2) {
+                    return kc.comp.compare(k1, k2);
+                }
+            });
+        } else if (comp instanceof BeanComparatorWrapper) {
+            final BeanComparatorWrapper<Object> bc = (BeanComparatorWrapper<Object>) comp;
+            out.add(new SortKey(reverse) {
+                @Override
+                Object key(final Object elem) {
+                    return bc.keyOf(elem);
+                }
+
+                @Override
+                int compare(final Object k1, final Object e1, final Object k2, final Object e2) {
+                    if (k1 == PropertyAccessor.MISSING || k2 == PropertyAccessor.MISSING) {
+                        return bc.compare(e1, e2);
+                    }
+                    return bc.valueComparator.compare(k1, k2);
+                }
+            });
+        } else {
+            final Comparator<Object> c = (Comparator<Object>) comp;
+            out.add(new SortKey(reverse) {
+                @Override
+                Object key(final Object elem) {
+                    return null;
+                }
+
+                @Override
+                int compare(final Object k1, final Object e1, final Object k2, final Object e2) {
+                    return c.compare(e1, e2);
+                }
+            });
+        }
+    }
+
+    /**
+     * L[tvf
+     */
+    private static final class Decorated {
+        final Object elem;
+        final Object[] keys;
+
+        Decorated(final Object elem, final Object[] keys) {
+            this.elem = elem;
+            this.keys = keys;
+        }
+    }
+
+    /**
+     * list  comp ̏ɕבւB{@link Collections#sort(List, Comparator)} ƓŁAʂB<br>
+     *
+     * <p>
+     * comp  {@link ComparatorChainWrapper} Ȃq܂߂Ēi̕тɕɂB
+     * {@link #cons(Comparator, Fun)} ̒i̓L[A{@link BeanComparatorWrapper} ̒i̓vpeB̒l
+     * vfƂ1xoĂׂB
+     * L[tz {@link Arrays#parallelSort(Object[], Comparator)} ŕבւ̂ŁA
+     * rɎg֐̓XbhZ[tłȂ΂ȂȂB
+     * </p>
+     * comp ȊO Comparator Ȃ Collections.sort ƓB
+     */
+    public static <T> void sort(final List<T> list, final Comparator<? super T> comp) {
+        final ArrayList<SortKey> parts = new ArrayList<SortKey>();
+        flatten(comp, false, parts);
+        if (parts.isEmpty()
+            || parts.size() == 1 && !(comp instanceof KeyComparator) && !(comp instanceof BeanComparatorWrapper)
+            || list.size() < 2) {
+            Collections.sort(list, comp);
+            return;
+        }
+        final SortKey[] ks = parts.toArray(new SortKey[parts.size()]);
+        final Decorated[] ds = new Decorated[list.size()];
+        int n = 0;
+        for (T elem : list) {
+            final Object[] keys = new Object[ks.length];
+            for (int i = 0; i < ks.length; i++) {
+                keys[i] = ks[i].key(elem);
+            }
+            ds[n++] = new Decorated(elem, keys);
+        }
+        Arrays.parallelSort(ds, new Comparator<Decorated>() {
+            @Override
+            public int compare(final Decorated d1, final Decorated d2) {
+                for (int i = 0; i < ks.length; i++) {
+                    final int c = ks[i].compare(d1.keys[i], d1.elem, d2.keys[i], d2.elem);
+                    if (c != 0) {
+                        return ks[i].reverse ? (c > 0 ? -1 : 1) : c;
+                    }
+                }
+                return 0;
+            }
+        });
+        final ListIterator<T> it = list.listIterator();
+        for (Decorated d : ds) {
+            it.next();
+            @SuppressWarnings("unchecked")
+            final T elem = (T) d.elem;
+            it.set(elem);
+        }
+    }
 }
@@ -12,11 +12,17 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.TreeSet;
 
 import org.apache.commons.lang3.StringUtils;
 
 import com.atson.commons.annotations.NonNull;
+import com.atson.commons.collection.ChunkList;
+import com.atson.commons.collection.DoubleList;
+import com.atson.commons.collection.IntList;
+import com.atson.commons.collection.LongList;
+import com.atson.commons.collection.TopKHeap;
 
 
 /**
@@ -297,6 +303,32 @@ public final class FP {
     public interface Fun<A,B> extends EFun<A, B, RuntimeException> {
         @Override B app(A a);
     }
+
+    /**
+     * 2̊֐C^[tF[XB
+     * {@code Fun<A, Fun<B, C>>} ƈႢAKp̊֐炸ɌĂׂB
+     * J[`Ƃ̕ϊ {@link FP#fun2(Fun)}, {@link FP#curry(Fun2)}
+     *
+     * @param <A> 1Ԗڂ̈̌^
+     * @param <B> 2Ԗڂ̈̌^
+     * @param <C> ʂ̌^
+     */
+    public interface Fun2<A,B,C> {
+        C app(A a, B b);
+    }
+
+    /**
+     * 3̊֐C^[tF[XB
+     * J[`Ƃ̕ϊ {@link FP#fun3(Fun)}, {@link FP#curry(Fun3)}
+     *
+     * @param <A> 1Ԗڂ̈̌^
+     * @param <B> 2Ԗڂ̈̌^
+     * @param <C> 3Ԗڂ̈̌^
+     * @param <D> ʂ̌^
+     */
+    public interface Fun3<A,B,C,D> {
+        D app(A a, B b, C c);
+    }
     
     /**
      * ֐C^[tF[XBSJava8ɂȂ@FunctionalInterface ɂB
@@ -322,6 +354,108 @@ public final class FP {
         A get();
     }
 
+    /**
+     * int ɂƂ֐ boxing ȂBq IntFun{@code <Boolean>} ŕ\
+     *  java.util.function.IntFunction 
+     *
+     * @param <B> ʂ̌^
+     */
+    public interface IntFun<B> {
+        B app(int a);
+    }
+
+    /**
+     * int Ԃ֐ boxing Ȃ
+     *  java.util.function.ToIntFunction 
+     *
+     * @param <A> ̌^
+     */
+    public interface ToIntFun<A> {
+        int app(A a);
+    }
+
+    /**
+     * int -> int
+     */
+    public interface IntOp {
+        int app(int a);
+    }
+
+    /**
+     * int -> int -> int
+     */
+    public interface IntOp2 {
+        int app(int a, int b);
+    }
+
+    /**
+     * long ɂƂ֐ boxing ȂBq LongFun{@code <Boolean>} ŕ\
+     *  java.util.function.LongFunction 
+     *
+     * @param <B> ʂ̌^
+     */
+    public interface LongFun<B> {
+        B app(long a);
+    }
+
+    /**
+     * long Ԃ֐ boxing Ȃ
+     *  java.util.function.ToLongFunction 
+     *
+     * @param <A> ̌^
+     */
+    public interface ToLongFun<A> {
+        long app(A a);
+    }
+
+    /**
+     * long -> long
+     */
+    public interface LongOp {
+        long app(long a);
+    }
+
+    /**
+     * long -> long -> long
+     */
+    public interface LongOp2 {
+        long app(long a, long b);
+    }
+
+    /**
+     * double ɂƂ֐ boxing ȂBq DoubleFun{@code <Boolean>} ŕ\
+     *  java.util.function.DoubleFunction 
+     *
+     * @param <B> ʂ̌^
+     */
+    public interface DoubleFun<B> {
+        B app(double a);
+    }
+
+    /**
+     * double Ԃ֐ boxing Ȃ
+     *  java.util.function.ToDoubleFunction 
+     *
+     * @param <A> ̌^
+     */
+    public interface ToDoubleFun<A> {
+        double app(A a);
+    }
+
+    /**
+     * double -> double
+     */
+    public interface DoubleOp {
+        double app(double a);
+    }
+
+    /**
+     * double -> double -> double
+     */
+    public interface DoubleOp2 {
+        double app(double a, double b);
+    }
+
     /**
      * Fun<A, Unit> ̊ȈՎ
      * 
@@ -491,6 +625,36 @@ public final class FP {
         };
     }
 
+    /**
+     * {@link #readInteger()} Ȃǂ boxing Ȃ
+     */
+    public static ToIntFun<String> readIntValue() {
+        return new ToIntFun<String>() {
+            @Override
+            public int app(final String str) { return Integer.parseInt(str); }
+        };
+    }
+
+    /**
+     * {@link #readInteger()} Ȃǂ boxing Ȃ
+     */
+    public static ToLongFun<String> readLongValue() {
+        return new ToLongFun<String>() {
+            @Override
+            public long app(final String str) { return Long.parseLong(str); }
+        };
+    }
+
+    /**
+     * {@link #readInteger()} Ȃǂ boxing Ȃ
+     */
+    public static ToDoubleFun<String> readDoubleValue() {
+        return new ToDoubleFun<String>() {
+            @Override
+            public double app(final String str) { return Double.parseDouble(str); }
+        };
+    }
+
     public static Fun<String,Boolean> readBoolean() {
         return new Fun<String,Boolean>() {
             @Override
@@ -695,6 +859,71 @@ public final class FP {
         return FP.<A,B,C>flip().app(f);
     }
 
+    /**
+     * f ̌ʂoĂ֐ ȂBXbhZ[t
+     * @see Memo
+     */
+    public static <A,B> Memo.MemoFun<A,B> memo(final Fun<? super A, ? extends B> f) {
+        return new Memo.MemoFun<A,B>(f, Memo.concurrentTable());
+    }
+
+    /**
+     * f ̌ʂ悻 maxSize ܂ŊoĂ֐ ŋߎgĂȂ̂̂ĂB
+     * \̓nbVlŕĕʁXɃbN̂ŁAɌĂłɂB
+     * @see Memo
+     */
+    public static <A,B> Memo.MemoFun<A,B> memoLru(final Fun<? super A, ? extends B> f, final int maxSize) {
+        return new Memo.MemoFun<A,B>(f, Memo.lruTable(maxSize));
+    }
+
+    /**
+     * f ̌ʂ GC ܂ŊoĂ֐B
+     * ʂQƂĂƎ̂ĂȂ̂Œ
+     * @see Memo
+     */
+    public static <A,B> Memo.MemoFun<A,B> memoWeak(final Fun<? super A, ? extends B> f) {
+        return new Memo.MemoFun<A,B>(f, Memo.weakTable());
+    }
+
+    /**
+     * ċAIȒ`oĂ֐Bopen ͎g󂯎Ė{̂ԂB
+     * {̂̒̍ċAĂяooʂgB
+     * <pre>
+     * Fun&lt;Integer, Long&gt; fib = FP.memoFix(new Fun&lt;Fun&lt;Integer, Long&gt;, Fun&lt;Integer, Long&gt;&gt;() {
+     *     public Fun&lt;Integer, Long&gt; app(final Fun&lt;Integer, Long&gt; self) {
+     *         return new Fun&lt;Integer, Long&gt;() {
+     *             public Long app(final Integer n) {
+     *                 return n &lt; 2 ? n : self.app(n - 1) + self.app(n - 2);
+     *             }
+     *         };
+     *     }
+     * });
+     * </pre>
+     * @see Memo
+     */
+    public static <A,B> Memo.MemoFun<A,B>
+        memoFix(final Fun<? super Fun<A,B>, ? extends Fun<? super A, ? extends B>> open) {
+        final Memo.Knot<A,B> knot = new Memo.Knot<A,B>();
+        final Memo.MemoFun<A,B> m = new Memo.MemoFun<A,B>(knot, Memo.concurrentTable());
+        knot.body = open.app(m);
+        return m;
+    }
+
+    /**
+     * O𓊂֐ {@link #memo(Fun)} O𓊂ꍇ͊oȂ
+     */
+    public static <A,B,X extends Exception> Memo<A,B,X> ememo(final EFun<? super A, ? extends B, ? extends X> f) {
+        return new Memo<A,B,X>(f, Memo.concurrentTable());
+    }
+
+    /**
+     * O𓊂֐ {@link #memoLru(Fun, int)}
+     */
+    public static <A,B,X extends Exception> Memo<A,B,X>
+        ememoLru(final EFun<? super A, ? extends B, ? extends X> f, final int maxSize) {
+        return new Memo<A,B,X>(f, Memo.lruTable(maxSize));
+    }
+
     /**
      * ֐Kp -- ($) :: (a -> b) -> a -> b
      */
@@ -994,6 +1223,106 @@ public final class FP {
         return FP.<A,B,C>uncurry__().app(f);
     }
 
+    /**
+     * J[֐2̊֐ɂBĂԂт̊蓖Ă f ̕Kp̕
+     */
+    public static <A,B,C> Fun2<A,B,C> fun2(final Fun<? super A, ? extends Fun<? super B, ? extends C>> f) {
+        return new Fun2<A,B,C>() {
+            @Override
+            public C app(final A a, final B b) {
+                return f.app(a).app(b);
+            }
+        };
+    }
+
+    /**
+     * J[֐3̊֐ɂ
+     */
+    public static <A,B,C,D> Fun3<A,B,C,D>
+        fun3(final Fun<? super A, ? extends Fun<? super B, ? extends Fun<? super C, ? extends D>>> f) {
+        return new Fun3<A,B,C,D>() {
+            @Override
+            public D app(final A a, final B b, final C c) {
+                return f.app(a).app(b).app(c);
+            }
+        };
+    }
+
+    /**
+     * 2̊֐J[BKp̂тɊ֐1
+     */
+    public static <A,B,C> Fun<A, Fun<B, C>> curry(final Fun2<? super A, ? super B, ? extends C> f) {
+        return new Fun<A, Fun<B, C>>() {
+            @Override
+            public Fun<B, C> app(final A a) {
+                return new Fun<B, C>() {
+                    @Override
+                    public C app(final B b) {
+                        return f.app(a, b);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * 3̊֐J[
+     */
+    public static <A,B,C,D> Fun<A, Fun<B, Fun<C, D>>> curry(final Fun3<? super A, ? super B, ? super C, ? extends D> f) {
+        return new Fun<A, Fun<B, Fun<C, D>>>() {
+            @Override
+            public Fun<B, Fun<C, D>> app(final A a) {
+                return new Fun<B, Fun<C, D>>() {
+                    @Override
+                    public Fun<C, D> app(final B b) {
+                        return new Fun<C, D>() {
+                            @Override
+                            public D app(final C c) {
+                                return f.app(a, b, c);
+                            }
+                        };
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * 2̊֐g󂯎֐ɂ
+     */
+    public static <A,B,C> Fun<T2<? extends A, ? extends B>, C> uncurry(final Fun2<? super A, ? super B, ? extends C> f) {
+        return new Fun<T2<? extends A, ? extends B>, C>() {
+            @Override
+            public C app(final T2<? extends A, ? extends B> p) {
+                return f.app(p.fst(), p.snd());
+            }
+        };
+    }
+
+    /**
+     * g󂯎֐2̊֐ɂ
+     */
+    public static <A,B,C> Fun2<A,B,C> fun2Tupled(final Fun<? super T2<A,B>, ? extends C> f) {
+        return new Fun2<A,B,C>() {
+            @Override
+            public C app(final A a, final B b) {
+                return f.app(FP.<A,B>t2(a, b));
+            }
+        };
+    }
+
+    /**
+     * ւ
+     */
+    public static <A,B,C> Fun2<B,A,C> flip(final Fun2<? super A, ? super B, ? extends C> f) {
+        return new Fun2<B,A,C>() {
+            @Override
+            public C app(final B b, final A a) {
+                return f.app(a, b);
+            }
+        };
+    }
+
     /**
      * -- swap :: (a, b) -> (b, a)
      */
@@ -1187,11 +1516,7 @@ public final class FP {
                         return new Fun<Iterable<B>, A>() {
                             @Override
                             public A app(final Iterable<B> list) {
-                                A res = init;
-                                for (B b : list) {
-                                    res = op.app(res).app(b);
-                                }
-                                return res;
+                                return foldl(op, init, list);
                             }
                         };
                     }
@@ -1206,7 +1531,24 @@ public final class FP {
     public static <A, B> A foldl(final Fun<A, Fun<B, A>> op,
                                  final A init,
                                  final Iterable<B> list) {
-        return FP.<A,B>foldl().app(op).app(init).app(list);
+        A res = init;
+        for (B b : list) {
+            res = op.app(res).app(b);
+        }
+        return res;
+    }
+
+    /**
+     * 2̊֐ɂ鍶ݍ vfƂɊ֐Ȃ
+     */
+    public static <A, B> A foldl(final Fun2<? super A, ? super B, ? extends A> op,
+                                 final A init,
+                                 final Iterable<? extends B> list) {
+        A res = init;
+        for (B b : list) {
+            res = op.app(res, b);
+        }
+        return res;
     }
 
     /**
@@ -1272,73 +1614,276 @@ public final class FP {
         return min;
     }
 
-    // End -- Functions like Data.List of Haskell
+    /**
+     *  c ő傫 k 傫ɕԂBvf͐Ɍꂽ<br>
+     *  Ŝבւ k ̃q[vőIԂ̂ O(n log k) ԁAO(k) 
+     *  @see TopKHeap
+     */
+    public static <A> ArrayList<A>
+        topK(final int k, final Comparator<? super A> c, final Iterable<? extends A> ite) {
+        return collectK(TopKHeap.<A>top(k, c), ite).toList();
+    }
 
-    public static <E> E[] array(final E... e) {
-        return e;
+    /**
+     *  c ŏ k ɕԂBvf͐Ɍꂽ
+     */
+    public static <A> ArrayList<A>
+        bottomK(final int k, final Comparator<? super A> c, final Iterable<? extends A> ite) {
+        return collectK(TopKHeap.<A>bottom(k, c), ite).toList();
     }
 
-    /*
-    public static <E,X> Fun<X,E[]> consArray() {
-        return new Fun<X,E[]>() {
-            public E[] app(X __) {
-                return FP.<E>array();
-            }
-        };
+    /**
+     *  {@link #topK(int, Comparator, Iterable)} ̗vf̑ ite ł̓YԂ
+     *  @throws ArithmeticException I񂾗vf̓Y int Ɏ܂Ȃꍇ
+     */
+    public static <A> IntList
+        topKIndices(final int k, final Comparator<? super A> c, final Iterable<? extends A> ite) {
+        return collectK(TopKHeap.<A>top(k, c), ite).toIndices();
     }
-    */
 
-    public static <E> LinkedList<E> linkedList() {
-        return new LinkedList<E>();
+    /**
+     *  {@link #bottomK(int, Comparator, Iterable)} ̗vf̑ ite ł̓YԂ
+     *  @throws ArithmeticException I񂾗vf̓Y int Ɏ܂Ȃꍇ
+     */
+    public static <A> IntList
+        bottomKIndices(final int k, final Comparator<? super A> c, final Iterable<? extends A> ite) {
+        return collectK(TopKHeap.<A>bottom(k, c), ite).toIndices();
     }
 
-    public static <E> LinkedList<E> linkedList(final E... e) {
-        return new LinkedList<E>(Arrays.asList(e));
+    private static <A> TopKHeap<A> collectK(final TopKHeap<A> heap, final Iterable<? extends A> ite) {
+        long i = 0;
+        for (A a : ite) {
+            heap.offer(a, i++);
+        }
+        return heap;
     }
 
     /**
-     * {@link LinkedList#LinkedList(Collection)} static\bh<br>
-     * ۑ̂ŁA{@code List<SubE>} {@code List<E>} ̕ϊɎg
-     *
-     * @param collection
-     * @return collectioñCe[^̏ŗvfRs[ꂽArrayList
+     *  maximumBy  key  int ̔ key ̒l boxing ɔׂ<br>
+     *  傫̏ꍇ̗͐vfԂB̏ꍇnull
      */
-    public static <E> LinkedList<E> linkedList(final Collection<? extends E> collection) {
-        return new LinkedList<E>(collection);
-    }
-
-    public static <E,X> Fun<X,LinkedList<E>> consLinkedList() {
-        return new Fun<X,LinkedList<E>>() {
-            @Override
-            public LinkedList<E> app(final X __) {
-                return FP.<E>linkedList();
+    public static <A> A
+        maximumByInt(final ToIntFun<? super A> key, final Iterable<? extends A> ite) {
+        boolean first = true;
+        A max = null;
+        int maxKey = 0;
+        for (A a : ite) {
+            final int k = key.app(a);
+            if (first || maxKey < k) {
+                first = false;
+                max = a;
+                maxKey = k;
             }
-        };
+        }
+        return max;
     }
 
     /**
-     * {@link #consLinkedList()}̌^p[^Object
+     *  minimumBy  key  int ̔ key ̒l boxing ɔׂ<br>
+     *  傫̏ꍇ̗͐vfԂB̏ꍇnull
      */
-    public static <E> Fun<Object,LinkedList<E>> consLinkedList1() {
-        return new Fun<Object,LinkedList<E>>() {
-            @Override
-            public LinkedList<E> app(final Object __) {
-                return FP.<E>linkedList();
+    public static <A> A
+        minimumByInt(final ToIntFun<? super A> key, final Iterable<? extends A> ite) {
+        boolean first = true;
+        A min = null;
+        int minKey = 0;
+        for (A a : ite) {
+            final int k = key.app(a);
+            if (first || minKey > k) {
+                first = false;
+                min = a;
+                minKey = k;
             }
-        };
+        }
+        return min;
     }
 
-    public static <E> LinkedList<E> linkedListJ(final E e, final int n) {
-        LinkedList<E> el = new LinkedList<E>();
-        for (int i = 0; i < n; i++) {
-            el.add(e);
+    /**
+     *  map ̌ʂ int ̔
+     */
+    public static <A> IntList
+        mapToInt(final ToIntFun<? super A> fun, final Iterable<? extends A> ite) {
+        final IntList rv = ite instanceof Collection
+            ? new IntList(((Collection<?>) ite).size()) : new IntList();
+        for (A a : ite) {
+            rv.add(fun.app(a));
         }
-        return el;
+        return rv;
     }
 
-    @Deprecated
-    public static <E> LinkedList<E> linkedEmpty() {
-        return linkedList();
+    /**
+     *  maximumBy  key  long ̔ key ̒l boxing ɔׂ<br>
+     *  傫̏ꍇ̗͐vfԂB̏ꍇnull
+     */
+    public static <A> A
+        maximumByLong(final ToLongFun<? super A> key, final Iterable<? extends A> ite) {
+        boolean first = true;
+        A max = null;
+        long maxKey = 0;
+        for (A a : ite) {
+            final long k = key.app(a);
+            if (first || maxKey < k) {
+                first = false;
+                max = a;
+                maxKey = k;
+            }
+        }
+        return max;
+    }
+
+    /**
+     *  minimumBy  key  long ̔ key ̒l boxing ɔׂ<br>
+     *  傫̏ꍇ̗͐vfԂB̏ꍇnull
+     */
+    public static <A> A
+        minimumByLong(final ToLongFun<? super A> key, final Iterable<? extends A> ite) {
+        boolean first = true;
+        A min = null;
+        long minKey = 0;
+        for (A a : ite) {
+            final long k = key.app(a);
+            if (first || minKey > k) {
+                first = false;
+                min = a;
+                minKey = k;
+            }
+        }
+        return min;
+    }
+
+    /**
+     *  map ̌ʂ long ̔
+     */
+    public static <A> LongList
+        mapToLong(final ToLongFun<? super A> fun, final Iterable<? extends A> ite) {
+        final LongList rv = ite instanceof Collection
+            ? new LongList(((Collection<?>) ite).size()) : new LongList();
+        for (A a : ite) {
+            rv.add(fun.app(a));
+        }
+        return rv;
+    }
+
+    /**
+     *  maximumBy  key  double ̔ key ̒l boxing ɔׂ<br>
+     *  傫̏ꍇ̗͐vfԂB̏ꍇnull
+     */
+    public static <A> A
+        maximumByDouble(final ToDoubleFun<? super A> key, final Iterable<? extends A> ite) {
+        boolean first = true;
+        A max = null;
+        double maxKey = 0;
+        for (A a : ite) {
+            final double k = key.app(a);
+            if (first || maxKey < k) {
+                first = false;
+                max = a;
+                maxKey = k;
+            }
+        }
+        return max;
+    }
+
+    /**
+     *  minimumBy  key  double ̔ key ̒l boxing ɔׂ<br>
+     *  傫̏ꍇ̗͐vfԂB̏ꍇnull
+     */
+    public static <A> A
+        minimumByDouble(final ToDoubleFun<? super A> key, final Iterable<? extends A> ite) {
+        boolean first = true;
+        A min = null;
+        double minKey = 0;
+        for (A a : ite) {
+            final double k = key.app(a);
+            if (first || minKey > k) {
+                first = false;
+                min = a;
+                minKey = k;
+            }
+        }
+        return min;
+    }
+
+    /**
+     *  map ̌ʂ double ̔
+     */
+    public static <A> DoubleList
+        mapToDouble(final ToDoubleFun<? super A> fun, final Iterable<? extends A> ite) {
+        final DoubleList rv = ite instanceof Collection
+            ? new DoubleList(((Collection<?>) ite).size()) : new DoubleList();
+        for (A a : ite) {
+            rv.add(fun.app(a));
+        }
+        return rv;
+    }
+
+    // End -- Functions like Data.List of Haskell
+
+    public static <E> E[] array(final E... e) {
+        return e;
+    }
+
+    /*
+    public static <E,X> Fun<X,E[]> consArray() {
+        return new Fun<X,E[]>() {
+            public E[] app(X __) {
+                return FP.<E>array();
+            }
+        };
+    }
+    */
+
+    public static <E> LinkedList<E> linkedList() {
+        return new LinkedList<E>();
+    }
+
+    public static <E> LinkedList<E> linkedList(final E... e) {
+        return new LinkedList<E>(Arrays.asList(e));
+    }
+
+    /**
+     * {@link LinkedList#LinkedList(Collection)} static\bh<br>
+     * ۑ̂ŁA{@code List<SubE>} {@code List<E>} ̕ϊɎg
+     *
+     * @param collection
+     * @return collectioñCe[^̏ŗvfRs[ꂽArrayList
+     */
+    public static <E> LinkedList<E> linkedList(final Collection<? extends E> collection) {
+        return new LinkedList<E>(collection);
+    }
+
+    public static <E,X> Fun<X,LinkedList<E>> consLinkedList() {
+        return new Fun<X,LinkedList<E>>() {
+            @Override
+            public LinkedList<E> app(final X __) {
+                return FP.<E>linkedList();
+            }
+        };
+    }
+
+    /**
+     * {@link #consLinkedList()}̌^p[^Object
+     */
+    public static <E> Fun<Object,LinkedList<E>> consLinkedList1() {
+        return new Fun<Object,LinkedList<E>>() {
+            @Override
+            public LinkedList<E> app(final Object __) {
+                return FP.<E>linkedList();
+            }
+        };
+    }
+
+    public static <E> LinkedList<E> linkedListJ(final E e, final int n) {
+        LinkedList<E> el = new LinkedList<E>();
+        for (int i = 0; i < n; i++) {
+            el.add(e);
+        }
+        return el;
+    }
+
+    @Deprecated
+    public static <E> LinkedList<E> linkedEmpty() {
+        return linkedList();
     }
 
     public static <E> ArrayList<E> arrayList() {
@@ -1772,14 +2317,7 @@ public final class FP {
                     return new Fun<Iterable<A>, LinkedList<A>>() {
                         @Override
                         public LinkedList<A> app(final Iterable<A> ys) {
-                            LinkedList<A> zs = new LinkedList<A>();
-                            for (A x : xs) {
-                                zs.add(x);
-                            }
-                            for (A y : ys) {
-                                zs.add(y);
-                            }
-                            return zs;
+                            return append(xs, ys);
                         }
                     };
                 }
@@ -1790,7 +2328,14 @@ public final class FP {
          * Java\bh A
          */
         public static <A> LinkedList<A> append(final Iterable<A> xs, final Iterable<A> ys) {
-            return LinkedListJ.<A>append().app(xs).app(ys);
+            LinkedList<A> zs = new LinkedList<A>();
+            for (A x : xs) {
+                zs.add(x);
+            }
+            for (A y : ys) {
+                zs.add(y);
+            }
+            return zs;
         }
 
         /**
@@ -1823,15 +2368,7 @@ public final class FP {
                     return new Fun<Iterable<B>, LinkedList<T2<A,B>>>() {
                         @Override
                         public LinkedList<T2<A,B>> app(final Iterable<B> ys) {
-                            final Iterator<A> xit = xs.iterator();
-                            final Iterator<B> yit = ys.iterator();
-                            final LinkedList<T2<A,B>> ps =
-                                FP.linkedList();
-                            while (xit.hasNext() &&
-                                   yit.hasNext()) {
-                                ps.add(t2(xit.next(), yit.next()));
-                            }
-                            return ps;
+                            return zip(xs, ys);
                         }
                     };
                 }
@@ -1843,7 +2380,15 @@ public final class FP {
          */
         public static <A,B> LinkedList<T2<A,B>>
             zip(final Iterable<A> xs, final Iterable<B> ys) {
-            return LinkedListJ.<A,B>zip().app(xs).app(ys);
+            final Iterator<A> xit = xs.iterator();
+            final Iterator<B> yit = ys.iterator();
+            final LinkedList<T2<A,B>> ps =
+                FP.linkedList();
+            while (xit.hasNext() &&
+                   yit.hasNext()) {
+                ps.add(t2(xit.next(), yit.next()));
+            }
+            return ps;
         }
 
         /*
@@ -2003,79 +2548,398 @@ public final class FP {
         // End of class LinkedListJ
     }
 
-    /*
-     * Lazy List ̂ Eager List 瓱o悤ƂA
-     * Generics ƈt Type Constructor p^łȂ̂Ŗ
-     * ȉ̃R[h Lazy List ɎQlɂ
-     *
+    /**
+     * {@link LinkedListJ} Ɠ֐ŁAʂ {@link ChunkList} ŕԂ<br>
+     * vfƂ̃m[hȂ̂ŁA傫ʂ groupBy ̑̃O[v LinkedList 胁ȂB
+     */
+    public static final class ChunkListJ { private ChunkListJ() {noInstance();}
 
-    public static final class List<A> {
-        private Pair<A,List<A>> cell;
+        public static <E> Fun<ChunkList<E>,List<E>> upToList() {
+            return FP.<List<E>,ChunkList<E>>upCast();
+        }
 
-        private List(A head, List<A> tail) {
-            this.cell = Pair.of(head,tail);
+        public static <E> Fun<ChunkList<E>,Iterable<E>> upToIterable() {
+            return FP.<Iterable<E>,ChunkList<E>>upCast();
         }
 
-        public A head() {
-            return this.cell.fst();
+        public static <T> ChunkList<List<T>>
+            groupBy(final FP.Eq<T> eq,
+                    final Iterable<? extends T> ite) {
+
+            ChunkList<List<T>> rv = new ChunkList<List<T>>();
+            ChunkList<T> group = null;
+            for (T t : ite) {
+                if (group != null && eq.eq(group.getLast(), t)) {
+                    group.add(t);
+                    continue;
+                }
+                group = new ChunkList<T>();
+                group.add(t);
+                rv.add(group);
+            }
+            return rv;
         }
 
-        public List<A> tail() {
-            return this.cell.snd();
+        public static <T> Fun<Iterable<? extends T>, ChunkList<List<T>>>
+            groupBy(final FP.Eq<T> eq) {
+            return new Fun<Iterable<? extends T>, ChunkList<List<T>>>() {
+                @Override
+                public ChunkList<List<T>>
+                    app(final Iterable<? extends T> list) {
+                    return groupBy(eq, list);
+                }
+            };
         }
 
-        static <A> List<A> _cons(A head, List<A> tail) {
-            return new List<A>(head, tail);
+        public static <T> ChunkList<List<T>>
+            groupBy(final Fun<T,Fun<T,Boolean>> eq,
+                    final Iterable<? extends T> ite) {
+            return groupBy(defEq(eq), ite);
         }
-    }
 
-    public static final <A> List<A> nil() { return null; }
+        public static <T> Fun<Iterable<? extends T>, ChunkList<List<T>>>
+            groupBy(final Fun<T,Fun<T,Boolean>> eq) {
+            return new Fun<Iterable<? extends T>, ChunkList<List<T>>>() {
+                @Override
+                public ChunkList<List<T>>
+                    app(final Iterable<? extends T> list) {
+                    return groupBy(eq, list);
+                }
+            };
+        }
 
-    public static final <A> List<A> cons(A head, List<A> tail) {
-        return List._cons(head, tail);
-    }
+        public static <A>
+            Fun<Fun<A, Boolean>,
+            Fun<Iterable<? extends A>,ChunkList<A>>>
+            filter() {
+            return genFilter(new Fun<Comparator<A>, ChunkList<A>>() {
+                @Override
+                public ChunkList<A> app(final Comparator<A> __) {
+                    // ͖
+                    return new ChunkList<A>();
+                }
+            });
+        }
 
-    public static final <A> Fun<A,Fun<List<A>,List<A>>>
-        cons() {
-        return new Fun<A,Fun<List<A>,List<A>>>() {
-            public Fun<List<A>,List<A>> app(final A a) {
-                return new Fun<List<A>,List<A>>() {
-                    public List<A> app(List<A> as) {
-                        return cons(a, as);
-                    }
-                };
-            }
-        };
-    }
+        public static <A>
+            Fun<Iterable<? extends A>,ChunkList<A>>
+            filter(final Fun<A, Boolean> pred) {
+            return ChunkListJ.<A>filter().app(pred);
+        }
 
-    public static final <A> boolean null_(List<A> xs) {
-        return xs == nil();
-    }
+        public static <A> ChunkList<A>
+            filter(final FP.Fun<A, Boolean> pred,
+                   final Iterable<? extends A> ite) {
+            return filter(pred).app(ite);
+        }
 
-    public static final <A> Fun<List<A>,Boolean>
-        null_() {
-        return new Fun<List<A>,Boolean>() {
-            public Boolean app(final List<A> xs) {
-                return null_(xs);
+        public static <A> ChunkList<A>
+        takeWhile(final FP.Fun<A, Boolean> pred,
+               final Iterable<? extends A> ite) {
+            ChunkList<A> rv = new ChunkList<A>();
+            for (A a : ite) {
+                if (!pred.app(a)) {
+                    break;
+                }
+                rv.add(a);
             }
-        };
-    }
+            return rv;
+        }
 
-    public static final <A> A head(List<A> xs) {
-        return xs.head();
-    }
+        public static <A> ChunkList<A>
+            dropWhile(final Fun<A,Boolean> pred, final Iterable<? extends A> ite) {
+            ChunkList<A> rv = new ChunkList<A>();
+            boolean dropping = true;
+            for (A a : ite) {
+                if (dropping && pred.app(a)) {
+                    continue;
+                }
+                dropping = false;
+                rv.add(a);
+            }
+            return rv;
+        }
 
-    public static final <A> Fun<List<A>,A>
-        head() {
-        return new Fun<List<A>,A>() {
-            public A app(final List<A> xs) {
-                return head(xs);
+        public static <A, B> ChunkList<B>
+            map(final FP.Fun<A, B> fun,
+                final Iterable<? extends A> ite) {
+            ChunkList<B> rv = new ChunkList<B>();
+            for (A a : ite) {
+                rv.add(fun.app(a));
             }
-        };
-    }
+            return rv;
+        }
 
-    public static final <A> List<A> tail(List<A> xs) {
-        return xs.tail();
+        public static <A, B> ChunkList<B>
+        map(final FP.Fun<A, B> fun,
+            final A[] arr) {
+            return map(fun, Arrays.asList(arr));
+        }
+
+        public static <A, B> Fun<Iterable<A>, ChunkList<B>>
+            map(final FP.Fun<A, B> fun) {
+            return new Fun<Iterable<A>, ChunkList<B>>() {
+                @Override
+                public ChunkList<B> app(final Iterable<A> ite) {
+                    return map(fun, ite);
+                }
+            };
+        }
+
+        public static <A, B> ChunkList<B>
+            mapi(final FP.Fun<Pair<Integer,A>, B> fun,
+                 final Iterable<? extends A> ite) {
+
+            ChunkList<B> rv = new ChunkList<B>();
+            int i = 0;
+            for (A a : ite) {
+                rv.add(fun.app(Pair.of(i++, a)));
+            }
+            return rv;
+        }
+
+        public static <A, B> ChunkList<Pair<Integer, B>>
+            mapRI(final FP.Fun<A, B> fun,
+                  final Iterable<? extends A> ite) {
+
+            ChunkList<Pair<Integer, B>> rv = new ChunkList<Pair<Integer, B>>();
+            int i = 0;
+            for (A a : ite) {
+                rv.add(Pair.of(i++, fun.app(a)));
+            }
+            return rv;
+        }
+
+        /**
+         * A -- (++) :: [a] -> [a] -> [a]
+         */
+        public static <A> Fun<Iterable<A>, Fun<Iterable<A>, ChunkList<A>>> append() {
+            return new Fun<Iterable<A>, Fun<Iterable<A>, ChunkList<A>>>() {
+                @Override
+                public Fun<Iterable<A>, ChunkList<A>> app(final Iterable<A> xs) {
+                    return new Fun<Iterable<A>, ChunkList<A>>() {
+                        @Override
+                        public ChunkList<A> app(final Iterable<A> ys) {
+                            return append(xs, ys);
+                        }
+                    };
+                }
+            };
+        }
+
+        /**
+         * Java\bh A<br>
+         * xs, ys ͕ύXȂBys svȂ {@link ChunkList#concat(ChunkList)} ̂قB
+         */
+        public static <A> ChunkList<A> append(final Iterable<A> xs, final Iterable<A> ys) {
+            ChunkList<A> zs = new ChunkList<A>();
+            for (A x : xs) {
+                zs.add(x);
+            }
+            for (A y : ys) {
+                zs.add(y);
+            }
+            return zs;
+        }
+
+        /**
+         * (pre ++) :: [a] -> [a]
+         */
+        public static <A> Fun<Iterable<A>, ChunkList<A>>
+            pre(final Iterable<A> pre) {
+            return ChunkListJ.<A>append().app(pre);
+        }
+
+        /**
+         * (++ post) :: [a] -> [a]
+         */
+        public static <A> Fun<Iterable<A>, ChunkList<A>>
+            post(final Iterable<A> post) {
+            return flip(ChunkListJ.<A>append()).app(post);
+        }
+
+        /**
+         * zip :: [a] -> [b] -> [(a, b)]
+         */
+        public static <A,B>
+            Fun<Iterable<A>, Fun<Iterable<B>, ChunkList<T2<A,B>>>>
+            zip() {
+            return new
+                Fun<Iterable<A>, Fun<Iterable<B>, ChunkList<T2<A,B>>>>() {
+                @Override
+                public Fun<Iterable<B>, ChunkList<T2<A,B>>>
+                    app(final Iterable<A> xs) {
+                    return new Fun<Iterable<B>, ChunkList<T2<A,B>>>() {
+                        @Override
+                        public ChunkList<T2<A,B>> app(final Iterable<B> ys) {
+                            return zip(xs, ys);
+                        }
+                    };
+                }
+            };
+        }
+
+        /**
+         * Java\bh zip
+         */
+        public static <A,B> ChunkList<T2<A,B>>
+            zip(final Iterable<A> xs, final Iterable<B> ys) {
+            final Iterator<A> xit = xs.iterator();
+            final Iterator<B> yit = ys.iterator();
+            final ChunkList<T2<A,B>> ps = new ChunkList<T2<A,B>>();
+            while (xit.hasNext() &&
+                   yit.hasNext()) {
+                ps.add(t2(xit.next(), yit.next()));
+            }
+            return ps;
+        }
+
+        /**
+         * unzip :: [(a, b)] -> ([a], [b])
+         */
+        public static <A,B>
+            Fun<Iterable<T2<A,B>>, T2<List<A>,List<B>>>
+            unzip() {
+            return new
+                Fun<Iterable<T2<A,B>>, T2<List<A>,List<B>>>() {
+                @Override
+                public T2<List<A>,List<B>>
+                    app(final Iterable<T2<A,B>> ps) {
+                    return unzip(ps);
+                }
+            };
+        }
+
+        /**
+         * Java\bh unzip
+         */
+        public static <A,B> T2<List<A>,List<B>>
+            unzip(final Iterable<T2<A,B>> ps) {
+            ChunkList<A> xs = new ChunkList<A>();
+            ChunkList<B> ys = new ChunkList<B>();
+            for (T2<A,B> p : ps) {
+                xs.add(p.fst());
+                ys.add(p.snd());
+            }
+            return FP.<List<A>,List<B>>t2(xs, ys);
+        }
+
+        /**
+         * {@link LinkedListJ#groupByFst(Fun, Iterable)}  ChunkList 
+         */
+        public static <A,B> ChunkList<T2<A,ChunkList<B>>>
+            groupByFst(final Fun<A,Fun<A,Boolean>> eq,
+                       final Iterable<T2<A,B>> ite) {
+            ChunkList<T2<A,ChunkList<B>>> rv = new ChunkList<T2<A,ChunkList<B>>>();
+            // LinkedListJ ƓO̗vf̃L[Ɣׂ O[ṽL[͍ŏ̗vf̃L[
+            A last = null;
+            ChunkList<B> group = null;
+            for (T2<A,B> p : ite) {
+                if (group == null || !eq.app(last).app(p.fst())) {
+                    group = new ChunkList<B>();
+                    rv.add(FP.<A,ChunkList<B>>t2(p.fst(), group));
+                }
+                group.add(p.snd());
+                last = p.fst();
+            }
+            return rv;
+        }
+
+        /**
+         * {@link LinkedListJ#groupBySnd(Fun, Iterable)}  ChunkList 
+         */
+        public static <A,B> ChunkList<T2<ChunkList<A>,B>>
+            groupBySnd(final Fun<B,Fun<B,Boolean>> eq,
+                       final Iterable<T2<A,B>> ite) {
+            ChunkList<T2<ChunkList<A>,B>> rv = new ChunkList<T2<ChunkList<A>,B>>();
+            B last = null;
+            ChunkList<A> group = null;
+            for (T2<A,B> p : ite) {
+                if (group == null || !eq.app(last).app(p.snd())) {
+                    group = new ChunkList<A>();
+                    rv.add(FP.<ChunkList<A>,B>t2(group, p.snd()));
+                }
+                group.add(p.fst());
+                last = p.snd();
+            }
+            return rv;
+        }
+        // End of class ChunkListJ
+    }
+
+    /*
+     * Lazy List ̂ Eager List 瓱o悤ƂA
+     * Generics ƈt Type Constructor p^łȂ̂Ŗ
+     * ȉ̃R[h Lazy List ɎQlɂ
+     *
+
+    public static final class List<A> {
+        private Pair<A,List<A>> cell;
+
+        private List(A head, List<A> tail) {
+            this.cell = Pair.of(head,tail);
+        }
+
+        public A head() {
+            return this.cell.fst();
+        }
+
+        public List<A> tail() {
+            return this.cell.snd();
+        }
+
+        static <A> List<A> _cons(A head, List<A> tail) {
+            return new List<A>(head, tail);
+        }
+    }
+
+    public static final <A> List<A> nil() { return null; }
+
+    public static final <A> List<A> cons(A head, List<A> tail) {
+        return List._cons(head, tail);
+    }
+
+    public static final <A> Fun<A,Fun<List<A>,List<A>>>
+        cons() {
+        return new Fun<A,Fun<List<A>,List<A>>>() {
+            public Fun<List<A>,List<A>> app(final A a) {
+                return new Fun<List<A>,List<A>>() {
+                    public List<A> app(List<A> as) {
+                        return cons(a, as);
+                    }
+                };
+            }
+        };
+    }
+
+    public static final <A> boolean null_(List<A> xs) {
+        return xs == nil();
+    }
+
+    public static final <A> Fun<List<A>,Boolean>
+        null_() {
+        return new Fun<List<A>,Boolean>() {
+            public Boolean app(final List<A> xs) {
+                return null_(xs);
+            }
+        };
+    }
+
+    public static final <A> A head(List<A> xs) {
+        return xs.head();
+    }
+
+    public static final <A> Fun<List<A>,A>
+        head() {
+        return new Fun<List<A>,A>() {
+            public A app(final List<A> xs) {
+                return head(xs);
+            }
+        };
+    }
+
+    public static final <A> List<A> tail(List<A> xs) {
+        return xs.tail();
     }
 
     public static final <A> Fun<List<A>,List<A>>
@@ -2088,13 +2952,6 @@ public final class FP {
     }
     */
 
-    /*
-    // TODO
-    public static class ZList<A> {
-    }
-
-    */
-
     public static final class ArrayListJ { private ArrayListJ() {noInstance();}
 
         public static <E> Fun<ArrayList<E>,List<E>> upToList() {
@@ -2266,14 +3123,7 @@ public final class FP {
                     return new Fun<Iterable<A>, ArrayList<A>>() {
                         @Override
                         public ArrayList<A> app(final Iterable<A> ys) {
-                            ArrayList<A> zs = new ArrayList<A>();
-                            for (A x : xs) {
-                                zs.add(x);
-                            }
-                            for (A y : ys) {
-                                zs.add(y);
-                            }
-                            return zs;
+                            return append(xs, ys);
                         }
                     };
                 }
@@ -2284,7 +3134,14 @@ public final class FP {
          * Java\bh A
          */
         public static <A> ArrayList<A> append(final Iterable<A> xs, final Iterable<A> ys) {
-            return ArrayListJ.<A>append().app(xs).app(ys);
+            ArrayList<A> zs = new ArrayList<A>();
+            for (A x : xs) {
+                zs.add(x);
+            }
+            for (A y : ys) {
+                zs.add(y);
+            }
+            return zs;
         }
 
         /**
@@ -2316,15 +3173,7 @@ public final class FP {
                     return new Fun<Iterable<B>, ArrayList<T2<A,B>>>() {
                         @Override
                         public ArrayList<T2<A,B>> app(final Iterable<B> ys) {
-                            final Iterator<A> xit = xs.iterator();
-                            final Iterator<B> yit = ys.iterator();
-                            final ArrayList<T2<A,B>> ps =
-                                FP.arrayEmpty();
-                            while (xit.hasNext() &&
-                                   yit.hasNext()) {
-                                ps.add(t2(xit.next(), yit.next()));
-                            }
-                            return ps;
+                            return zip(xs, ys);
                         }
                     };
                 }
@@ -2336,7 +3185,15 @@ public final class FP {
          */
         public static <A,B> ArrayList<T2<A,B>>
             zip(final Iterable<A> xs, final Iterable<B> ys) {
-            return ArrayListJ.<A,B>zip().app(xs).app(ys);
+            final Iterator<A> xit = xs.iterator();
+            final Iterator<B> yit = ys.iterator();
+            final ArrayList<T2<A,B>> ps =
+                FP.arrayEmpty();
+            while (xit.hasNext() &&
+                   yit.hasNext()) {
+                ps.add(t2(xit.next(), yit.next()));
+            }
+            return ps;
         }
 
         /**
@@ -2511,12 +3368,395 @@ public final class FP {
         }
     }
 
-    abstract public static class ZList<E> {
-        // lazy list pɗ\
+    /**
+     * x]郊Xg<br>
+     *
+     * <p>
+     * eZ͏߂ĎQƂꂽƂ1xvZAʂ͊oĂ (memoize)B
+     * Ȃ̂ŉxĂvf1xvZꂸÃXgB
+     * map/filter/zip Ȃǂ͐VXg邾ŗvfvZȂ̂ŁA
+     * {@code xs.zip(ys).filter(p).map(f).take(10)} ͐擪10vfɕKvȕvZȂB
+     * </p>
+     * ŽvZ̓ZƂɔr̂ŁAXbhԂŋLđĂ悢B
+     * vf null ͎gȂB
+     *
+     * @param <E> vf̌^
+     */
+    abstract public static class ZList<E> implements Iterable<E> {
+
+        private ZList() {}
+
+        /** ]ς݂̃ZԂ Nil  Cons */
+        abstract ZList<E> whnf();
+
+        private static final class Nil<E> extends ZList<E> {
+            static final Nil<Object> NIL = new Nil<Object>();
+            @Override ZList<E> whnf() { return this; }
+        }
+
+        private static final class Cons<E> extends ZList<E> {
+            final E head;
+            final ZList<E> tail;
+            Cons(final E head, final ZList<E> tail) {
+                if (head == null) {
+                    throw new NullPointerException("ZList element must not be null");
+                }
+                this.head = head;
+                this.tail = tail;
+            }
+            @Override ZList<E> whnf() { return this; }
+        }
+
+        /**
+         * ]̃Z thunk  Nil, Cons, ʂ ZList ̂ꂩԂ<br>
+         * ] thunk ̂āAthunk QƂẴXgێȂ
+         */
+        private static final class Suspend<E> extends ZList<E> {
+            private volatile ZList<E> value;
+            // value܂null this̃bNŎ
+            private Supplier<ZList<E>> thunk;
+
+            Suspend(final Supplier<ZList<E>> thunk) {
+                this.thunk = thunk;
+            }
+
+            @Override
+            ZList<E> whnf() {
+                ZList<E> v = this.value;
+                if (v == null) {
+                    synchronized (this) {
+                        v = this.value;
+                        if (v == null) {
+                            v = this.thunk.get();
+                            // ʂ̒xXgԂĂċAɂǂ
+                            while (v instanceof Suspend) {
+                                v = v.whnf();
+                            }
+                            this.value = v;
+                            this.thunk = null;
+                        }
+                    }
+                }
+                return v;
+            }
+        }
+
+        private static <E> ZList<E> suspend(final Supplier<ZList<E>> thunk) {
+            return new Suspend<E>(thunk);
+        }
+
+        @SuppressWarnings("unchecked")
+        public static <E> ZList<E> nil() {
+            return (ZList<E>) Nil.NIL;
+        }
+
+        public static <E> ZList<E> cons(final E head, final ZList<E> tail) {
+            return new Cons<E>(head, tail);
+        }
+
+        /**
+         * @return es ̗vf̃Xg es͍쐬ɃRs[
+         */
+        @SafeVarargs
+        public static <E> ZList<E> of(final E... es) {
+            ZList<E> rv = nil();
+            for (int i = es.length - 1; i >= 0; i--) {
+                rv = cons(es[i], rv);
+            }
+            return rv;
+        }
+
+        /**
+         * ite ̗vfKvɂȂƂɓǂރXgԂB<br>
+         * ite.iterator() ̓Xgŏɕ]Ƃ1xĂԁB
+         */
+        public static <E> ZList<E> fromIterable(final Iterable<? extends E> ite) {
+            return suspend(new Supplier<ZList<E>>() {
+                @Override
+                public ZList<E> get() {
+                    return fromIterator(ite.iterator());
+                }
+            });
+        }
+
+        /**
+         * it ̗vfKvɂȂƂɓǂރXgԂB<br>
+         * ǂ񂾗vf͊oĂ̂ŁAXg͉xłłB
+         */
+        public static <E> ZList<E> fromIterator(final Iterator<? extends E> it) {
+            return suspend(new Supplier<ZList<E>>() {
+                @Override
+                public ZList<E> get() {
+                    if (!it.hasNext()) {
+                        return nil();
+                    }
+                    return cons(it.next(), ZList.<E>fromIterator(it));
+                }
+            });
+        }
+
+        /**
+         * @return [seed, f(seed), f(f(seed)), ...] ̖Xg
+         */
+        public static <E> ZList<E> iterate(final Fun<? super E, ? extends E> f, final E seed) {
+            return cons(seed, suspend(new Supplier<ZList<E>>() {
+                @Override
+                public ZList<E> get() {
+                    return iterate(f, f.app(seed));
+                }
+            }));
+        }
+
+        public final boolean isEmpty() {
+            return whnf() instanceof Nil;
+        }
+
+        /**
+         * @throws java.util.NoSuchElementException ̏ꍇ
+         */
+        public final E head() {
+            return cell().head;
+        }
+
+        /**
+         * @throws java.util.NoSuchElementException ̏ꍇ
+         */
+        public final ZList<E> tail() {
+            return cell().tail;
+        }
+
+        private Cons<E> cell() {
+            final ZList<E> c = whnf();
+            if (c instanceof Nil) {
+                throw new NoSuchElementException("empty ZList");
+            }
+            return (Cons<E>) c;
+        }
+
+        public final <B> ZList<B> map(final Fun<? super E, ? extends B> f) {
+            final ZList<E> self = this;
+            return suspend(new Supplier<ZList<B>>() {
+                @Override
+                public ZList<B> get() {
+                    final ZList<E> c = self.whnf();
+                    if (c instanceof Nil) {
+                        return nil();
+                    }
+                    final Cons<E> cons = (Cons<E>) c;
+                    return cons(f.app(cons.head), cons.tail.<B>map(f));
+                }
+            });
+        }
+
+        public final ZList<E> filter(final Fun<? super E, Boolean> pred) {
+            final ZList<E> self = this;
+            return suspend(new Supplier<ZList<E>>() {
+                @Override
+                public ZList<E> get() {
+                    // 𖞂ȂvfĂċAȂ
+                    for (ZList<E> c = self.whnf(); c instanceof Cons; c = ((Cons<E>) c).tail.whnf()) {
+                        final Cons<E> cons = (Cons<E>) c;
+                        if (pred.app(cons.head)) {
+                            return cons(cons.head, cons.tail.filter(pred));
+                        }
+                    }
+                    return nil();
+                }
+            });
+        }
+
+        public final ZList<E> take(final int n) {
+            final ZList<E> self = this;
+            return suspend(new Supplier<ZList<E>>() {
+                @Override
+                public ZList<E> get() {
+                    if (n <= 0) {
+                        return nil();
+                    }
+                    final ZList<E> c = self.whnf();
+                    if (c instanceof Nil) {
+                        return c;
+                    }
+                    final Cons<E> cons = (Cons<E>) c;
+                    return cons(cons.head, cons.tail.take(n - 1));
+                }
+            });
+        }
+
+        public final ZList<E> takeWhile(final Fun<? super E, Boolean> pred) {
+            final ZList<E> self = this;
+            return suspend(new Supplier<ZList<E>>() {
+                @Override
+                public ZList<E> get() {
+                    final ZList<E> c = self.whnf();
+                    if (c instanceof Nil || !pred.app(((Cons<E>) c).head)) {
+                        return nil();
+                    }
+                    final Cons<E> cons = (Cons<E>) c;
+                    return cons(cons.head, cons.tail.takeWhile(pred));
+                }
+            });
+        }
+
+        public final ZList<E> drop(final int n) {
+            final ZList<E> self = this;
+            return suspend(new Supplier<ZList<E>>() {
+                @Override
+                public ZList<E> get() {
+                    ZList<E> c = self.whnf();
+                    for (int i = 0; i < n && c instanceof Cons; i++) {
+                        c = ((Cons<E>) c).tail.whnf();
+                    }
+                    return c;
+                }
+            });
+        }
+
+        public final <B> ZList<T2<E, B>> zip(final ZList<B> bs) {
+            final ZList<E> self = this;
+            return suspend(new Supplier<ZList<T2<E, B>>>() {
+                @Override
+                public ZList<T2<E, B>> get() {
+                    final ZList<E> a = self.whnf();
+                    final ZList<B> b = bs.whnf();
+                    if (a instanceof Nil || b instanceof Nil) {
+                        return nil();
+                    }
+                    final Cons<E> ca = (Cons<E>) a;
+                    final Cons<B> cb = (Cons<B>) b;
+                    return cons(t2(ca.head, cb.head), ca.tail.zip(cb.tail));
+                }
+            });
+        }
+
+        public final ZList<E> append(final ZList<E> ys) {
+            final ZList<E> self = this;
+            return suspend(new Supplier<ZList<E>>() {
+                @Override
+                public ZList<E> get() {
+                    final ZList<E> c = self.whnf();
+                    if (c instanceof Nil) {
+                        return ys;
+                    }
+                    final Cons<E> cons = (Cons<E>) c;
+                    return cons(cons.head, cons.tail.append(ys));
+                }
+            });
+        }
+
+        /**
+         * ׂ荇 eq ȗvf܂Ƃ߂BeO[v͂̃O[v̗vfƎ̃O[v̐擪ǂ񂾂ƂɍB<br>
+         *  groupBy ƓAO[v̍ŏ̗vfł͂ȂO̗vfƔׂ
+         */
+        public final ZList<ArrayList<E>> groupBy(final Eq<? super E> eq) {
+            final ZList<E> self = this;
+            return suspend(new Supplier<ZList<ArrayList<E>>>() {
+                @Override
+                public ZList<ArrayList<E>> get() {
+                    ZList<E> c = self.whnf();
+                    if (c instanceof Nil) {
+                        return nil();
+                    }
+                    E last = ((Cons<E>) c).head;
+                    final ArrayList<E> group = new ArrayList<E>();
+                    group.add(last);
+                    for (c = ((Cons<E>) c).tail.whnf(); c instanceof Cons; c = ((Cons<E>) c).tail.whnf()) {
+                        final E e = ((Cons<E>) c).head;
+                        if (!eq.eq(last, e)) {
+                            break;
+                        }
+                        group.add(e);
+                        last = e;
+                    }
+                    return cons(group, c.groupBy(eq));
+                }
+            });
+        }
+
+        /**
+         * Svf]BXgł͕ԂȂB
+         */
+        public final ArrayList<E> toArrayList() {
+            final ArrayList<E> rv = new ArrayList<E>();
+            for (E e : this) {
+                rv.add(e);
+            }
+            return rv;
+        }
+
+        /**
+         * Svf]BXgł͕ԂȂB
+         */
+        public final LinkedList<E> toLinkedList() {
+            final LinkedList<E> rv = new LinkedList<E>();
+            for (E e : this) {
+                rv.add(e);
+            }
+            return rv;
+        }
+
+        @Override
+        public final Iterator<E> iterator() {
+            final ZList<E> self = this;
+            return new Iterator<E>() {
+                private ZList<E> cur = self;
+
+                @Override
+                public boolean hasNext() {
+                    this.cur = this.cur.whnf();
+                    return this.cur instanceof Cons;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final Cons<E> cons = (Cons<E>) this.cur;
+                    this.cur = cons.tail;
+                    return cons.head;
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        /**
+         * ]ς݂̐擪\B]̕ ... ɂȂB
+         */
+        @Override
+        public String toString() {
+            final StringBuilder b = new StringBuilder("ZList[");
+            ZList<E> c = this;
+            String sep = "";
+            for (;;) {
+                if (c instanceof Suspend) {
+                    final ZList<E> v = ((Suspend<E>) c).value;
+                    if (v == null) {
+                        b.append(sep).append("...");
+                        break;
+                    }
+                    c = v;
+                } else if (c instanceof Cons) {
+                    b.append(sep).append(((Cons<E>) c).head);
+                    sep = ", ";
+                    c = ((Cons<E>) c).tail;
+                } else {
+                    break;
+                }
+            }
+            return b.append(']').toString();
+        }
     }
-    // lazy list pɗ\
-    public static <E> ZList<E> list(@SuppressWarnings("unused") final E... e) {
-        return null;
+
+    /**
+     * @return e̗vf {@link ZList}
+     */
+    public static <E> ZList<E> list(final E... e) {
+        return ZList.of(e);
     }
 
     // Functions like Control.Arrow of Haskell
@@ -2927,6 +4167,36 @@ public final class FP {
         public A fst() { return this.a; }
         public B snd() { return this.b; }
         public C trd() { return this.c; }
+
+        @Override
+        public int hashCode() {
+            int result = 17;
+            result = 31 * result + ((this.a == null) ? 0 : this.a.hashCode());
+            result = 31 * result + ((this.b == null) ? 0 : this.b.hashCode());
+            result = 31 * result + ((this.c == null) ? 0 : this.c.hashCode());
+            return result;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o == this) {
+                return true;
+            }
+
+            if (!(o instanceof T3<?, ?, ?>)) {
+                return false;
+            }
+
+            T3<?, ?, ?> t = (T3<?, ?, ?>) o;
+            return (this.a == t.a || this.a != null && this.a.equals(t.a))
+                && (this.b == t.b || this.b != null && this.b.equals(t.b))
+                && (this.c == t.c || this.c != null && this.c.equals(t.c));
+        }
+
+        @Override
+        public String toString() {
+            return "(" + this.a + "," + this.b + "," + this.c + ")";
+        }
     }
 
     public static <A,B,C> T3<A,B,C> t3(final A a, final B b , final C c) {
@@ -2957,12 +4227,278 @@ public final class FP {
         public B snd() { return this.b; }
         public C trd() { return this.c; }
         public D fth() { return this.d; }
+
+        @Override
+        public int hashCode() {
+            int result = 17;
+            result = 31 * result + ((this.a == null) ? 0 : this.a.hashCode());
+            result = 31 * result + ((this.b == null) ? 0 : this.b.hashCode());
+            result = 31 * result + ((this.c == null) ? 0 : this.c.hashCode());
+            result = 31 * result + ((this.d == null) ? 0 : this.d.hashCode());
+            return result;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o == this) {
+                return true;
+            }
+
+            if (!(o instanceof T4<?, ?, ?, ?>)) {
+                return false;
+            }
+
+            T4<?, ?, ?, ?> t = (T4<?, ?, ?, ?>) o;
+            return (this.a == t.a || this.a != null && this.a.equals(t.a))
+                && (this.b == t.b || this.b != null && this.b.equals(t.b))
+                && (this.c == t.c || this.c != null && this.c.equals(t.c))
+                && (this.d == t.d || this.d != null && this.d.equals(t.d));
+        }
+
+        @Override
+        public String toString() {
+            return "(" + this.a + "," + this.b + "," + this.c + "," + this.d + ")";
+        }
     }
 
     public static <A,B,C,D> T4<A,B,C,D> t4(final A a, final B b , final C c, final D d) {
         return T4.of(a, b, c, d);
     }
 
+    public static final class T5<A,B,C,D,E> {
+        A a; B b; C c; D d; E e;
+        private T5(final A a, final B b, final C c, final D d, final E e) {
+            this.a = a; this.b = b; this.c = c; this.d = d; this.e = e;
+        }
+        public static <A,B,C,D,E> T5<A,B,C,D,E> of(final A a, final B b, final C c, final D d, final E e) {
+            return new T5<A,B,C,D,E>(a, b, c, d, e);
+        }
+
+        public A fst() { return this.a; }
+        public B snd() { return this.b; }
+        public C trd() { return this.c; }
+        public D fth() { return this.d; }
+        public E fifth() { return this.e; }
+
+        @Override
+        public int hashCode() {
+            int result = 17;
+            result = 31 * result + ((this.a == null) ? 0 : this.a.hashCode());
+            result = 31 * result + ((this.b == null) ? 0 : this.b.hashCode());
+            result = 31 * result + ((this.c == null) ? 0 : this.c.hashCode());
+            result = 31 * result + ((this.d == null) ? 0 : this.d.hashCode());
+            result = 31 * result + ((this.e == null) ? 0 : this.e.hashCode());
+            return result;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o == this) {
+                return true;
+            }
+
+            if (!(o instanceof T5<?, ?, ?, ?, ?>)) {
+                return false;
+            }
+
+            T5<?, ?, ?, ?, ?> t = (T5<?, ?, ?, ?, ?>) o;
+            return (this.a == t.a || this.a != null && this.a.equals(t.a))
+                && (this.b == t.b || this.b != null && this.b.equals(t.b))
+                && (this.c == t.c || this.c != null && this.c.equals(t.c))
+                && (this.d == t.d || this.d != null && this.d.equals(t.d))
+                && (this.e == t.e || this.e != null && this.e.equals(t.e));
+        }
+
+        @Override
+        public String toString() {
+            return "(" + this.a + "," + this.b + "," + this.c + "," + this.d + "," + this.e + ")";
+        }
+    }
+
+    public static <A,B,C,D,E> T5<A,B,C,D,E> t5(final A a, final B b, final C c, final D d, final E e) {
+        return T5.of(a, b, c, d, e);
+    }
+
+    public static final class T6<A,B,C,D,E,F> {
+        A a; B b; C c; D d; E e; F f;
+        private T6(final A a, final B b, final C c, final D d, final E e, final F f) {
+            this.a = a; this.b = b; this.c = c; this.d = d; this.e = e; this.f = f;
+        }
+        public static <A,B,C,D,E,F> T6<A,B,C,D,E,F> of(final A a, final B b, final C c, final D d, final E e, final F f) {
+            return new T6<A,B,C,D,E,F>(a, b, c, d, e, f);
+        }
+
+        public A fst() { return this.a; }
+        public B snd() { return this.b; }
+        public C trd() { return this.c; }
+        public D fth() { return this.d; }
+        public E fifth() { return this.e; }
+        public F sixth() { return this.f; }
+
+        @Override
+        public int hashCode() {
+            int result = 17;
+            result = 31 * result + ((this.a == null) ? 0 : this.a.hashCode());
+            result = 31 * result + ((this.b == null) ? 0 : this.b.hashCode());
+            result = 31 * result + ((this.c == null) ? 0 : this.c.hashCode());
+            result = 31 * result + ((this.d == null) ? 0 : this.d.hashCode());
+            result = 31 * result + ((this.e == null) ? 0 : this.e.hashCode());
+            result = 31 * result + ((this.f == null) ? 0 : this.f.hashCode());
+            return result;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o == this) {
+                return true;
+            }
+
+            if (!(o instanceof T6<?, ?, ?, ?, ?, ?>)) {
+                return false;
+            }
+
+            T6<?, ?, ?, ?, ?, ?> t = (T6<?, ?, ?, ?, ?, ?>) o;
+            return (this.a == t.a || this.a != null && this.a.equals(t.a))
+                && (this.b == t.b || this.b != null && this.b.equals(t.b))
+                && (this.c == t.c || this.c != null && this.c.equals(t.c))
+                && (this.d == t.d || this.d != null && this.d.equals(t.d))
+                && (this.e == t.e || this.e != null && this.e.equals(t.e))
+                && (this.f == t.f || this.f != null && this.f.equals(t.f));
+        }
+
+        @Override
+        public String toString() {
+            return "(" + this.a + "," + this.b + "," + this.c + "," + this.d + "," + this.e + "," + this.f + ")";
+        }
+    }
+
+    public static <A,B,C,D,E,F> T6<A,B,C,D,E,F> t6(final A a, final B b, final C c, final D d, final E e, final F f) {
+        return T6.of(a, b, c, d, e, f);
+    }
+
+    public static final class T7<A,B,C,D,E,F,G> {
+        A a; B b; C c; D d; E e; F f; G g;
+        private T7(final A a, final B b, final C c, final D d, final E e, final F f, final G g) {
+            this.a = a; this.b = b; this.c = c; this.d = d; this.e = e; this.f = f; this.g = g;
+        }
+        public static <A,B,C,D,E,F,G> T7<A,B,C,D,E,F,G> of(final A a, final B b, final C c, final D d, final E e, final F f, final G g) {
+            return new T7<A,B,C,D,E,F,G>(a, b, c, d, e, f, g);
+        }
+
+        public A fst() { return this.a; }
+        public B snd() { return this.b; }
+        public C trd() { return this.c; }
+        public D fth() { return this.d; }
+        public E fifth() { return this.e; }
+        public F sixth() { return this.f; }
+        public G seventh() { return this.g; }
+
+        @Override
+        public int hashCode() {
+            int result = 17;
+            result = 31 * result + ((this.a == null) ? 0 : this.a.hashCode());
+            result = 31 * result + ((this.b == null) ? 0 : this.b.hashCode());
+            result = 31 * result + ((this.c == null) ? 0 : this.c.hashCode());
+            result = 31 * result + ((this.d == null) ? 0 : this.d.hashCode());
+            result = 31 * result + ((this.e == null) ? 0 : this.e.hashCode());
+            result = 31 * result + ((this.f == null) ? 0 : this.f.hashCode());
+            result = 31 * result + ((this.g == null) ? 0 : this.g.hashCode());
+            return result;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o == this) {
+                return true;
+            }
+
+            if (!(o instanceof T7<?, ?, ?, ?, ?, ?, ?>)) {
+                return false;
+            }
+
+            T7<?, ?, ?, ?, ?, ?, ?> t = (T7<?, ?, ?, ?, ?, ?, ?>) o;
+            return (this.a == t.a || this.a != null && this.a.equals(t.a))
+                && (this.b == t.b || this.b != null && this.b.equals(t.b))
+                && (this.c == t.c || this.c != null && this.c.equals(t.c))
+                && (this.d == t.d || this.d != null && this.d.equals(t.d))
+                && (this.e == t.e || this.e != null && this.e.equals(t.e))
+                && (this.f == t.f || this.f != null && this.f.equals(t.f))
+                && (this.g == t.g || this.g != null && this.g.equals(t.g));
+        }
+
+        @Override
+        public String toString() {
+            return "(" + this.a + "," + this.b + "," + this.c + "," + this.d + "," + this.e + "," + this.f + "," + this.g + ")";
+        }
+    }
+
+    public static <A,B,C,D,E,F,G> T7<A,B,C,D,E,F,G> t7(final A a, final B b, final C c, final D d, final E e, final F f, final G g) {
+        return T7.of(a, b, c, d, e, f, g);
+    }
+
+    public static final class T8<A,B,C,D,E,F,G,H> {
+        A a; B b; C c; D d; E e; F f; G g; H h;
+        private T8(final A a, final B b, final C c, final D d, final E e, final F f, final G g, final H h) {
+            this.a = a; this.b = b; this.c = c; this.d = d; this.e = e; this.f = f; this.g = g; this.h = h;
+        }
+        public static <A,B,C,D,E,F,G,H> T8<A,B,C,D,E,F,G,H> of(final A a, final B b, final C c, final D d, final E e, final F f, final G g, final H h) {
+            return new T8<A,B,C,D,E,F,G,H>(a, b, c, d, e, f, g, h);
+        }
+
+        public A fst() { return this.a; }
+        public B snd() { return this.b; }
+        public C trd() { return this.c; }
+        public D fth() { return this.d; }
+        public E fifth() { return this.e; }
+        public F sixth() { return this.f; }
+        public G seventh() { return this.g; }
+        public H eighth() { return this.h; }
+
+        @Override
+        public int hashCode() {
+            int result = 17;
+            result = 31 * result + ((this.a == null) ? 0 : this.a.hashCode());
+            result = 31 * result + ((this.b == null) ? 0 : this.b.hashCode());
+            result = 31 * result + ((this.c == null) ? 0 : this.c.hashCode());
+            result = 31 * result + ((this.d == null) ? 0 : this.d.hashCode());
+            result = 31 * result + ((this.e == null) ? 0 : this.e.hashCode());
+            result = 31 * result + ((this.f == null) ? 0 : this.f.hashCode());
+            result = 31 * result + ((this.g == null) ? 0 : this.g.hashCode());
+            result = 31 * result + ((this.h == null) ? 0 : this.h.hashCode());
+            return result;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o == this) {
+                return true;
+            }
+
+            if (!(o instanceof T8<?, ?, ?, ?, ?, ?, ?, ?>)) {
+                return false;
+            }
+
+            T8<?, ?, ?, ?, ?, ?, ?, ?> t = (T8<?, ?, ?, ?, ?, ?, ?, ?>) o;
+            return (this.a == t.a || this.a != null && this.a.equals(t.a))
+                && (this.b == t.b || this.b != null && this.b.equals(t.b))
+                && (this.c == t.c || this.c != null && this.c.equals(t.c))
+                && (this.d == t.d || this.d != null && this.d.equals(t.d))
+                && (this.e == t.e || this.e != null && this.e.equals(t.e))
+                && (this.f == t.f || this.f != null && this.f.equals(t.f))
+                && (this.g == t.g || this.g != null && this.g.equals(t.g))
+                && (this.h == t.h || this.h != null && this.h.equals(t.h));
+        }
+
+        @Override
+        public String toString() {
+            return "(" + this.a + "," + this.b + "," + this.c + "," + this.d + "," + this.e + "," + this.f + "," + this.g + "," + this.h + ")";
+        }
+    }
+
+    public static <A,B,C,D,E,F,G,H> T8<A,B,C,D,E,F,G,H> t8(final A a, final B b, final C c, final D d, final E e, final F f, final G g, final H h) {
+        return T8.of(a, b, c, d, e, f, g, h);
+    }
+
     public static final Fun<String,Fun<String,Boolean>>
         STRING_EQ = new Fun<String,Fun<String,Boolean>>() {
         @Override
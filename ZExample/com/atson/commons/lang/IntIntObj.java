@@ -0,0 +1,80 @@
+package com.atson.commons.lang;
+
+/**
+ * fst, snd  int 3-^v<br>
+ * fst, snd  boxing ɂB{@link #fstInt()}, {@link #sndInt()}  int ̂܂܎oB
+ * ANZT {@link FP.T3} ƓO (fst(), snd() ͌ĂԂт boxing )B
+ *
+ * @param <C> trď^
+ */
+public final class IntIntObj<C> {
+    public static <C> IntIntObj<C> of(final int a, final int b, final C c) {
+        return new IntIntObj<C>(a, b, c);
+    }
+
+    private final int a;
+    private final int b;
+    private final C c;
+
+    private IntIntObj(final int a, final int b, final C c) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+    }
+
+    public int fstInt() {
+        return this.a;
+    }
+
+    public int sndInt() {
+        return this.b;
+    }
+
+    public Integer fst() {
+        return this.a;
+    }
+
+    public Integer snd() {
+        return this.b;
+    }
+
+    public C trd() {
+        return this.c;
+    }
+
+    /**
+     * @return l {@link FP.T3}
+     */
+    public FP.T3<Integer, Integer, C> toT3() {
+        return FP.t3(fst(), snd(), this.c);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 17;
+        result = 31 * result + this.a;
+        result = 31 * result + this.b;
+        result = 31 * result + ((this.c == null) ? 0 : this.c.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+
+        if (!(o instanceof IntIntObj<?>)) {
+            return false;
+        }
+
+        IntIntObj<?> t = (IntIntObj<?>) o;
+        return this.a == t.a && this.b == t.b
+                && (this.c == t.c || this.c != null && this.c.equals(t.c));
+    }
+
+    @Override
+    public String toString() {
+        return "(" + this.a + "," + this.b + "," + this.c + ")";
+    }
+}
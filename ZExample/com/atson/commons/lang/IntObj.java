@@ -0,0 +1,64 @@
+package com.atson.commons.lang;
+
+/**
+ * fst  int 2-^v<br>
+ * fst  boxing ɂB{@link #fstInt()}  int ̂܂܎oB
+ * {@link FP.T2} Ȃ̂ {@link FP#fst()}, {@link FP#snd()} ɂn (fst() ͌ĂԂт boxing )B
+ *
+ * @param <B> snď^
+ */
+public final class IntObj<B> extends FP.T2<Integer, B> {
+    public static <B> IntObj<B> of(final int a, final B b) {
+        return new IntObj<B>(a, b);
+    }
+
+    private final int a;
+    private final B b;
+
+    private IntObj(final int a, final B b) {
+        this.a = a;
+        this.b = b;
+    }
+
+    public int fstInt() {
+        return this.a;
+    }
+
+    @Override
+    public Integer fst() {
+        return this.a;
+    }
+
+    @Override
+    public B snd() {
+        return this.b;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 17;
+        result = 31 * result + this.a;
+        result = 31 * result + ((this.b == null) ? 0 : this.b.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+
+        if (!(o instanceof IntObj<?>)) {
+            return false;
+        }
+
+        IntObj<?> p = (IntObj<?>) o;
+        return this.a == p.a
+                && (this.b == p.b || this.b != null && this.b.equals(p.b));
+    }
+
+    @Override
+    public String toString() {
+        return "(" + this.a + "," + this.b + ")";
+    }
+}
@@ -0,0 +1,68 @@
+package com.atson.commons.lang;
+
+/**
+ * long  double 2-^v (id, z) ̂悤ȍsɎg<br>
+ * boxing ɂB{@link #fstLong()}, {@link #sndDouble()}  long, double ̂܂܎oB
+ * {@link FP.T2} Ȃ̂ {@link FP#fst()}, {@link FP#snd()} ɂn (fst(), snd() ͌ĂԂт boxing )B
+ * equals  {@link Double#equals(Object)} Ɠ NaN m𓙂A0.0  -0.0 قȂƂ݂ȂB
+ */
+public final class LongDouble extends FP.T2<Long, Double> {
+    public static LongDouble of(final long a, final double b) {
+        return new LongDouble(a, b);
+    }
+
+    private final long a;
+    private final double b;
+
+    private LongDouble(final long a, final double b) {
+        this.a = a;
+        this.b = b;
+    }
+
+    public long fstLong() {
+        return this.a;
+    }
+
+    public double sndDouble() {
+        return this.b;
+    }
+
+    @Override
+    public Long fst() {
+        return this.a;
+    }
+
+    @Override
+    public Double snd() {
+        return this.b;
+    }
+
+    @Override
+    public int hashCode() {
+        final long bits = Double.doubleToLongBits(this.b);
+        int result = 17;
+        result = 31 * result + (int) (this.a ^ (this.a >>> 32));
+        result = 31 * result + (int) (bits ^ (bits >>> 32));
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+
+        if (!(o instanceof LongDouble)) {
+            return false;
+        }
+
+        LongDouble p = (LongDouble) o;
+        return this.a == p.a
+                && Double.doubleToLongBits(this.b) == Double.doubleToLongBits(p.b);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + this.a + "," + this.b + ")";
+    }
+}
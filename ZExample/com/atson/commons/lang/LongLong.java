@@ -0,0 +1,65 @@
+package com.atson.commons.lang;
+
+/**
+ * long 22-^v<br>
+ * boxing ɂB{@link #fstLong()}, {@link #sndLong()}  long ̂܂܎oB
+ * {@link FP.T2} Ȃ̂ {@link FP#fst()}, {@link FP#snd()} ɂn (fst(), snd() ͌ĂԂт boxing )B
+ */
+public final class LongLong extends FP.T2<Long, Long> {
+    public static LongLong of(final long a, final long b) {
+        return new LongLong(a, b);
+    }
+
+    private final long a;
+    private final long b;
+
+    private LongLong(final long a, final long b) {
+        this.a = a;
+        this.b = b;
+    }
+
+    public long fstLong() {
+        return this.a;
+    }
+
+    public long sndLong() {
+        return this.b;
+    }
+
+    @Override
+    public Long fst() {
+        return this.a;
+    }
+
+    @Override
+    public Long snd() {
+        return this.b;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 17;
+        result = 31 * result + (int) (this.a ^ (this.a >>> 32));
+        result = 31 * result + (int) (this.b ^ (this.b >>> 32));
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+
+        if (!(o instanceof LongLong)) {
+            return false;
+        }
+
+        LongLong p = (LongLong) o;
+        return this.a == p.a && this.b == p.b;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + this.a + "," + this.b + ")";
+    }
+}
@@ -0,0 +1,248 @@
+package com.atson.commons.lang;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.atson.commons.lang.FP.EFun;
+import com.atson.commons.lang.FP.Fun;
+
+/**
+ * ʂoĂ֐ XbhZ[t<br>
+ *
+ * <p>
+ *  (equals ^) 2ڈȍ~ɌĂ΂ƁÅ֐Ă΂ɊoĂʂԂB
+ * ʂ null ̏ꍇoĂB̊֐O𓊂ꍇ͊oȂB
+ * </p>
+ * <p>
+ * \̃bN͌̊֐ĂłԂ͕ێȂ̂ŁÅ֐ Memo ċAIɌĂł悢B
+ * ̑AœɌĂ΂ƌ̊֐Ă΂邱Ƃ (ʂ͂ǂꂩ1o)B
+ * ̊֐͕pȂAɂ͓ʂԂƁB
+ * </p>
+ * 쐬 {@link FP#memo(Fun)}, {@link FP#memoLru(Fun, int)}, {@link FP#memoWeak(Fun)},
+ * {@link FP#memoFix(Fun)}, {@link FP#ememo(EFun)} ōsB
+ *
+ * @param <A> ̌^
+ * @param <B> ʂ̌^
+ * @param <X> ̊֐Ǒ^
+ */
+public class Memo<A, B, X extends Exception> implements EFun<A, B, X> {
+
+    /**
+     * {@link Fun} o Memo
+     */
+    public static final class MemoFun<A, B> extends Memo<A, B, RuntimeException> implements Fun<A, B> {
+        MemoFun(final EFun<? super A, ? extends B, ? extends RuntimeException> fun, final Table table) {
+            super(fun, table);
+        }
+    }
+
+    // ConcurrentHashMap  null Ȃ̂Œu
+    private static final Object NULL = new Object();
+
+    private final EFun<? super A, ? extends B, ? extends X> fun;
+    private final Table table;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    Memo(final EFun<? super A, ? extends B, ? extends X> fun, final Table table) {
+        this.fun = fun;
+        this.table = table;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public B app(final A a) throws X {
+        final Object key = a == null ? NULL : a;
+        final Object v = this.table.get(key);
+        if (v != null) {
+            this.hits.increment();
+            return v == NULL ? null : (B) v;
+        }
+        this.misses.increment();
+        final B b = this.fun.app(a);
+        this.table.put(key, b == null ? NULL : b);
+        return b;
+    }
+
+    /**
+     * @return oĂʂԂ
+     */
+    public long hitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @return ̊֐Ă񂾉
+     */
+    public long missCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @return hitCount / (hitCount + missCount) 1xĂ΂ĂȂ0
+     */
+    public double hitRate() {
+        final long h = hitCount();
+        final long total = h + missCount();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /**
+     * @return oĂ錋ʂ̐
+     */
+    public int size() {
+        return this.table.size();
+    }
+
+    /**
+     * oĂ錋ʂ̂ĂBv͎cB
+     */
+    public void clear() {
+        this.table.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "Memo(size=" + size() + ", hits=" + hitCount() + ", misses=" + missCount() + ")";
+    }
+
+    /**
+     * ʂ̕\ l null łȂ
+     */
+    static abstract class Table {
+        abstract Object get(Object key);
+        abstract void put(Object key, Object value);
+        abstract int size();
+        abstract void clear();
+    }
+
+    /**
+     * Ȃ̕\
+     */
+    static Table concurrentTable() {
+        return new Table() {
+            private final ConcurrentHashMap<Object, Object> map = new ConcurrentHashMap<Object, Object>();
+
+            @Override Object get(final Object key) { return this.map.get(key); }
+            @Override void put(final Object key, final Object value) { this.map.putIfAbsent(key, value); }
+            @Override int size() { return this.map.size(); }
+            @Override void clear() { this.map.clear(); }
+        };
+    }
+
+    // \𕪂ő吔
+    private static final int STRIPES = 16;
+
+    /**
+     * nbVlŕ\𕪂Aꂼʂ̃bNŎB
+     * LRU ͕\ƂȂ̂ŁAŜł͋ߎɂȂB
+     */
+    private static abstract class StripedTable extends Table {
+        private final Map<Object, Object>[] stripes;
+
+        @SuppressWarnings("unchecked")
+        StripedTable(final int n) {
+            this.stripes = (Map<Object, Object>[]) new Map<?, ?>[n];
+            for (int i = 0; i < n; i++) {
+                this.stripes[i] = newStripe();
+            }
+        }
+
+        abstract Map<Object, Object> newStripe();
+
+        private Map<Object, Object> stripe(final Object key) {
+            int h = key.hashCode() * 0x9E3779B9;
+            h ^= h >>> 16;
+            return this.stripes[h & (this.stripes.length - 1)];
+        }
+
+        @Override
+        Object get(final Object key) {
+            final Map<Object, Object> s = stripe(key);
+            synchronized (s) {
+                return s.get(key);
+            }
+        }
+
+        @Override
+        void put(final Object key, final Object value) {
+            final Map<Object, Object> s = stripe(key);
+            synchronized (s) {
+                if (!s.containsKey(key)) {
+                    s.put(key, value);
+                }
+            }
+        }
+
+        @Override
+        int size() {
+            int n = 0;
+            for (Map<Object, Object> s : this.stripes) {
+                synchronized (s) {
+                    n += s.size();
+                }
+            }
+            return n;
+        }
+
+        @Override
+        void clear() {
+            for (Map<Object, Object> s : this.stripes) {
+                synchronized (s) {
+                    s.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * ŋߎgĂȂ̂̂Ă\ Ŝł悻 maxSize ܂Ŋo
+     */
+    static Table lruTable(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        final int n = Math.min(STRIPES, Integer.highestOneBit(maxSize));
+        final int perStripe = (maxSize + n - 1) / n;
+        return new StripedTable(n) {
+            @Override
+            Map<Object, Object> newStripe() {
+                return new LinkedHashMap<Object, Object>(16, 0.75f, true) {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected boolean removeEldestEntry(final Map.Entry<Object, Object> eldest) {
+                        return size() > perStripe;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * L[QƂŎ\ L[قQƂȂȂƌʂ̂Ă
+     */
+    static Table weakTable() {
+        return new StripedTable(STRIPES) {
+            @Override
+            Map<Object, Object> newStripe() {
+                return new WeakHashMap<Object, Object>();
+            }
+        };
+    }
+
+    /**
+     * ċAĂяo Memo Ɍ邽߂̊֐ {̂ Memo Ăݒ肷
+     */
+    static final class Knot<A, B> implements Fun<A, B> {
+        volatile Fun<? super A, ? extends B> body;
+
+        @Override
+        public B app(final A a) {
+            return this.body.app(a);
+        }
+    }
+}
@@ -0,0 +1,481 @@
+package com.atson.commons.lang;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.atson.commons.collection.GroupTable;
+import com.atson.commons.collection.IntList;
+import com.atson.commons.collection.TopKHeap;
+import com.atson.commons.lang.FP.Fun;
+import com.atson.commons.lang.FP.Fun2;
+import com.atson.commons.sql.Data;
+import com.atson.commons.sql.Data.Maybe;
+
+/**
+ * {@link FP} ̊֐̕<br>
+ *
+ * <p>
+ * XgԂɕA{@link ForkJoinPool#commonPool()} ŕɌvZB
+ * Ԃɕ̂ŁA {@link RandomAccess} ȃXgzɌBȊÕXg͍ŏ ArrayList ɃRs[B
+ * ʂ̏͒łƓB
+ * </p>
+ * <p>
+ * ݍ݂ {@link Data.Monoid} ̌ (mappend(mappend(x, y), z) == mappend(x, mappend(y, z))) g
+ * ԂƂ̌ʂ؂̌` mappend ̂ŁA𖞂Ȃ Monoid nĂ͂ȂB
+ * any/all/find ͏𖞂vfƁA܂n܂ĂȂԂƎs̋Ԃł؂B
+ * </p>
+ * n֐̓XbhZ[tłȂ΂ȂȂB֐sO͌ĂяoɓB
+ */
+final public class ParFP { private ParFP() {FP.noInstance();}
+
+    // 1Ԃ̍ŏ̗vf
+    private static final int MIN_GRAIN = 16;
+    // xɑ΂Ԑ̔{ ԂƂׂ̂̕΂z
+    private static final int SPLIT_FACTOR = 8;
+
+    private static int grain(final int n) {
+        final int parallelism = ForkJoinPool.commonPool().getParallelism();
+        return Math.max(MIN_GRAIN, n / (parallelism * SPLIT_FACTOR));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> List<A> randomAccess(final List<? extends A> xs) {
+        return xs instanceof RandomAccess ? (List<A>) xs : new ArrayList<A>(xs);
+    }
+
+    /**
+     * [lo, hi)  grain ȉɂȂ܂Ŕɕ leaf Ă
+     */
+    private static abstract class Range extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        final int lo;
+        final int hi;
+        final int grain;
+
+        Range(final int lo, final int hi, final int grain) {
+            this.lo = lo;
+            this.hi = hi;
+            this.grain = grain;
+        }
+
+        abstract Range sub(int lo, int hi);
+
+        abstract void leaf(int lo, int hi);
+
+        /**
+         * @return truȅꍇȍ~̋ԂvZȂ
+         */
+        boolean cancelled() {
+            return false;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled()) {
+                return;
+            }
+            if (this.hi - this.lo <= this.grain) {
+                leaf(this.lo, this.hi);
+                return;
+            }
+            final int mid = (this.lo + this.hi) >>> 1;
+            invokeAll(sub(this.lo, mid), sub(mid, this.hi));
+        }
+    }
+
+    /**
+     * map :: (a -> b) -> [a] -> [b]
+     * @see FP.ArrayListJ#map(Fun, Iterable)
+     */
+    public static <A, B> ArrayList<B> map(final Fun<? super A, ? extends B> fun,
+            final List<? extends A> xs) {
+        final List<A> in = randomAccess(xs);
+        final ArrayList<B> out = new ArrayList<B>(Collections.<B>nCopies(in.size(), null));
+        final class MapRange extends Range {
+            private static final long serialVersionUID = 1L;
+
+            MapRange(final int lo, final int hi, final int grain) {
+                super(lo, hi, grain);
+            }
+
+            @Override
+            Range sub(final int lo, final int hi) {
+                return new MapRange(lo, hi, this.grain);
+            }
+
+            @Override
+            void leaf(final int lo, final int hi) {
+                for (int i = lo; i < hi; i++) {
+                    out.set(i, fun.app(in.get(i)));
+                }
+            }
+        }
+        // قȂYւ set ݂͌ɊAinvoke ̊Ōʂ
+        ForkJoinPool.commonPool().invoke(new MapRange(0, in.size(), grain(in.size())));
+        return out;
+    }
+
+    public static <A, B> ArrayList<B> map(final Fun<? super A, ? extends B> fun, final A[] xs) {
+        return map(fun, Arrays.asList(xs));
+    }
+
+    /**
+     * filter :: (a -> Bool) -> [a] -> [a]
+     * @see FP.ArrayListJ#filter(Fun, Iterable)
+     */
+    public static <A> ArrayList<A> filter(final Fun<? super A, Boolean> pred,
+            final List<? extends A> xs) {
+        final List<A> in = randomAccess(xs);
+        final int grain = grain(in.size());
+        final int chunks = (in.size() + grain - 1) / grain;
+        // ԂƂ̌ Ԃ̋E grain ̔{ɑēY߂
+        final ArrayList<ArrayList<A>> parts = new ArrayList<ArrayList<A>>(
+                Collections.<ArrayList<A>>nCopies(chunks, null));
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute() {
+                final ArrayList<RecursiveAction> tasks = new ArrayList<RecursiveAction>(chunks);
+                for (int c = 0; c < chunks; c++) {
+                    final int chunk = c;
+                    tasks.add(new RecursiveAction() {
+                        private static final long serialVersionUID = 1L;
+
+                        @Override
+                        protected void compute() {
+                            final int hi = Math.min(in.size(), (chunk + 1) * grain);
+                            final ArrayList<A> part = new ArrayList<A>();
+                            for (int i = chunk * grain; i < hi; i++) {
+                                final A a = in.get(i);
+                                if (pred.app(a)) {
+                                    part.add(a);
+                                }
+                            }
+                            parts.set(chunk, part);
+                        }
+                    });
+                }
+                invokeAll(tasks);
+            }
+        });
+        int size = 0;
+        for (ArrayList<A> part : parts) {
+            size += part.size();
+        }
+        final ArrayList<A> rv = new ArrayList<A>(size);
+        for (ArrayList<A> part : parts) {
+            rv.addAll(part);
+        }
+        return rv;
+    }
+
+    public static <A> ArrayList<A> filter(final Fun<? super A, Boolean> pred, final A[] xs) {
+        return filter(pred, Arrays.asList(xs));
+    }
+
+    /**
+     * foldMap :: Monoid m => (a -> m) -> [a] -> m<br>
+     * ԂƂ {@link Data.Monoid#mconcat(Iterable)} Ǎʂvf̏ۂ܂ mappend B
+     */
+    public static <A, M> M foldMap(final Data.Monoid<M> m, final Fun<? super A, ? extends M> fun,
+            final List<? extends A> xs) {
+        final List<A> in = randomAccess(xs);
+        final int grain = grain(in.size());
+        final class Fold extends RecursiveTask<M> {
+            private static final long serialVersionUID = 1L;
+            final int lo;
+            final int hi;
+
+            Fold(final int lo, final int hi) {
+                this.lo = lo;
+                this.hi = hi;
+            }
+
+            @Override
+            protected M compute() {
+                if (this.hi - this.lo <= grain) {
+                    // ԓ mconcat ł܂Ƃ߂ĘA
+                    final ArrayList<M> ms = new ArrayList<M>(this.hi - this.lo);
+                    for (int i = this.lo; i < this.hi; i++) {
+                        ms.add(fun.app(in.get(i)));
+                    }
+                    return m.mconcat(ms);
+                }
+                final int mid = (this.lo + this.hi) >>> 1;
+                final Fold right = new Fold(mid, this.hi);
+                right.fork();
+                final M l = new Fold(this.lo, mid).compute();
+                return m.mappend(l, right.join());
+            }
+        }
+        return ForkJoinPool.commonPool().invoke(new Fold(0, in.size()));
+    }
+
+    public static <A, M> M foldMap(final Data.Monoid<M> m, final Fun<? super A, ? extends M> fun,
+            final A[] xs) {
+        return foldMap(m, fun, Arrays.asList(xs));
+    }
+
+    /**
+     * mconcat :: Monoid m => [m] -> m ̕
+     */
+    public static <M> M mconcat(final Data.Monoid<M> m, final List<? extends M> xs) {
+        return foldMap(m, FP.<M>id(), xs);
+    }
+
+    /**
+     * pred 𖞂ŏ̓YT Ȃ -1
+     *
+     * @param first truȅꍇŏ̓YT falsȅꍇǂꂩ1Αł؂
+     */
+    private static <A> int indexOf(final Fun<? super A, Boolean> pred, final List<A> in,
+            final boolean first) {
+        final AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        final class Search extends Range {
+            private static final long serialVersionUID = 1L;
+
+            Search(final int lo, final int hi, final int grain) {
+                super(lo, hi, grain);
+            }
+
+            @Override
+            Range sub(final int lo, final int hi) {
+                return new Search(lo, hi, this.grain);
+            }
+
+            @Override
+            boolean cancelled() {
+                // ŏTꍇ͌Y̋Ԃł؂
+                final int f = found.get();
+                return first ? f < this.lo : f != Integer.MAX_VALUE;
+            }
+
+            @Override
+            void leaf(final int lo, final int hi) {
+                for (int i = lo; i < hi; i++) {
+                    if ((i & 63) == 0 && cancelled()) {
+                        return;
+                    }
+                    if (pred.app(in.get(i))) {
+                        for (int f; i < (f = found.get());) {
+                            if (found.compareAndSet(f, i)) {
+                                break;
+                            }
+                        }
+                        return;
+                    }
+                }
+            }
+        }
+        ForkJoinPool.commonPool().invoke(new Search(0, in.size(), grain(in.size())));
+        final int f = found.get();
+        return f == Integer.MAX_VALUE ? -1 : f;
+    }
+
+    /**
+     * @see FP#any(Fun, Iterable)
+     */
+    public static <A> boolean any(final Fun<? super A, Boolean> pred, final List<? extends A> xs) {
+        return indexOf(pred, ParFP.<A>randomAccess(xs), false) >= 0;
+    }
+
+    public static <A> boolean any(final Fun<? super A, Boolean> pred, final A[] xs) {
+        return any(pred, Arrays.asList(xs));
+    }
+
+    /**
+     * @see FP#all(Fun, Iterable)
+     */
+    public static <A> boolean all(final Fun<? super A, Boolean> pred, final List<? extends A> xs) {
+        return indexOf(new Fun<A, Boolean>() {
+            @Override
+            public Boolean app(final A a) {
+                return !pred.app(a);
+            }
+        }, ParFP.<A>randomAccess(xs), false) < 0;
+    }
+
+    public static <A> boolean all(final Fun<? super A, Boolean> pred, final A[] xs) {
+        return all(pred, Arrays.asList(xs));
+    }
+
+    /**
+     * łƓApred 𖞂ŏ̗vfԂB
+     * @see Data#find(Fun, Iterable)
+     */
+    public static <A> Maybe<A> find(final Fun<? super A, Boolean> pred, final List<? extends A> xs) {
+        final List<A> in = randomAccess(xs);
+        final int i = indexOf(pred, in, true);
+        return i < 0 ? Data.<A>nothing() : Data.just(in.get(i));
+    }
+
+    public static <A> Maybe<A> find(final Fun<? super A, Boolean> pred, final A[] xs) {
+        return find(pred, Arrays.asList(xs));
+    }
+
+    /**
+     * ԂƂ leaf ŕ\AO̕\Ɍ㔼̕\ merge ŕ
+     */
+    private static <A, K, V> GroupTable<K, V> buildTable(final List<? extends A> xs,
+            final Fun<List<A>, GroupTable<K, V>> leaf,
+            final Fun2<GroupTable<K, V>, GroupTable<K, V>, GroupTable<K, V>> merge) {
+        final List<A> in = randomAccess(xs);
+        final int grain = grain(in.size());
+        final class Build extends RecursiveTask<GroupTable<K, V>> {
+            private static final long serialVersionUID = 1L;
+            final int lo;
+            final int hi;
+
+            Build(final int lo, final int hi) {
+                this.lo = lo;
+                this.hi = hi;
+            }
+
+            @Override
+            protected GroupTable<K, V> compute() {
+                if (this.hi - this.lo <= grain) {
+                    return leaf.app(in.subList(this.lo, this.hi));
+                }
+                final int mid = (this.lo + this.hi) >>> 1;
+                final Build right = new Build(mid, this.hi);
+                right.fork();
+                final GroupTable<K, V> l = new Build(this.lo, mid).compute();
+                return merge.app(l, right.join());
+            }
+        }
+        return ForkJoinPool.commonPool().invoke(new Build(0, in.size()));
+    }
+
+    /**
+     * l m  mappend ĕ
+     */
+    private static <K, V> Fun2<GroupTable<K, V>, GroupTable<K, V>, GroupTable<K, V>>
+        mergeWith(final Data.Monoid<V> m) {
+        return new Fun2<GroupTable<K, V>, GroupTable<K, V>, GroupTable<K, V>>() {
+            @Override
+            public GroupTable<K, V> app(final GroupTable<K, V> l, final GroupTable<K, V> r) {
+                return l.merge(r, m);
+            }
+        };
+    }
+
+    /**
+     * {@link GroupTable#groupingBy(Fun, Iterable)} ̕ ʂ̏͒łƓ
+     */
+    public static <A, K> GroupTable<K, ArrayList<A>>
+        groupingBy(final Fun<? super A, ? extends K> key, final List<? extends A> xs) {
+        return buildTable(xs, new Fun<List<A>, GroupTable<K, ArrayList<A>>>() {
+            @Override
+            public GroupTable<K, ArrayList<A>> app(final List<A> part) {
+                return GroupTable.groupingBy(key, part);
+            }
+        }, new Fun2<GroupTable<K, ArrayList<A>>, GroupTable<K, ArrayList<A>>, GroupTable<K, ArrayList<A>>>() {
+            // \͋ԂƂɍ̂Ȃ̂ŁA̕\̃XgɒǉĂ悢
+            @Override
+            public GroupTable<K, ArrayList<A>> app(final GroupTable<K, ArrayList<A>> l,
+                    final GroupTable<K, ArrayList<A>> r) {
+                return GroupTable.mergeGroups(l, r);
+            }
+        });
+    }
+
+    /**
+     * {@link GroupTable#countBy(Fun, Iterable)} ̕
+     */
+    public static <A, K> GroupTable<K, Integer>
+        countBy(final Fun<? super A, ? extends K> key, final List<? extends A> xs) {
+        return buildTable(xs, new Fun<List<A>, GroupTable<K, Integer>>() {
+            @Override
+            public GroupTable<K, Integer> app(final List<A> part) {
+                return GroupTable.countBy(key, part);
+            }
+        }, ParFP.<K, Integer>mergeWith(Data.intSumMonoid));
+    }
+
+    /**
+     * {@link GroupTable#foldBy(Fun, Fun, Data.Monoid, Iterable)} ̕
+     */
+    public static <A, K, V> GroupTable<K, V>
+        foldBy(final Fun<? super A, ? extends K> key, final Fun<? super A, ? extends V> value,
+               final Data.Monoid<V> m, final List<? extends A> xs) {
+        return buildTable(xs, new Fun<List<A>, GroupTable<K, V>>() {
+            @Override
+            public GroupTable<K, V> app(final List<A> part) {
+                return GroupTable.foldBy(key, value, m, part);
+            }
+        }, ParFP.<K, V>mergeWith(m));
+    }
+
+    /**
+     * ԂƂɃq[v k IсAq[v𕹍
+     */
+    private static <A> TopKHeap<A> collectK(final List<? extends A> xs, final int k,
+            final Comparator<? super A> c, final boolean top) {
+        final List<A> in = randomAccess(xs);
+        final int grain = Math.max(grain(in.size()), k);
+        final class Select extends RecursiveTask<TopKHeap<A>> {
+            private static final long serialVersionUID = 1L;
+            final int lo;
+            final int hi;
+
+            Select(final int lo, final int hi) {
+                this.lo = lo;
+                this.hi = hi;
+            }
+
+            @Override
+            protected TopKHeap<A> compute() {
+                if (this.hi - this.lo <= grain) {
+                    final TopKHeap<A> h = top ? TopKHeap.<A>top(k, c) : TopKHeap.<A>bottom(k, c);
+                    for (int i = this.lo; i < this.hi; i++) {
+                        h.offer(in.get(i), i);
+                    }
+                    return h;
+                }
+                final int mid = (this.lo + this.hi) >>> 1;
+                final Select right = new Select(mid, this.hi);
+                right.fork();
+                final TopKHeap<A> l = new Select(this.lo, mid).compute();
+                return l.merge(right.join());
+            }
+        }
+        return ForkJoinPool.commonPool().invoke(new Select(0, in.size()));
+    }
+
+    /**
+     * @see FP#topK(int, Comparator, Iterable)
+     */
+    public static <A> ArrayList<A> topK(final int k, final Comparator<? super A> c, final List<? extends A> xs) {
+        return ParFP.<A>collectK(xs, k, c, true).toList();
+    }
+
+    /**
+     * @see FP#bottomK(int, Comparator, Iterable)
+     */
+    public static <A> ArrayList<A> bottomK(final int k, final Comparator<? super A> c, final List<? extends A> xs) {
+        return ParFP.<A>collectK(xs, k, c, false).toList();
+    }
+
+    /**
+     * @see FP#topKIndices(int, Comparator, Iterable)
+     */
+    public static <A> IntList topKIndices(final int k, final Comparator<? super A> c, final List<? extends A> xs) {
+        return ParFP.<A>collectK(xs, k, c, true).toIndices();
+    }
+
+    /**
+     * @see FP#bottomKIndices(int, Comparator, Iterable)
+     */
+    public static <A> IntList bottomKIndices(final int k, final Comparator<? super A> c, final List<? extends A> xs) {
+        return ParFP.<A>collectK(xs, k, c, false).toIndices();
+    }
+}
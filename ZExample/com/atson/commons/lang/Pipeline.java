@@ -0,0 +1,240 @@
+package com.atson.commons.lang;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+
+import com.atson.commons.lang.FP.Consumer;
+import com.atson.commons.lang.FP.Fun;
+
+/**
+ * {@link FP.ArrayListJ}, {@link FP.LinkedListJ}  map/filter/mapi/takeWhile/take 
+ * r̃Xg炸1̃[vŎs<br>
+ *
+ * <p>
+ * iςނł͉vZA{@link #toArrayList()} Ȃǂ̏I[ł܂Ƃ߂ĎsB
+ * ʂ͐ÓI֐ɓKpꍇƓɂȂB
+ *  take/takeWhile őł؂̗vfɂẮAO̒i̊֐Ă΂ȂB
+ * </p>
+ * Pipeline ͕sςȂ̂ŁA Pipeline ̏I[xĂł悢B
+ * <pre>
+ * ArrayList&lt;String&gt; names = Pipeline.from(users).filter(isActive).map(getName).take(10).toArrayList();
+ * // Ɠ
+ * ArrayListJ.take(10, ArrayListJ.map(getName, ArrayListJ.filter(isActive, users)));
+ * </pre>
+ *
+ * @param <A> Ō̒ȉo͂̌^
+ */
+final public class Pipeline<A> {
+
+    /**
+     * 1vf󂯎i
+     */
+    private static abstract class Sink {
+        /**
+         * @return Ď̗vf󂯎ꍇtrue
+         */
+        abstract boolean accept(Object a);
+    }
+
+    /**
+     * i̒` ŝт Sink 
+     */
+    private static abstract class Stage {
+        final Stage prev;
+
+        Stage(final Stage prev) {
+            this.prev = prev;
+        }
+
+        abstract Sink sink(Sink next);
+    }
+
+    private final Iterable<?> source;
+    private final Stage last;
+    // vfςȂȉꍇtrue
+    private final boolean sized;
+    // take ̍ŏl Ȃ Integer.MAX_VALUE
+    private final int limit;
+
+    private Pipeline(final Iterable<?> source, final Stage last, final boolean sized, final int limit) {
+        this.source = source;
+        this.last = last;
+        this.sized = sized;
+        this.limit = limit;
+    }
+
+    public static <A> Pipeline<A> from(final Iterable<? extends A> ite) {
+        return new Pipeline<A>(ite, null, true, Integer.MAX_VALUE);
+    }
+
+    public static <A> Pipeline<A> from(final A[] arr) {
+        return from(Arrays.asList(arr));
+    }
+
+    /**
+     * @see FP.ArrayListJ#map(Fun, Iterable)
+     */
+    public <B> Pipeline<B> map(final Fun<? super A, ? extends B> fun) {
+        return new Pipeline<B>(this.source, new Stage(this.last) {
+            @Override
+            Sink sink(final Sink next) {
+                return new Sink() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    boolean accept(final Object a) {
+                        return next.accept(fun.app((A) a));
+                    }
+                };
+            }
+        }, this.sized, this.limit);
+    }
+
+    /**
+     * Y͂̒iɓ͂vf̔ԍ (O̒ǐʂ̃Xgł̓Y) ɂȂ
+     * @see FP.ArrayListJ#mapi(Fun, Iterable)
+     */
+    public <B> Pipeline<B> mapi(final Fun<? super Pair<Integer, A>, ? extends B> fun) {
+        return new Pipeline<B>(this.source, new Stage(this.last) {
+            @Override
+            Sink sink(final Sink next) {
+                return new Sink() {
+                    private int i = 0;
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    boolean accept(final Object a) {
+                        return next.accept(fun.app(Pair.of(this.i++, (A) a)));
+                    }
+                };
+            }
+        }, this.sized, this.limit);
+    }
+
+    /**
+     * @see FP.ArrayListJ#filter(Fun, Iterable)
+     */
+    public Pipeline<A> filter(final Fun<? super A, Boolean> pred) {
+        return new Pipeline<A>(this.source, new Stage(this.last) {
+            @Override
+            Sink sink(final Sink next) {
+                return new Sink() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    boolean accept(final Object a) {
+                        return !pred.app((A) a) || next.accept(a);
+                    }
+                };
+            }
+        }, false, this.limit);
+    }
+
+    /**
+     * @see FP.ArrayListJ#takeWhile(Fun, Iterable)
+     */
+    public Pipeline<A> takeWhile(final Fun<? super A, Boolean> pred) {
+        return new Pipeline<A>(this.source, new Stage(this.last) {
+            @Override
+            Sink sink(final Sink next) {
+                return new Sink() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    boolean accept(final Object a) {
+                        return pred.app((A) a) && next.accept(a);
+                    }
+                };
+            }
+        }, false, this.limit);
+    }
+
+    /**
+     * n񐳐̏ꍇAʂ͋ɂȂ
+     * @see FP.ArrayListJ#take(int, Iterable)
+     */
+    public Pipeline<A> take(final int n) {
+        return new Pipeline<A>(this.source, new Stage(this.last) {
+            @Override
+            Sink sink(final Sink next) {
+                return new Sink() {
+                    private int count = 0;
+
+                    @Override
+                    boolean accept(final Object a) {
+                        if (this.count >= n) {
+                            return false;
+                        }
+                        this.count++;
+                        return next.accept(a) && this.count < n;
+                    }
+                };
+            }
+        }, this.sized, Math.min(this.limit, Math.max(n, 0)));
+    }
+
+    /**
+     * SisČʂ out ɉB
+     *
+     * @return out
+     */
+    public <C extends Collection<? super A>> C into(final C out) {
+        run(new Sink() {
+            @Override
+            @SuppressWarnings("unchecked")
+            boolean accept(final Object a) {
+                out.add((A) a);
+                return true;
+            }
+        });
+        return out;
+    }
+
+    /**
+     * SisČʂ ArrayList ŕԂB
+     *  Collection  filter/takeWhile ȂΌʂ̑傫ŊmۂB
+     */
+    public ArrayList<A> toArrayList() {
+        final int size = sizeOrMinus();
+        return into(size < 0 ? new ArrayList<A>() : new ArrayList<A>(size));
+    }
+
+    public LinkedList<A> toLinkedList() {
+        return into(new LinkedList<A>());
+    }
+
+    /**
+     * SisČʂ1 f ɓnB
+     */
+    public void forEach(final Consumer<? super A> f) {
+        run(new Sink() {
+            @Override
+            @SuppressWarnings("unchecked")
+            boolean accept(final Object a) {
+                f.accept((A) a);
+                return true;
+            }
+        });
+    }
+
+    private int sizeOrMinus() {
+        if (!this.sized || !(this.source instanceof Collection)) {
+            return this.limit == 0 ? 0 : -1;
+        }
+        return Math.min(((Collection<?>) this.source).size(), this.limit);
+    }
+
+    private void run(final Sink terminal) {
+        if (this.limit == 0) {
+            return;
+        }
+        Sink sink = terminal;
+        for (Stage s = this.last; s != null; s = s.prev) {
+            sink = s.sink(sink);
+        }
+        for (Object a : this.source) {
+            if (!sink.accept(a)) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,629 @@
+package com.atson.commons.sql;
+
+import java.beans.ConstructorProperties;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ResultSet̗񃉃xBeañvpeBɋl߂ {@link Accessors.Creator}<br>
+ *
+ * <p>
+ * 񃉃xƃvpeB͑啶 '_' 𖳎Ĕׂ (SHOP_CODE  shopCode ɂȂ)B
+ * vpeB public ȃZb^[Apublic  final łȂtB[hA
+ * {@link ConstructorProperties} RXgN^̈B
+ * RXgN^ׂ͈ėɂ̂̂̍ł̂gAȂΈȂ̃RXgN^gB
+ * RXgN^̈ɂȂȂ̓Zb^[tB[hɐݒ肷B
+ * ΉvpeB̂Ȃ񂪂SQLExceptionX[B̂ȂvpeB͐ݒ肵ȂB
+ * </p>
+ * <p>
+ * ǂ̃vpeBɂǂ getXxx œǂނ́ANXƗ񃉃x̕тƂ1x߂ĊoĂB
+ * ResultSet2sڈȍ~̓^f[^ȂBŌɓǂResultSet̓XbhƂɊôŁA
+ * 1 BeanCreator 𕡐̃XbhłꂼʂResultSetǂނ̂ɋLĂ悢B
+ * 1sƂ̏̓tNVg킸AMethodHandle ŃZb^[ȂǂĂԁB
+ * int, long, double, boolean ̃vpeBɂ getInt Ȃǂœǂ񂾒l boxing ɓnB
+ * v~eBu^̃vpeB̗null̏ꍇSQLExceptionX[B
+ * </p>
+ * ̓ǂݕ̓vpeB̌^Ō߂B
+ * String, l^Ƃ̃bp[, BigDecimal, byte[], java.sql.Date, Time, Timestamp ͑Ή getXxx ŁA
+ * java.util.Date  getTimestamp ŁA{@link CodeProperty} Enum̓R[hAȊOEnum͖OœǂށB
+ * ȊǑ^ {@link JdbcFP#get(Class, ResultSet, Integer)} œǂށB
+ * XbhZ[tB
+ *
+ * <pre>
+ * DataReader&lt;Shop&gt; shops = JdbcFP.dataReader(conn,
+ *     JdbcFP.query("SELECT SHOP_CODE, SHOP_NAME FROM SHOP", JdbcFP.beanCreator(Shop.class), JdbcFP.noBind()));
+ * </pre>
+ *
+ * @param <T> Beaň^
+ */
+final public class BeanCreator<T> implements Accessors.Creator<T> {
+
+    private final Target target;
+    // 0ȉȂ startColumn Ō̗܂
+    private final int width;
+    // ResultSet1̃Xbhœǂނ̂ŁÃXbhResultSetŏ㏑Ȃ悤XbhƂɎ
+    private final ThreadLocal<Bound> last = new ThreadLocal<Bound>();
+
+    private BeanCreator(final Target target, final int width) {
+        this.target = target;
+        this.width = width;
+    }
+
+    /**
+     * startColumn Ō̗܂ł type ɋl߂ Creator
+     *
+     * @throws IllegalArgumentException type ɎgRXgN^Ȃꍇ
+     */
+    public static <T> BeanCreator<T> of(final Class<T> type) {
+        return new BeanCreator<T>(TARGETS.get(type), 0);
+    }
+
+    /**
+     * startColumn  width  type ɋl߂ Composer
+     *
+     * @throws IllegalArgumentException type ɎgRXgN^Ȃꍇ
+     */
+    public static <T> Accessors.Composer<T> composer(final Class<T> type, final int width) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("width must be positive: " + width);
+        }
+        final BeanCreator<T> c = new BeanCreator<T>(TARGETS.get(type), width);
+        return new Accessors.Composer<T>() {
+            @Override
+            public T create(final ResultSet rs, final int startColumn) throws SQLException {
+                return c.create(rs, startColumn);
+            }
+
+            @Override
+            public int width() {
+                return width;
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T create(final ResultSet rs, final int startColumn) throws SQLException {
+        Bound b = this.last.get();
+        if (b == null || b.rs.get() != rs || b.startColumn != startColumn) {
+            b = new Bound(rs, startColumn, this.target.plan(rs.getMetaData(), startColumn, this.width));
+            this.last.set(b);
+        }
+        return (T) b.plan.create(rs, startColumn);
+    }
+
+    /**
+     * XbhŌɓǂResultSetƂ Plan ResultSetȂ悤QƂɂ
+     */
+    private static final class Bound {
+        final WeakReference<ResultSet> rs;
+        final int startColumn;
+        final Plan plan;
+
+        Bound(final ResultSet rs, final int startColumn, final Plan plan) {
+            this.rs = new WeakReference<ResultSet>(rs);
+            this.startColumn = startColumn;
+            this.plan = plan;
+        }
+    }
+
+    private static final ClassValue<Target> TARGETS = new ClassValue<Target>() {
+        @Override
+        protected Target computeValue(final Class<?> type) {
+            return new Target(type);
+        }
+    };
+
+    /**
+     * 񃉃xvpeBׂ邽߂̌`
+     */
+    private static String normalize(final String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * lߐ̃NX̃vpeBƃRXgN^ NXƂ1
+     */
+    private static final class Target {
+        final Class<?> type;
+        // KO -> vpeB
+        final HashMap<String, Property> properties = new HashMap<String, Property>();
+        final ArrayList<Ctor> ctors = new ArrayList<Ctor>();
+        // ^ ()Object
+        final MethodHandle noArg;
+        // 񃉃x̕ -> Plan
+        final ConcurrentHashMap<List<String>, Plan> plans = new ConcurrentHashMap<List<String>, Plan>();
+
+        Target(final Class<?> type) {
+            this.type = type;
+            if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isPrimitive() || type.isArray()) {
+                throw new IllegalArgumentException("not a bean class: " + type.getName());
+            }
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            try {
+                for (Field f : type.getFields()) {
+                    final int mod = f.getModifiers();
+                    if (!Modifier.isStatic(mod) && !Modifier.isFinal(mod)) {
+                        this.properties.put(normalize(f.getName()), new Property(f.getName(), f.getType(),
+                                lookup.unreflectSetter(accessible(f))));
+                    }
+                }
+                for (PropertyDescriptor pd : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                    final Method w = pd.getWriteMethod();
+                    if (w != null) {
+                        this.properties.put(normalize(pd.getName()), new Property(pd.getName(), pd.getPropertyType(),
+                                lookup.unreflect(accessible(w))));
+                    }
+                }
+                MethodHandle noArg = null;
+                for (Constructor<?> c : type.getDeclaredConstructors()) {
+                    if (Modifier.isPrivate(c.getModifiers())) {
+                        continue;
+                    }
+                    final ConstructorProperties cp = c.getAnnotation(ConstructorProperties.class);
+                    if (cp != null && cp.value().length == c.getParameterTypes().length) {
+                        this.ctors.add(new Ctor(cp.value(), c.getParameterTypes(), lookup.unreflectConstructor(accessible(c))));
+                    } else if (c.getParameterTypes().length == 0) {
+                        noArg = lookup.unreflectConstructor(accessible(c)).asType(MethodType.methodType(Object.class));
+                    }
+                }
+                this.noArg = noArg;
+            } catch (IntrospectionException e) {
+                throw new IllegalArgumentException(type.getName(), e);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException(type.getName(), e);
+            }
+            if (this.noArg == null && this.ctors.isEmpty()) {
+                throw new IllegalArgumentException("no constructor without arguments or with @ConstructorProperties: "
+                        + type.getName());
+            }
+        }
+
+        private static <A extends AccessibleObject> A accessible(final A a) {
+            // public łȂNX public \bh MethodHandle ɂł悤ɂ
+            a.setAccessible(true);
+            return a;
+        }
+
+        /**
+         * @param width 0ȉȂ startColumn Ō̗܂
+         */
+        Plan plan(final ResultSetMetaData md, final int startColumn, final int width) throws SQLException {
+            final int n = width > 0 ? width : md.getColumnCount() - startColumn + 1;
+            final String[] labels = new String[n];
+            for (int i = 0; i < n; i++) {
+                labels[i] = md.getColumnLabel(startColumn + i);
+            }
+            final List<String> key = Arrays.asList(labels);
+            Plan p = this.plans.get(key);
+            if (p == null) {
+                p = compile(labels);
+                final Plan prev = this.plans.putIfAbsent(key, p);
+                if (prev != null) {
+                    p = prev;
+                }
+            }
+            return p;
+        }
+
+        private Plan compile(final String[] labels) throws SQLException {
+            final HashMap<String, Integer> offsets = new HashMap<String, Integer>();
+            for (int i = 0; i < labels.length; i++) {
+                if (offsets.put(normalize(labels[i]), i) != null) {
+                    throw new SQLException("duplicate column label " + labels[i] + " for " + this.type.getName());
+                }
+            }
+
+            Ctor ctor = null;
+            for (Ctor c : this.ctors) {
+                if ((ctor == null || c.names.length > ctor.names.length) && c.matches(offsets)) {
+                    ctor = c;
+                }
+            }
+            if (ctor == null && this.noArg == null) {
+                throw new SQLException("no constructor of " + this.type.getName()
+                        + " matches columns " + Arrays.toString(labels));
+            }
+
+            final boolean[] used = new boolean[labels.length];
+            int[] argOffsets = null;
+            Getter[] argGetters = null;
+            MethodHandle construct = this.noArg;
+            if (ctor != null) {
+                final int m = ctor.names.length;
+                argOffsets = new int[m];
+                argGetters = new Getter[m];
+                for (int k = 0; k < m; k++) {
+                    final Integer off = offsets.get(normalize(ctor.names[k]));
+                    argOffsets[k] = off;
+                    argGetters[k] = getter(ctor.types[k]);
+                    used[off] = true;
+                }
+                construct = ctor.mh;
+            }
+
+            final ArrayList<Column> columns = new ArrayList<Column>();
+            for (int i = 0; i < labels.length; i++) {
+                if (used[i]) {
+                    continue;
+                }
+                final Property p = this.properties.get(normalize(labels[i]));
+                if (p == null) {
+                    throw new SQLException("no property for column " + labels[i] + " in " + this.type.getName());
+                }
+                columns.add(column(i, p));
+            }
+            return new Plan(construct, argOffsets, argGetters, columns.toArray(new Column[columns.size()]));
+        }
+    }
+
+    private static final class Property {
+        final String name;
+        final Class<?> type;
+        // ^ (Bean, type)void
+        final MethodHandle setter;
+
+        Property(final String name, final Class<?> type, final MethodHandle setter) {
+            this.name = name;
+            this.type = type;
+            this.setter = setter;
+        }
+    }
+
+    private static final class Ctor {
+        final String[] names;
+        final Class<?>[] types;
+        // ^ (Object[])Object
+        final MethodHandle mh;
+
+        Ctor(final String[] names, final Class<?>[] types, final MethodHandle mh) {
+            this.names = names;
+            this.types = types;
+            this.mh = mh.asSpreader(Object[].class, types.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        }
+
+        /**
+         * @return ׂėɂꍇtrue
+         */
+        boolean matches(final HashMap<String, Integer> offsets) {
+            for (String name : this.names) {
+                if (!offsets.containsKey(normalize(name))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 񃉃x̕1ɑ΂lߕ
+     */
+    private static final class Plan {
+        // ^ argGetters == null Ȃ ()ObjectAłȂ (Object[])Object
+        private final MethodHandle construct;
+        private final int[] argOffsets;
+        private final Getter[] argGetters;
+        private final Column[] columns;
+
+        Plan(final MethodHandle construct, final int[] argOffsets, final Getter[] argGetters,
+                final Column[] columns) {
+            this.construct = construct;
+            this.argOffsets = argOffsets;
+            this.argGetters = argGetters;
+            this.columns = columns;
+        }
+
+        Object create(final ResultSet rs, final int startColumn) throws SQLException {
+            try {
+                final Object bean;
+                if (this.argGetters == null) {
+                    bean = (Object) this.construct.invokeExact();
+                } else {
+                    final Object[] args = new Object[this.argGetters.length];
+                    for (int k = 0; k < args.length; k++) {
+                        args[k] = this.argGetters[k].get(rs, startColumn + this.argOffsets[k]);
+                    }
+                    bean = (Object) this.construct.invokeExact(args);
+                }
+                for (Column c : this.columns) {
+                    c.set(bean, rs, startColumn);
+                }
+                return bean;
+            } catch (SQLException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new SQLException(e);
+            }
+        }
+    }
+
+    /**
+     * 1ǂŃvpeBɐݒ肷
+     */
+    private static abstract class Column {
+        final int offset;
+        final String name;
+
+        Column(final int offset, final String name) {
+            this.offset = offset;
+            this.name = name;
+        }
+
+        abstract void set(Object bean, ResultSet rs, int startColumn) throws Throwable;
+
+        SQLException nullColumn(final int column) {
+            return new SQLException("column " + column + " is null for primitive property " + this.name);
+        }
+    }
+
+    private static Column column(final int offset, final Property p) {
+        final Class<?> t = p.type;
+        if (t == int.class) {
+            final MethodHandle setter = p.setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+            return new Column(offset, p.name) {
+                @Override
+                void set(final Object bean, final ResultSet rs, final int startColumn) throws Throwable {
+                    final int col = startColumn + this.offset;
+                    final int v = rs.getInt(col);
+                    if (v == 0 && rs.wasNull()) {
+                        throw nullColumn(col);
+                    }
+                    setter.invokeExact(bean, v);
+                }
+            };
+        }
+        if (t == long.class) {
+            final MethodHandle setter = p.setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+            return new Column(offset, p.name) {
+                @Override
+                void set(final Object bean, final ResultSet rs, final int startColumn) throws Throwable {
+                    final int col = startColumn + this.offset;
+                    final long v = rs.getLong(col);
+                    if (v == 0L && rs.wasNull()) {
+                        throw nullColumn(col);
+                    }
+                    setter.invokeExact(bean, v);
+                }
+            };
+        }
+        if (t == double.class) {
+            final MethodHandle setter = p.setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+            return new Column(offset, p.name) {
+                @Override
+                void set(final Object bean, final ResultSet rs, final int startColumn) throws Throwable {
+                    final int col = startColumn + this.offset;
+                    final double v = rs.getDouble(col);
+                    if (v == 0.0 && rs.wasNull()) {
+                        throw nullColumn(col);
+                    }
+                    setter.invokeExact(bean, v);
+                }
+            };
+        }
+        if (t == boolean.class) {
+            final MethodHandle setter = p.setter.asType(MethodType.methodType(void.class, Object.class, boolean.class));
+            return new Column(offset, p.name) {
+                @Override
+                void set(final Object bean, final ResultSet rs, final int startColumn) throws Throwable {
+                    final int col = startColumn + this.offset;
+                    final boolean v = rs.getBoolean(col);
+                    if (!v && rs.wasNull()) {
+                        throw nullColumn(col);
+                    }
+                    setter.invokeExact(bean, v);
+                }
+            };
+        }
+        final Getter g = getter(t);
+        final MethodHandle setter = p.setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return new Column(offset, p.name) {
+            @Override
+            void set(final Object bean, final ResultSet rs, final int startColumn) throws Throwable {
+                setter.invokeExact(bean, g.get(rs, startColumn + this.offset));
+            }
+        };
+    }
+
+    /**
+     * 1vpeB̌^œǂ nullȂnull (v~eBu^ȂSQLException)
+     */
+    private static abstract class Getter {
+        abstract Object get(ResultSet rs, int column) throws SQLException;
+    }
+
+    private static Getter getter(final Class<?> t) {
+        final Getter g = boxedGetter(t);
+        if (!t.isPrimitive()) {
+            return g;
+        }
+        return new Getter() {
+            @Override
+            Object get(final ResultSet rs, final int column) throws SQLException {
+                final Object v = g.get(rs, column);
+                if (v == null) {
+                    throw new SQLException("column " + column + " is null for primitive " + t.getName());
+                }
+                return v;
+            }
+        };
+    }
+
+    private static Getter boxedGetter(final Class<?> t) {
+        if (t == int.class || t == Integer.class) {
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    final int v = rs.getInt(column);
+                    return rs.wasNull() ? null : Integer.valueOf(v);
+                }
+            };
+        }
+        if (t == long.class || t == Long.class) {
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    final long v = rs.getLong(column);
+                    return rs.wasNull() ? null : Long.valueOf(v);
+                }
+            };
+        }
+        if (t == double.class || t == Double.class) {
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    final double v = rs.getDouble(column);
+                    return rs.wasNull() ? null : Double.valueOf(v);
+                }
+            };
+        }
+        if (t == float.class || t == Float.class) {
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    final float v = rs.getFloat(column);
+                    return rs.wasNull() ? null : Float.valueOf(v);
+                }
+            };
+        }
+        if (t == short.class || t == Short.class) {
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    final short v = rs.getShort(column);
+                    return rs.wasNull() ? null : Short.valueOf(v);
+                }
+            };
+        }
+        if (t == byte.class || t == Byte.class) {
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    final byte v = rs.getByte(column);
+                    return rs.wasNull() ? null : Byte.valueOf(v);
+                }
+            };
+        }
+        if (t == boolean.class || t == Boolean.class) {
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    final boolean v = rs.getBoolean(column);
+                    return rs.wasNull() ? null : Boolean.valueOf(v);
+                }
+            };
+        }
+        if (t == String.class) {
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    return rs.getString(column);
+                }
+            };
+        }
+        if (t == BigDecimal.class) {
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    return rs.getBigDecimal(column);
+                }
+            };
+        }
+        if (t == byte[].class) {
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    return rs.getBytes(column);
+                }
+            };
+        }
+        if (t == Date.class) {
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    return rs.getDate(column);
+                }
+            };
+        }
+        if (t == Time.class) {
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    return rs.getTime(column);
+                }
+            };
+        }
+        if (t == Timestamp.class || t == java.util.Date.class) {
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    return rs.getTimestamp(column);
+                }
+            };
+        }
+        if (t.isEnum() && CodeProperty.class.isAssignableFrom(t)) {
+            final CodeIndex<CodeProperty> index = CodeIndex.of((CodeProperty[]) t.getEnumConstants());
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    final String code = rs.getString(column);
+                    // null ̗̓R[h null ̗vf Ȃ null
+                    return code == null ? index.get(code) : index.valueOfCode(code);
+                }
+            };
+        }
+        if (t.isEnum()) {
+            final HashMap<String, Object> byName = new HashMap<String, Object>();
+            for (Object e : t.getEnumConstants()) {
+                byName.put(((Enum<?>) e).name(), e);
+            }
+            return new Getter() {
+                @Override
+                Object get(final ResultSet rs, final int column) throws SQLException {
+                    final String name = rs.getString(column);
+                    if (name == null) {
+                        return null;
+                    }
+                    final Object e = byName.get(name);
+                    if (e == null) {
+                        throw new IllegalArgumentException("no " + t.getName() + " named " + name);
+                    }
+                    return e;
+                }
+            };
+        }
+        return new Getter() {
+            @Override
+            Object get(final ResultSet rs, final int column) throws SQLException {
+                return JdbcFP.get(t, rs, column);
+            }
+        };
+    }
+}
@@ -0,0 +1,250 @@
+package com.atson.commons.sql;
+
+import com.atson.commons.annotations.NonNull;
+import com.atson.commons.annotations.Nullable;
+
+/**
+ * R[h񂩂 CodeProperty \<br>
+ *
+ * <p>
+ * \z͕ύXȂ̂ŁAXbhԂŋLĂbNȂňB
+ * \̓I[vAhX@ŁAȂׂՓ˂Ȃ (1̔rŌ) 悤ɃnbV̎IԁB
+ * </p>
+ * Enum ̕\ {@link #of(Class)} ŃNXƂ1xB<br>
+ * String 炸Ɉ悤A{@link CharSequence} oCg (ASCIĨR[ĥ) łB
+ *
+ * @param <E> CodeProperty̌^
+ */
+final public class CodeIndex<E extends CodeProperty> {
+
+    private static final ClassValue<CodeIndex<?>> INDEXES = new ClassValue<CodeIndex<?>>() {
+        @Override
+        protected CodeIndex<?> computeValue(final Class<?> type) {
+            final Object[] values = type.getEnumConstants();
+            if (values == null) {
+                throw new IllegalArgumentException("not an enum: " + type.getName());
+            }
+            return new CodeIndex<CodeProperty>((CodeProperty[]) values, false);
+        }
+    };
+
+    // Փ˂ȂT
+    private static final int SEED_TRIALS = 32;
+
+    private final String[] codes;
+    private final Object[] values;
+    private final int mask;
+    private final int seed;
+    private final E nullValue;
+    private final boolean ascii;
+
+    /**
+     * cls ̗񋓎q̕\ԂB\̓NXƂ1xB<br>
+     * R[h񋓎qꍇ́Aɐ錾ꂽ̂ԂB
+     *
+     * @param cls CodePropertyEnum̃NX
+     * @return cls̕\
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<?> & CodeProperty> CodeIndex<E> of(final Class<E> cls) {
+        return (CodeIndex<E>) INDEXES.get(cls);
+    }
+
+    /**
+     * values ̕\B
+     *
+     * @param values null܂܂ȂCodeProperty̔z
+     * @return values̕\
+     * @throws AssertionError R[hvfꍇ
+     */
+    public static <E extends CodeProperty> CodeIndex<E> of(final E[] values) {
+        return new CodeIndex<E>(values, true);
+    }
+
+    /**
+     * @param unique truȅꍇR[h̏dAssertionErrorɂ falsȅꍇ̗vfD悷
+     */
+    /* package private */ CodeIndex(final E[] values, final boolean unique) {
+        int capacity = Integer.highestOneBit(Math.max(values.length, 1) * 2 - 1) << 1;
+        E nullValue = null;
+        int count = 0;
+        boolean ascii = true;
+        for (E val : values) {
+            final String code = val.getCode();
+            if (code != null) {
+                for (int i = 0; i < code.length(); i++) {
+                    ascii &= code.charAt(i) < 0x80;
+                }
+            }
+            if (code == null) {
+                if (nullValue != null && unique) {
+                    throw new AssertionError("duplicated code:" + null);
+                }
+                if (nullValue == null) {
+                    nullValue = val;
+                }
+            } else {
+                count++;
+            }
+        }
+        this.nullValue = nullValue;
+        this.ascii = ascii;
+
+        // Փ˂̂Ȃ킪ȂΕ\LĒTAłȂΐ`Tɂ܂
+        String[] bestCodes = null;
+        Object[] bestValues = null;
+        int bestSeed = 0;
+        int bestCollisions = Integer.MAX_VALUE;
+        for (int c = capacity; c <= capacity * 4 && bestCollisions > 0; c <<= 1) {
+            for (int s = 0; s < SEED_TRIALS && bestCollisions > 0; s++) {
+                final String[] codes = new String[c];
+                final Object[] vals = new Object[c];
+                final int seed = s * 0x9E3779B9;
+                int collisions = 0;
+                for (E val : values) {
+                    final String code = val.getCode();
+                    if (code == null) {
+                        continue;
+                    }
+                    int slot = mix(code.hashCode(), seed) & (c - 1);
+                    boolean dup = false;
+                    while (codes[slot] != null) {
+                        if (codes[slot].equals(code)) {
+                            dup = true;
+                            break;
+                        }
+                        collisions++;
+                        slot = (slot + 1) & (c - 1);
+                    }
+                    if (dup) {
+                        if (unique) {
+                            throw new AssertionError("duplicated code:" + code);
+                        }
+                        continue;
+                    }
+                    codes[slot] = code;
+                    vals[slot] = val;
+                }
+                if (collisions < bestCollisions) {
+                    bestCodes = codes;
+                    bestValues = vals;
+                    bestSeed = seed;
+                    bestCollisions = collisions;
+                }
+                if (count <= 1) {
+                    break;
+                }
+            }
+        }
+        this.codes = bestCodes;
+        this.values = bestValues;
+        this.mask = bestCodes.length - 1;
+        this.seed = bestSeed;
+    }
+
+    /* package private */ static int mix(final int hash, final int seed) {
+        int h = hash ^ seed;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 15;
+        return h;
+    }
+
+    /**
+     * @param code R[h
+     * @return codeɑΉvf Ȃnull
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public E get(final String code) {
+        if (code == null) {
+            return this.nullValue;
+        }
+        int slot = mix(code.hashCode(), this.seed) & this.mask;
+        for (String c; (c = this.codes[slot]) != null; slot = (slot + 1) & this.mask) {
+            if (c.equals(code)) {
+                return (E) this.values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@link #get(String)}  CharSequence  StringBuilder  CharBuffer  String 炸Ɉ
+     *
+     * @param code R[h
+     * @return codeɑΉvf Ȃnull
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public E get(final CharSequence code) {
+        if (code == null || code instanceof String) {
+            return get((String) code);
+        }
+        final int len = code.length();
+        int h = 0;
+        for (int i = 0; i < len; i++) {
+            h = 31 * h + code.charAt(i);
+        }
+        int slot = mix(h, this.seed) & this.mask;
+        for (String c; (c = this.codes[slot]) != null; slot = (slot + 1) & this.mask) {
+            if (c.contentEquals(code)) {
+                return (E) this.values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * bytes[off, off+len)  ASCII ̃R[hƂ݂ȂĈB<br>
+     * ASCII ȊO̕܂ރR[h͂̕@ł͈ȂB{@link #isAscii()} mF邱ƁB
+     *
+     * @param bytes null֎~
+     * @return R[hɑΉvf Ȃnull
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public E get(final byte[] bytes, final int off, final int len) {
+        int h = 0;
+        for (int i = off; i < off + len; i++) {
+            h = 31 * h + (bytes[i] & 0xff);
+        }
+        int slot = mix(h, this.seed) & this.mask;
+        for (String c; (c = this.codes[slot]) != null; slot = (slot + 1) & this.mask) {
+            if (c.length() == len && equalsAscii(c, bytes, off)) {
+                return (E) this.values[slot];
+            }
+        }
+        return null;
+    }
+
+    private static boolean equalsAscii(final String c, final byte[] bytes, final int off) {
+        for (int i = 0; i < c.length(); i++) {
+            if (c.charAt(i) != (bytes[off + i] & 0xff)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return ׂẴR[hASCIIȂꍇtrue<br>
+     * ̂ƂoCgňʂ͕ňʂƓɂȂ
+     */
+    public boolean isAscii() {
+        return this.ascii;
+    }
+
+    /**
+     * @param code R[h
+     * @return codeɑΉvf
+     * @throws IllegalArgumentException R[hɑΉvfȂꍇ
+     */
+    @NonNull
+    public E valueOfCode(final String code) {
+        final E val = get(code);
+        if (val == null) {
+            throw new IllegalArgumentException("no value for code:" + code);
+        }
+        return val;
+    }
+}
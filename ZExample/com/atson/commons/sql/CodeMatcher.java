@@ -0,0 +1,278 @@
+package com.atson.commons.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import com.atson.commons.lang.FP.Fun;
+
+/**
+ * CodeProperty̏Wւ̏<br>
+ *
+ * <p>
+ * {@link CodePropertyUtil#codeEqualsOr(String, CodeProperty...)} 𓯂 values ŉxĂԑɁA
+ * 1xĎg񂷁B쐬͕ύXȂ̂ŃXbhԂŋLĂ悢B
+ * </p>
+ * <p>
+ * values ׂē Enum ̒lȂAvf̔ ordinal ̃rbgW1B
+ * R[h̔ {@link CodeIndex} B
+ * </p>
+ * gp
+ * <pre>
+ * private static final CodeMatcher&lt;Status&gt; CLOSED = CodeMatcher.of(Status.DONE, Status.CANCELED);
+ *   :
+ * if (CLOSED.matches(code)) { ... }
+ * </pre>
+ *
+ * @param <E> CodeProperty̌^
+ */
+final public class CodeMatcher<E extends CodeProperty> {
+
+    private final CodeIndex<E> index;
+    private final List<String> codes;
+    // valuesׂ enumClass ̒l̏ꍇ ordinal ̏W łȂnull
+    private final Class<?> enumClass;
+    private final long[] bits;
+    // bitsnull̏ꍇɎg
+    private final Set<E> identity;
+
+    /**
+     * @param values null܂܂ȂCodeProperty̗
+     * @return valueŝꂩƈv邩𔻒肷CodeMatcher
+     * @throws NullPointerException valuesnull ܂valuesnull܂ޏꍇ
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public static <E extends CodeProperty> CodeMatcher<E> of(final E... values) {
+        if (values == null) {
+            throw new NullPointerException("values must not be null");
+        }
+        // of(List) Ɠ CodeProperty[] ɃRs[āAĂяo̔zȂ
+        final CodeProperty[] copy = new CodeProperty[values.length];
+        for (int i = 0; i < values.length; i++) {
+            copy[i] = values[i];
+        }
+        return new CodeMatcher<E>((E[]) copy);
+    }
+
+    /**
+     * @param values null܂܂ȂCodePropertỹXg
+     * @see #of(CodeProperty...)
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends CodeProperty> CodeMatcher<E> of(final List<? extends E> values) {
+        if (values == null) {
+            throw new NullPointerException("values must not be null");
+        }
+        return new CodeMatcher<E>((E[]) values.toArray(new CodeProperty[values.size()]));
+    }
+
+    private CodeMatcher(final E[] values) {
+        Class<?> enumClass = null;
+        boolean sameEnum = true;
+        int maxOrdinal = -1;
+        final ArrayList<String> codes = new ArrayList<String>(values.length);
+        for (E e : values) {
+            if (e == null) {
+                throw new NullPointerException("values must not contain null");
+            }
+            codes.add(e.getCode());
+            if (sameEnum && e instanceof Enum) {
+                final Class<?> c = ((Enum<?>) e).getDeclaringClass();
+                if (enumClass == null) {
+                    enumClass = c;
+                }
+                sameEnum = enumClass == c;
+                maxOrdinal = Math.max(maxOrdinal, ((Enum<?>) e).ordinal());
+            } else {
+                sameEnum = false;
+            }
+        }
+        this.codes = Collections.unmodifiableList(codes);
+        this.index = new CodeIndex<E>(values, false);
+
+        if (sameEnum && enumClass != null) {
+            this.enumClass = enumClass;
+            this.bits = new long[(maxOrdinal >>> 6) + 1];
+            for (E e : values) {
+                final int o = ((Enum<?>) e).ordinal();
+                this.bits[o >>> 6] |= 1L << o;
+            }
+            this.identity = null;
+        } else {
+            this.enumClass = null;
+            this.bits = null;
+            this.identity = Collections.newSetFromMap(new IdentityHashMap<E, Boolean>());
+            Collections.addAll(this.identity, values);
+        }
+    }
+
+    /**
+     * @param e
+     * @return evalueŝꂩłꍇtrue enull̏ꍇfalse
+     */
+    public boolean contains(final E e) {
+        if (e == null) {
+            return false;
+        }
+        if (this.bits != null) {
+            if (!(e instanceof Enum) || ((Enum<?>) e).getDeclaringClass() != this.enumClass) {
+                return false;
+            }
+            final int o = ((Enum<?>) e).ordinal();
+            return (o >>> 6) < this.bits.length && (this.bits[o >>> 6] & (1L << o)) != 0;
+        }
+        return this.identity.contains(e);
+    }
+
+    /**
+     * {@link CodePropertyUtil#codeEqualsOr(String, CodeProperty...)} Ɠ
+     *
+     * @param code null
+     * @return codevalueŝꂩgetCode()Ɠꍇtrue
+     */
+    public boolean matches(final String code) {
+        return this.index.get(code) != null;
+    }
+
+    /**
+     * {@link #matches(String)}  CharSequence 
+     */
+    public boolean matches(final CharSequence code) {
+        return this.index.get(code) != null;
+    }
+
+    /**
+     * @param code
+     * @return codevalues̗vf Ȃnull
+     */
+    public E valueOfCodeOrNull(final String code) {
+        return this.index.get(code);
+    }
+
+    /**
+     * @return values̃R[h̗ ύXs
+     * @see CodePropertyUtil#getCodes(CodeProperty...)
+     */
+    public List<String> getCodes() {
+        return this.codes;
+    }
+
+    /**
+     * @return {@link #contains(CodeProperty)} ̊֐
+     */
+    public Fun<E, Boolean> containsFun() {
+        return new Fun<E, Boolean>() {
+            @Override
+            public Boolean app(final E e) {
+                return contains(e);
+            }
+        };
+    }
+
+    /**
+     * @return {@link #matches(String)} ̊֐
+     */
+    public Fun<String, Boolean> matchesFun() {
+        return new Fun<String, Boolean>() {
+            @Override
+            public Boolean app(final String code) {
+                return matches(code);
+            }
+        };
+    }
+
+    /**
+     * @param es
+     * @return eŝvalueŝꂩłvf̃Xg eŝ܂
+     */
+    public ArrayList<E> filter(final E[] es) {
+        final ArrayList<E> rv = new ArrayList<E>();
+        for (E e : es) {
+            if (contains(e)) {
+                rv.add(e);
+            }
+        }
+        return rv;
+    }
+
+    /**
+     * @param es
+     * @return eŝvalueŝꂩłvf̃Xg eŝ܂
+     */
+    public ArrayList<E> filter(final Iterable<? extends E> es) {
+        final ArrayList<E> rv = new ArrayList<E>();
+        for (E e : es) {
+            if (contains(e)) {
+                rv.add(e);
+            }
+        }
+        return rv;
+    }
+
+    /**
+     * @param codes
+     * @return codeŝvalueŝꂩ̃R[hłvf̃Xg codeŝ܂
+     */
+    public ArrayList<String> filterCodes(final String[] codes) {
+        final ArrayList<String> rv = new ArrayList<String>();
+        for (String code : codes) {
+            if (matches(code)) {
+                rv.add(code);
+            }
+        }
+        return rv;
+    }
+
+    /**
+     * reader ̂ key valueŝꂩłsǂDataReaderԂB
+     *
+     * @param key sCodePropertyo֐
+     * @param reader ʂDataReadercloseclose
+     */
+    public <T> DataReader<T> filter(final Fun<? super T, ? extends E> key,
+            final DataReader<? extends T> reader) {
+        return new DataReader<T>() {
+            @Override
+            public T read() {
+                for (T t; (t = reader.read()) != null;) {
+                    if (contains(key.app(t))) {
+                        return t;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public void close() {
+                reader.close();
+            }
+        };
+    }
+
+    /**
+     * reader ̂valueŝꂩłvfǂDataReaderԂB
+     *
+     * @param reader ʂDataReadercloseclose
+     */
+    public DataReader<E> filter(final DataReader<? extends E> reader) {
+        return new DataReader<E>() {
+            @Override
+            public E read() {
+                for (E e; (e = reader.read()) != null;) {
+                    if (contains(e)) {
+                        return e;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public void close() {
+                reader.close();
+            }
+        };
+    }
+}
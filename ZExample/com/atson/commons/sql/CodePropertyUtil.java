@@ -4,8 +4,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.lang3.StringUtils;
-
 import com.atson.commons.annotations.NonNull;
 import com.atson.commons.annotations.Nullable;
 import com.atson.commons.collection.Arrays2;
@@ -31,17 +29,7 @@ public class CodePropertyUtil<E extends CodeProperty> {
 
     public static <E extends Enum<?> & CodeProperty> E valueOfCode(
             final Class<E> cls, final String code) {
-        // return of(cls).valueOfCode(code);
-        // {ƂmapĎ̂ĂĂ܂
-        // Ƃ E ̎ CodePropertyUtil̃CX^X̂
-        // Ȃ̂ŁAŒT
-
-        for (E val : cls.getEnumConstants()) {
-            if (StringUtils.equals(code, val.getCode())) {
-                return val;
-            }
-        }
-        throw new IllegalArgumentException("no value for code:" + code);
+        return CodeIndex.of(cls).valueOfCode(code);
     }
 
     /**
@@ -64,7 +52,17 @@ public class CodePropertyUtil<E extends CodeProperty> {
         this.values = values;
     }
 
-    private Map<String, E> map;
+    private volatile CodeIndex<E> index;
+
+    private CodeIndex<E> index() {
+        // QĂ synchronized Ȃ volatile Ȃ̂ō肩͌Ȃ
+        CodeIndex<E> idx = this.index;
+        if (idx == null) {
+            idx = CodeIndex.of(this.values);
+            this.index = idx;
+        }
+        return idx;
+    }
 
     /**
      * R[h񂩂AΉCodePropertyCX^X擾B
@@ -75,12 +73,7 @@ public class CodePropertyUtil<E extends CodeProperty> {
      */
     @NonNull
     public final E valueOfCode(final String code) {
-        // QĂ synchronized Ȃ
-        if (this.map == null) {
-            this.map = asMap0(this.values);
-        }
-
-        return valueOfCode0(this.map, code);
+        return index().valueOfCode(code);
     }
 
     /**
@@ -92,12 +85,7 @@ public class CodePropertyUtil<E extends CodeProperty> {
      */
     @Nullable
     public final E valueOfCodeOrNull(final String code) {
-        // QĂ synchronized Ȃ
-        if (this.map == null) {
-            this.map = asMap0(this.values);
-        }
-
-        return this.map.get(code);
+        return index().get(code);
     }
     
     public final E valueOfCodeOrDefault(final String code, final E defaultVal) {
@@ -204,6 +192,7 @@ public class CodePropertyUtil<E extends CodeProperty> {
     /**
      * @param cps nullłȂ  null܂܂ȂCodeProperty̔z
      * @return cps̗vf̃R[h̗XgŕԂ
+     * @see CodeMatcher#getCodes()
      */
     public static <E extends CodeProperty> List<String> getCodes(final E... cps) {
         return FP.ArrayListJ.map(new Fun<CodeProperty, String>() {
@@ -258,6 +247,7 @@ public class CodePropertyUtil<E extends CodeProperty> {
      * 
      * Type safety : A generic array of Enum<?>&CodeProperty is created for a varargs parameter
      * </pre>
+     *  values ŌJԂ肷ꍇ {@link CodeMatcher} g
      * @param code
      * @param values null܂܂ȂCodeProperty̗
      * @throws NullPointerException valuesnull ܂valuesnull܂ޏꍇ
@@ -2,9 +2,16 @@ package com.atson.commons.sql;
 
 import static java.lang.reflect.Array.newInstance;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 
 import com.atson.commons.annotations.NonNull;
 import com.atson.higherkind.typeclass.__;
@@ -167,9 +174,10 @@ final public class Data {
          * @return majust(a) Ȃ just(a) AnothingȂnothing() ԂB
          */
         @NonNull
+        @SuppressWarnings("unchecked")
         public static <T> Maybe<T> up(@NonNull final Maybe<? extends T> ma) {
-            if (ma.isJust()) { return Data.<T>just(ma.fromJust()); }
-            else             { return nothing(); }
+            // Maybe ͕sςȂ̂ŁA蒼ɂ̂܂ܕԂĂ悢
+            return (Maybe<T>) ma;
         }
 
         /**
@@ -241,11 +249,15 @@ final public class Data {
         Nothing() {}
     }
 
+    // Nothing ͒lȂ̂1L
+    private static final Nothing<Object> NOTHING = new Nothing<Object>();
+
     /**
-     * @return nothing
+     * @return nothing ɓCX^X
      */
     @NonNull
-    public static <A> Maybe<A> nothing() { return new Nothing<A>(); }
+    @SuppressWarnings("unchecked")
+    public static <A> Maybe<A> nothing() { return (Maybe<A>) NOTHING; }
 
     /**
      * Data.Maybe Functions
@@ -335,14 +347,45 @@ final public class Data {
     }
 
     /* Monoid class and instances like Haskell */
+    /**
+     * mappend ͌ mappend(mappend(x, y), z) == mappend(x, mappend(y, z)) 𖞂A
+     * mempty ͂̒PʌłȂ΂ȂȂB<br>
+     * mappend ͈ύXĂ͂ȂB
+     */
     static public abstract class Monoid<A> {
         abstract public A mempty();
         abstract public A mappend(A x, A y);
+        /**
+         * ͍̎ mappend B܂Ƃ߂ĘAłCX^X͏㏑1xɍB
+         */
         public A mconcat(final Iterable<A> xs) {
             A r = mempty();
             for (A x : xs) { r = mappend(r, x); }
             return r;
         }
+
+        /**
+         * ׂ荇vf2 mappend 邱ƂJԂďݍށB<br>
+         * mappend ̈Rs[CX^Xōݍނ O(n^2) ɂȂ邪A
+         * ؂̌`ɂ O(n log n) ōςށBʂ͌ɂ mconcat ƓB
+         */
+        public A mconcatTree(final List<? extends A> xs) {
+            if (xs.isEmpty()) {
+                return mempty();
+            }
+            ArrayList<A> level = new ArrayList<A>(xs);
+            while (level.size() > 1) {
+                final ArrayList<A> next = new ArrayList<A>((level.size() + 1) / 2);
+                for (int i = 0; i + 1 < level.size(); i += 2) {
+                    next.add(mappend(level.get(i), level.get(i + 1)));
+                }
+                if (level.size() % 2 == 1) {
+                    next.add(level.get(level.size() - 1));
+                }
+                level = next;
+            }
+            return level.get(0);
+        }
     }
 
     static public final Monoid<String> stringMonoid = new Monoid<String>() {
@@ -352,7 +395,11 @@ final public class Data {
         public String mappend(final String x, final String y) { return x + y; }
         @Override
         public String mconcat(final Iterable<String> xs) {
-            StringBuffer b = new StringBuffer();
+            int length = 0;
+            if (xs instanceof Collection) {
+                for (String x : xs) { length += x.length(); }
+            }
+            StringBuilder b = new StringBuilder(length);
             for (String x : xs) { b.append(x); }
             return b.toString();
         }
@@ -365,16 +412,22 @@ final public class Data {
                 mempty() { return (E[])newInstance(ec, 0); }
             @Override
             public E[] mappend(final E[] x, final E[] y) {
-                ArrayList<E> b = new ArrayList<E>();
-                for (E e : x) { b.add(e); }
-                for (E e : y) { b.add(e); }
-                return b.toArray(x);
+                E[] r = Arrays.copyOf(x, x.length + y.length);
+                System.arraycopy(y, 0, r, x.length, y.length);
+                return r;
             }
             @Override
+            @SuppressWarnings("unchecked")
             public E[] mconcat(final Iterable<E[]> xs) {
-                ArrayList<E> b = new ArrayList<E>();
-                for (E[] x : xs) { for (E e : x) { b.add(e); } }
-                return b.toArray(mempty());
+                int length = 0;
+                for (E[] x : xs) { length += x.length; }
+                E[] r = (E[])newInstance(ec, length);
+                int i = 0;
+                for (E[] x : xs) {
+                    System.arraycopy(x, 0, r, i, x.length);
+                    i += x.length;
+                }
+                return r;
             }
         };
     }
@@ -385,15 +438,17 @@ final public class Data {
             public ArrayList<E> mempty()  { return new ArrayList<E>(); }
             @Override
             public ArrayList<E> mappend(final ArrayList<E> x, final ArrayList<E> y) {
-                ArrayList<E> r = new ArrayList<E>();
-                for (E e : x) { r.add(e); }
-                for (E e : y) { r.add(e); }
+                ArrayList<E> r = new ArrayList<E>(x.size() + y.size());
+                r.addAll(x);
+                r.addAll(y);
                 return r;
             }
             @Override
             public ArrayList<E> mconcat(final Iterable<ArrayList<E>> xs) {
-                ArrayList<E> r = new ArrayList<E>();
-                for (ArrayList<E> x : xs) { for (E e : x) { r.add(e); } }
+                int size = 0;
+                for (ArrayList<E> x : xs) { size += x.size(); }
+                ArrayList<E> r = new ArrayList<E>(size);
+                for (ArrayList<E> x : xs) { r.addAll(x); }
                 return r;
             }
         };
@@ -405,17 +460,153 @@ final public class Data {
             public LinkedList<E> mempty()  { return new LinkedList<E>(); }
             @Override
             public LinkedList<E> mappend(final LinkedList<E> x, final LinkedList<E> y) {
-                LinkedList<E> r = new LinkedList<E>();
-                for (E e : x) { r.add(e); }
-                for (E e : y) { r.add(e); }
+                LinkedList<E> r = new LinkedList<E>(x);
+                r.addAll(y);
                 return r;
             }
             @Override
             public LinkedList<E> mconcat(final Iterable<LinkedList<E>> xs) {
                 LinkedList<E> r = new LinkedList<E>();
-                for (LinkedList<E> x : xs) { for (E e : x) { r.add(e); } }
+                for (LinkedList<E> x : xs) { r.addAll(x); }
                 return r;
             }
         };
     }
+
+    static public final Monoid<Integer> intSumMonoid = new Monoid<Integer>() {
+        @Override
+        public Integer mempty() { return 0; }
+        @Override
+        public Integer mappend(final Integer x, final Integer y) { return x + y; }
+        @Override
+        public Integer mconcat(final Iterable<Integer> xs) {
+            int r = 0;
+            for (Integer x : xs) { r += x; }
+            return r;
+        }
+    };
+
+    static public final Monoid<Long> longSumMonoid = new Monoid<Long>() {
+        @Override
+        public Long mempty() { return 0L; }
+        @Override
+        public Long mappend(final Long x, final Long y) { return x + y; }
+        @Override
+        public Long mconcat(final Iterable<Long> xs) {
+            long r = 0;
+            for (Long x : xs) { r += x; }
+            return r;
+        }
+    };
+
+    static public final Monoid<Double> doubleSumMonoid = new Monoid<Double>() {
+        @Override
+        public Double mempty() { return 0.0; }
+        @Override
+        public Double mappend(final Double x, final Double y) { return x + y; }
+        @Override
+        public Double mconcat(final Iterable<Double> xs) {
+            double r = 0;
+            for (Double x : xs) { r += x; }
+            return r;
+        }
+    };
+
+    static public final Monoid<BigDecimal> bigDecimalSumMonoid = new Monoid<BigDecimal>() {
+        @Override
+        public BigDecimal mempty() { return BigDecimal.ZERO; }
+        @Override
+        public BigDecimal mappend(final BigDecimal x, final BigDecimal y) { return x.add(y); }
+    };
+
+    /**
+     * Ԃ Monoid mempty  null ŁAnull ͒PʌƂĈB
+     * 傫̏ꍇ͍ԂB
+     */
+    static public <A> Monoid<A> minMonoid(final Comparator<? super A> c) {
+        return new Monoid<A>() {
+            @Override
+            public A mempty() { return null; }
+            @Override
+            public A mappend(final A x, final A y) {
+                if (x == null) { return y; }
+                if (y == null) { return x; }
+                return c.compare(x, y) <= 0 ? x : y;
+            }
+        };
+    }
+
+    /**
+     * 傫Ԃ Monoid mempty  null ŁAnull ͒PʌƂĈB
+     * 傫̏ꍇ͍ԂB
+     */
+    static public <A> Monoid<A> maxMonoid(final Comparator<? super A> c) {
+        return new Monoid<A>() {
+            @Override
+            public A mempty() { return null; }
+            @Override
+            public A mappend(final A x, final A y) {
+                if (x == null) { return y; }
+                if (y == null) { return x; }
+                return c.compare(x, y) >= 0 ? x : y;
+            }
+        };
+    }
+
+    /**
+     * L[Ƃɒl v  mappend ĕ Monoid L[̏͐Ɍꂽ
+     */
+    static public <K, V> Monoid<LinkedHashMap<K, V>> mapMonoid(final Monoid<V> v) {
+        return new Monoid<LinkedHashMap<K, V>>() {
+            @Override
+            public LinkedHashMap<K, V> mempty() { return new LinkedHashMap<K, V>(); }
+            @Override
+            public LinkedHashMap<K, V> mappend(final LinkedHashMap<K, V> x, final LinkedHashMap<K, V> y) {
+                LinkedHashMap<K, V> r = new LinkedHashMap<K, V>(x);
+                merge(r, y);
+                return r;
+            }
+            @Override
+            public LinkedHashMap<K, V> mconcat(final Iterable<LinkedHashMap<K, V>> xs) {
+                LinkedHashMap<K, V> r = new LinkedHashMap<K, V>();
+                for (LinkedHashMap<K, V> x : xs) { merge(r, x); }
+                return r;
+            }
+            private void merge(final LinkedHashMap<K, V> into, final Map<K, V> from) {
+                for (Map.Entry<K, V> e : from.entrySet()) {
+                    if (into.containsKey(e.getKey())) {
+                        into.put(e.getKey(), v.mappend(into.get(e.getKey()), e.getValue()));
+                    } else {
+                        into.put(e.getKey(), e.getValue());
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Monoid a => Monoid (Maybe a)<br>
+     * nothing PʌƂAjust m͒g a  mappend B
+     */
+    static public <A> Monoid<Maybe<A>> maybeMonoid(final Monoid<A> a) {
+        return new Monoid<Maybe<A>>() {
+            @Override
+            public Maybe<A> mempty() { return nothing(); }
+            @Override
+            public Maybe<A> mappend(final Maybe<A> x, final Maybe<A> y) {
+                if (x.isNothing()) { return y; }
+                if (y.isNothing()) { return x; }
+                return just(a.mappend(x.fromJust(), y.fromJust()));
+            }
+            @Override
+            public Maybe<A> mconcat(final Iterable<Maybe<A>> xs) {
+                // just ̒g a.mconcat ɓn1xɘA
+                ArrayList<A> js = new ArrayList<A>();
+                for (Maybe<A> x : xs) {
+                    if (x.isJust()) { js.add(x.fromJust()); }
+                }
+                return js.isEmpty() ? Data.<A>nothing() : just(a.mconcat(js));
+            }
+        };
+    }
 }
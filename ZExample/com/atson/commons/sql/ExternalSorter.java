@@ -0,0 +1,355 @@
+package com.atson.commons.sql;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import com.atson.commons.lang.ComparatorUtil;
+
+/**
+ * Ɏ܂Ȃ DataReader בւ<br>
+ *
+ * <p>
+ * ͂ runSize ǂŃŕבւ ({@link ComparatorUtil#sort(java.util.List, Comparator)})A
+ * ꎞt@CɏoB͂ǂݏIAet@C̐擪q[vɓ k-way }[WȂԂB
+ * ꎞt@C {@value #MAX_FAN_IN} 𒴂ꍇ́A{@value #MAX_FAN_IN} }[W1̃t@CɏƂ
+ * JԂĂԂ̂ŁAɊJt@C {@value #MAX_FAN_IN} ܂ŁB
+ * ͂1񕪂Ɏ܂ꍇ̓t@CɏȂB
+ * בւ͈ŁAvf͓͂̏ɕԂB
+ * </p>
+ * <p>
+ * vf̓ftHgł Java ̒񉻂Ńt@Cɏ̂ŁASerializable łȂ΂ȂȂB
+ * 񉻂łȂ^ ({@link com.atson.commons.lang.FP.T2} Ȃ) A菬ꍇ {@link Codec} nB
+ * </p>
+ * ͓͂ǂݏI_ close BԂ DataReader  close ňꎞt@C폜B
+ * close ȂΈꎞt@C͎cB
+ * t@C̓ǂݏŋN IOException  {@link UncheckedIOException} ɂăX[B
+ *
+ * <pre>
+ * DataReader&lt;Row&gt; sorted = new ExternalSorter&lt;Row&gt;(ComparatorUtil.&lt;Row&gt;newChain()
+ *         .append(ComparatorUtil.&lt;Row&gt;beanProperty("shopCode"))
+ *         .append(ComparatorUtil.&lt;Row&gt;beanProperty("price"), true), 100000).sort(reader);
+ * </pre>
+ *
+ * @param <T> vf̌^
+ */
+final public class ExternalSorter<T> {
+
+    /**
+     * ꎞt@Cւ̗vf̏
+     *
+     * @param <T> vf̌^
+     */
+    public static interface Codec<T> {
+        void write(DataOutputStream out, T t) throws IOException;
+        T read(DataInputStream in) throws IOException;
+    }
+
+    /** 1Ƀŕבւ錏̃ftHg */
+    public static final int DEFAULT_RUN_SIZE = 100000;
+
+    /** 1xɃ}[Wꎞt@C̍ő吔 */
+    public static final int MAX_FAN_IN = 64;
+
+    // ObjectOutputStream vfւ̎QƂȂ悤ǍƂ reset 
+    private static final int RESET_INTERVAL = 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Comparator<? super T> comparator;
+    private final int runSize;
+    private final Codec<T> codec;
+    private final File tmpDir;
+
+    /**
+     * @param comparator בւ̏ {@link ComparatorUtil.ComparatorChainWrapper} Ȃ
+     * @param runSize 1Ƀŕבւ錏
+     * @param codec vf̏ nullȂJava̒
+     * @param tmpDir ꎞt@C̃fBNg nullȂVXẽftHg
+     */
+    public ExternalSorter(final Comparator<? super T> comparator, final int runSize,
+            final Codec<T> codec, final File tmpDir) {
+        if (runSize <= 0) {
+            throw new IllegalArgumentException("runSize must be positive: " + runSize);
+        }
+        this.comparator = comparator;
+        this.runSize = runSize;
+        this.codec = codec;
+        this.tmpDir = tmpDir;
+    }
+
+    public ExternalSorter(final Comparator<? super T> comparator, final int runSize) {
+        this(comparator, runSize, null, null);
+    }
+
+    public ExternalSorter(final Comparator<? super T> comparator) {
+        this(comparator, DEFAULT_RUN_SIZE);
+    }
+
+    /**
+     * reader  comparator ̏ɕבւB{@link #ExternalSorter(Comparator)}  sort ̂Ɠ
+     */
+    public static <T> DataReader<T> sort(final DataReader<? extends T> reader, final Comparator<? super T> comparator) {
+        return new ExternalSorter<T>(comparator).sort(reader);
+    }
+
+    /**
+     * reader ǂݏI܂œǂ݁AבւʂԂBreader  close B
+     *
+     * @return בւvfԂDataReader close ňꎞt@C폜
+     */
+    public DataReader<T> sort(final DataReader<? extends T> reader) {
+        final ArrayList<File> runs = new ArrayList<File>();
+        ArrayList<T> buf = new ArrayList<T>();
+        try {
+            try {
+                for (T t; (t = reader.read()) != null;) {
+                    buf.add(t);
+                    if (buf.size() >= this.runSize) {
+                        runs.add(spill(buf));
+                        buf = new ArrayList<T>();
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+            if (runs.isEmpty()) {
+                ComparatorUtil.sort(buf, this.comparator);
+                return fromList(buf);
+            }
+            if (!buf.isEmpty()) {
+                runs.add(spill(buf));
+            }
+            reduce(runs);
+            return merge(runs);
+        } catch (IOException e) {
+            deleteAll(runs);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteAll(runs);
+            throw e;
+        } catch (Error e) {
+            deleteAll(runs);
+            throw e;
+        }
+    }
+
+    private static <T> DataReader<T> fromList(final ArrayList<T> list) {
+        return new DataReader<T>() {
+            private int i = 0;
+
+            @Override
+            public T read() {
+                return this.i < list.size() ? list.get(this.i++) : null;
+            }
+
+            @Override
+            public void close() {
+                this.i = list.size();
+            }
+        };
+    }
+
+    private File spill(final ArrayList<T> buf) throws IOException {
+        ComparatorUtil.sort(buf, this.comparator);
+        return write(fromList(buf));
+    }
+
+    /**
+     * in ̗vfɐVꎞt@CɏBin ͕Ȃ
+     */
+    private File write(final DataReader<? extends T> in) throws IOException {
+        final File f = File.createTempFile("extsort", ".run", this.tmpDir);
+        boolean ok = false;
+        try {
+            final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(f), BUFFER_SIZE));
+            try {
+                if (this.codec != null) {
+                    for (T t; (t = in.read()) != null;) {
+                        out.writeBoolean(true);
+                        this.codec.write(out, t);
+                    }
+                    out.writeBoolean(false);
+                } else {
+                    final ObjectOutputStream oos = new ObjectOutputStream(out);
+                    int n = 0;
+                    for (T t; (t = in.read()) != null;) {
+                        oos.writeObject(t);
+                        if (++n % RESET_INTERVAL == 0) {
+                            oos.reset();
+                        }
+                    }
+                    // f[^null͂Ȃ̂ŏI[Ɏg
+                    oos.writeObject(null);
+                    oos.flush();
+                }
+            } finally {
+                out.close();
+            }
+            ok = true;
+            return f;
+        } finally {
+            if (!ok) {
+                f.delete();
+            }
+        }
+    }
+
+    /**
+     * 1̈ꎞt@C擪ǂ
+     */
+    private final class Run {
+        final int index;
+        final File file;
+        private final DataInputStream in;
+        private final ObjectInputStream ois;
+        T head;
+
+        Run(final int index, final File file) throws IOException {
+            this.index = index;
+            this.file = file;
+            this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+            boolean ok = false;
+            try {
+                this.ois = ExternalSorter.this.codec == null ? new ObjectInputStream(this.in) : null;
+                ok = true;
+            } finally {
+                if (!ok) {
+                    this.in.close();
+                }
+            }
+        }
+
+        /**
+         * @return ̗vf head ɓǂ߂ꍇtrue
+         */
+        @SuppressWarnings("unchecked")
+        boolean advance() throws IOException {
+            if (this.ois == null) {
+                this.head = this.in.readBoolean() ? ExternalSorter.this.codec.read(this.in) : null;
+            } else {
+                try {
+                    this.head = (T) this.ois.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException(e);
+                }
+            }
+            return this.head != null;
+        }
+
+        void close() {
+            try {
+                this.in.close();
+            } catch (IOException e) {
+                // ǂݏIt@CȂ̂Ŗč폜
+            }
+            this.file.delete();
+        }
+    }
+
+    /**
+     * runs  {@link #MAX_FAN_IN} ȉɂȂ܂ŁAׂ荇 {@link #MAX_FAN_IN} }[WďB
+     * ׂ荇̂܂Ƃ߂̂ŁAvf͕̏ςȂB
+     * }[WIt@C͍폜Aruns Vt@C̕тɒuB
+     */
+    private void reduce(final ArrayList<File> runs) throws IOException {
+        while (runs.size() > MAX_FAN_IN) {
+            final ArrayList<File> next = new ArrayList<File>((runs.size() + MAX_FAN_IN - 1) / MAX_FAN_IN);
+            boolean ok = false;
+            try {
+                for (int i = 0; i < runs.size(); i += MAX_FAN_IN) {
+                    final ArrayList<File> group =
+                        new ArrayList<File>(runs.subList(i, Math.min(i + MAX_FAN_IN, runs.size())));
+                    if (group.size() == 1) {
+                        next.add(group.get(0));
+                        continue;
+                    }
+                    final DataReader<T> merged = merge(group);
+                    try {
+                        next.add(write(merged));
+                    } finally {
+                        merged.close();
+                    }
+                }
+                ok = true;
+            } finally {
+                if (!ok) {
+                    deleteAll(next);
+                }
+            }
+            runs.clear();
+            runs.addAll(next);
+        }
+    }
+
+    private DataReader<T> merge(final ArrayList<File> files) throws IOException {
+        final PriorityQueue<Run> heap = new PriorityQueue<Run>(files.size(), new Comparator<Run>() {
+            @Override
+            public int compare(final Run r1, final Run r2) {
+                final int c = ExternalSorter.this.comparator.compare(r1.head, r2.head);
+                // vf͐ɓǂ run ԂĈɂ
+                return c != 0 ? c : Integer.compare(r1.index, r2.index);
+            }
+        });
+        final ArrayList<Run> open = new ArrayList<Run>(files.size());
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                final Run r = new Run(i, files.get(i));
+                open.add(r);
+                if (r.advance()) {
+                    heap.add(r);
+                }
+            }
+        } catch (IOException e) {
+            closeAll(open);
+            throw e;
+        }
+
+        return new DataReader<T>() {
+            @Override
+            public T read() {
+                final Run r = heap.poll();
+                if (r == null) {
+                    return null;
+                }
+                final T t = r.head;
+                try {
+                    if (r.advance()) {
+                        heap.add(r);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return t;
+            }
+
+            @Override
+            public void close() {
+                heap.clear();
+                closeAll(open);
+            }
+        };
+    }
+
+    private void closeAll(final ArrayList<Run> runs) {
+        for (Run r : runs) {
+            r.close();
+        }
+    }
+
+    private static void deleteAll(final ArrayList<File> files) {
+        for (File f : files) {
+            f.delete();
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.atson.commons.sql;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.FP.Fun;
+import com.atson.commons.lang.FP.T2;
+
+/**
+ * L[ɕłȂ DataReader ǂ݁AL[Ƃɒl {@link Data.Monoid} ŏݍ DataReader<br>
+ *
+ * <p>
+ * nbV\̓I[vAhX@ŁAXbg (nbVl, Ggԍ) ̓q[vO
+ * direct ByteBuffer ɒuBL[Əݍݒ̒l̓GgԍňzɒûŁA
+ * 1O[ṽIuWFNg HashMap ̂悤 Entry ⃊XgȂB
+ * </p>
+ * <p>
+ * \͏AO[v budget ܂ő傫B
+ * O[v budget 𒴂ƁA\ɂȂL[ (k, v) ̓nbVlŕĈꎞt@CɏoA
+ * \o͂IĂꎞt@C1悤ɏWvB
+ * ꎞt@CgꍇAL[ƒl Serializable łȂ΂ȂȂB
+ * </p>
+ * <p>
+ * hashCode ̓L[ƕĂȂȂ̂ŁA
+ * ǂݒꎞt@Cȏ㕪łȂꍇA {@value #MAX_LEVEL} i𒴂ꍇ́A
+ * ̈ꎞt@C budget ɂ炸 HashMap ŏWvB
+ * </p>
+ * ʂ̏͋K肵ȂB͂ǂݏI܂ōŏ̌ʂ͕ԂȂB
+ *
+ * @param <K> L[̌^
+ * @param <V> ľ^
+ */
+final public class HashAggregator<K, V> implements DataReader<T2<K, V>> {
+
+    /** ȗɃɎO[v̏ */
+    public static final int DEFAULT_BUDGET = 1 << 20;
+
+    // Xbg ByteBuffer  2^31 oCgɂȂ
+    private static final int MAX_BUDGET = 1 << 26;
+    private static final int INITIAL_ENTRIES = 1024;
+    private static final int PARTITIONS = 16;
+    private static final int MAX_LEVEL = 4;
+    private static final int PARTITION_SHIFT = 28;
+    private static final int SLOT_BYTES = 8;
+    // ObjectOutputStream ̎Qƕ\傫ȂȂ悤ɒI reset 
+    private static final int RESET_INTERVAL = 1024;
+
+    /**
+     * reader ǂŁAkey  value  monoid ŏݍށB
+     *
+     * @param key sL[o֐ L[ equals, hashCode 𐳂Ă邱
+     * @param value sݍޒlo֐
+     * @param monoid l̏ݍ
+     * @param budget ɎO[v̏
+     * @param reader  ʂDataReadercloseclose
+     * @return (k, mconcat [v]) ԂDataReader
+     * @throws IllegalArgumentException budgetłȂ傫ꍇ
+     */
+    public static <T, K, V> HashAggregator<K, V>
+        aggregate(final Fun<? super T, ? extends K> key, final Fun<? super T, ? extends V> value,
+                  final Data.Monoid<V> monoid, final int budget, final DataReader<? extends T> reader) {
+        final HashAggregator<K, V> agg = new HashAggregator<K, V>(monoid, budget);
+        agg.input = new Input<K, V>() {
+            @Override
+            void feed(final HashAggregator<K, V> to) {
+                for (T t; (t = reader.read()) != null;) {
+                    to.add(key.app(t), value.app(t));
+                }
+            }
+
+            @Override
+            void close() {
+                reader.close();
+            }
+        };
+        return agg;
+    }
+
+    /**
+     * {@link #aggregate(Fun, Fun, Data.Monoid, int, DataReader)}  budget ȗ
+     */
+    public static <T, K, V> HashAggregator<K, V>
+        aggregate(final Fun<? super T, ? extends K> key, final Fun<? super T, ? extends V> value,
+                  final Data.Monoid<V> monoid, final DataReader<? extends T> reader) {
+        return aggregate(key, value, monoid, DEFAULT_BUDGET, reader);
+    }
+
+    /**
+     * Wv (k, v) ̗
+     */
+    private static abstract class Input<K, V> {
+        abstract void feed(HashAggregator<K, V> to);
+        abstract void close();
+    }
+
+    /**
+     * \ɓ肫Ȃ (k, v) oꎞt@C
+     */
+    private static final class Spill<K, V> extends Input<K, V> {
+        private final File file;
+        private ObjectOutputStream out;
+        private int count = 0;
+        private final int level;
+        // ǂݒƂɕłȂ ׂĂ1̈ꎞt@Cɏoꂽ
+        boolean unsplit = false;
+
+        Spill(final int level) {
+            this.level = level;
+            try {
+                this.file = File.createTempFile("hashagg", ".part");
+                this.out = new ObjectOutputStream(
+                        new BufferedOutputStream(new FileOutputStream(this.file)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void write(final K k, final V v) {
+            try {
+                this.out.writeObject(k);
+                this.out.writeObject(v);
+                if (++this.count % RESET_INTERVAL == 0) {
+                    this.out.reset();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() {
+            try {
+                this.out.close();
+                this.out = null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void feed(final HashAggregator<K, V> to) {
+            ObjectInputStream in = null;
+            try {
+                in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(this.file)));
+                for (int i = 0; i < this.count; i++) {
+                    K k = (K) in.readObject();
+                    V v = (V) in.readObject();
+                    to.add(k, v);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                if (in != null) {
+                    try {
+                        in.close();
+                    } catch (IOException e) {
+                        // ignore Exception at close
+                    }
+                }
+            }
+        }
+
+        @Override
+        void close() {
+            if (this.out != null) {
+                try {
+                    this.out.close();
+                } catch (IOException e) {
+                    // ignore Exception at close
+                }
+                this.out = null;
+            }
+            this.file.delete();
+        }
+    }
+
+    private final Data.Monoid<V> monoid;
+    private final int budget;
+    private ByteBuffer slots;
+    private int mask;
+    private Object[] keys;
+    private Object[] vals;
+    private int size = 0;
+    // łȂꎞt@CWv\ ȊOnull
+    private HashMap<K, V> overflow;
+    private Iterator<Map.Entry<K, V>> overflowIt;
+
+    private Input<K, V> input;
+    private int level = 0;
+    private Spill<K, V>[] spills;
+    private final ArrayDeque<Spill<K, V>> pending = new ArrayDeque<Spill<K, V>>();
+
+    private boolean loaded = false;
+    private int emitIndex = 0;
+
+    private HashAggregator(final Data.Monoid<V> monoid, final int budget) {
+        if (budget <= 0 || budget > MAX_BUDGET) {
+            throw new IllegalArgumentException("budget out of range: " + budget);
+        }
+        this.monoid = monoid;
+        this.budget = budget;
+        final int entries = Math.min(budget, INITIAL_ENTRIES);
+        allocateSlots(entries);
+        this.keys = new Object[entries];
+        this.vals = new Object[entries];
+    }
+
+    /**
+     * entries ̃Ggȉׂ̕œXbg
+     */
+    private void allocateSlots(final int entries) {
+        final int capacity = Integer.highestOneBit(2 * entries - 1) << 1;
+        final long bytes = (long) capacity * SLOT_BYTES;
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("too many entries: " + entries);
+        }
+        this.slots = ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Gg̔zƃXbg{ (budget ܂) ɂ
+     */
+    private void grow() {
+        final int entries = (int) Math.min((long) this.budget, this.keys.length * 2L);
+        final ByteBuffer old = this.slots;
+        this.keys = Arrays.copyOf(this.keys, entries);
+        this.vals = Arrays.copyOf(this.vals, entries);
+        allocateSlots(entries);
+        for (int pos = 0; pos < old.capacity(); pos += SLOT_BYTES) {
+            final int entry = old.getInt(pos + 4);
+            if (entry != 0) {
+                final int h = old.getInt(pos);
+                int slot = h & this.mask;
+                while (this.slots.getInt(slot * SLOT_BYTES + 4) != 0) {
+                    slot = (slot + 1) & this.mask;
+                }
+                this.slots.putInt(slot * SLOT_BYTES, h);
+                this.slots.putInt(slot * SLOT_BYTES + 4, entry);
+            }
+        }
+    }
+
+    private static int hash(final Object k, final int level) {
+        // murmur3 fmix32 xƂɈႤɂȂ悤ɂ炷
+        int h = (k == null ? 0 : k.hashCode()) + level * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(final K k, final V v) {
+        if (this.overflow != null) {
+            final V acc = this.overflow.containsKey(k) ? this.overflow.get(k) : this.monoid.mempty();
+            this.overflow.put(k, this.monoid.mappend(acc, v));
+            return;
+        }
+        final int h = hash(k, this.level);
+        int slot = h & this.mask;
+        for (;;) {
+            final int pos = slot * SLOT_BYTES;
+            final int entry = this.slots.getInt(pos + 4);
+            if (entry == 0) {
+                break;
+            }
+            if (this.slots.getInt(pos) == h) {
+                final Object key = this.keys[entry - 1];
+                if (key == k || key != null && key.equals(k)) {
+                    this.vals[entry - 1] = this.monoid.mappend((V) this.vals[entry - 1], v);
+                    return;
+                }
+            }
+            slot = (slot + 1) & this.mask;
+        }
+
+        if (this.size == this.budget) {
+            spill(h, k, v);
+            return;
+        }
+        if (this.size == this.keys.length) {
+            // 傫\ŒT
+            grow();
+            add(k, v);
+            return;
+        }
+        final int pos = slot * SLOT_BYTES;
+        this.keys[this.size] = k;
+        this.vals[this.size] = this.monoid.mappend(this.monoid.mempty(), v);
+        this.size++;
+        this.slots.putInt(pos, h);
+        this.slots.putInt(pos + 4, this.size);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void spill(final int h, final K k, final V v) {
+        if (this.spills == null) {
+            this.spills = (Spill<K, V>[]) new Spill<?, ?>[PARTITIONS];
+        }
+        final int p = h >>> PARTITION_SHIFT;
+        if (this.spills[p] == null) {
+            this.spills[p] = new Spill<K, V>(this.level);
+        }
+        this.spills[p].write(k, v);
+    }
+
+    private void clearTable() {
+        for (int pos = 0; pos < this.slots.capacity(); pos += SLOT_BYTES) {
+            this.slots.putLong(pos, 0L);
+        }
+        this.size = 0;
+        this.emitIndex = 0;
+    }
+
+    /**
+     * ̓͂\ɓǂݍ
+     * @return ͂cĂȂꍇfalse
+     */
+    private boolean load() {
+        Input<K, V> in = this.input;
+        if (in == null) {
+            Spill<K, V> next = this.pending.poll();
+            if (next == null) {
+                return false;
+            }
+            this.level = next.level + 1;
+            if (next.unsplit || this.level > MAX_LEVEL) {
+                this.overflow = new HashMap<K, V>();
+            }
+            in = next;
+        }
+        this.input = in;
+
+        clearTable();
+        in.feed(this);
+        this.input = null;
+        in.close();
+
+        if (this.overflow != null) {
+            this.overflowIt = this.overflow.entrySet().iterator();
+        }
+        if (this.spills != null) {
+            int n = 0;
+            for (Spill<K, V> sp : this.spills) {
+                if (sp != null) {
+                    sp.finish();
+                    this.pending.push(sp);
+                    n++;
+                }
+            }
+            if (n == 1 && in instanceof Spill<?, ?>) {
+                this.pending.peek().unsplit = true;
+            }
+            this.spills = null;
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T2<K, V> read() {
+        for (;;) {
+            if (!this.loaded) {
+                if (!load()) {
+                    return null;
+                }
+                this.loaded = true;
+            }
+            if (this.overflowIt != null) {
+                if (this.overflowIt.hasNext()) {
+                    final Map.Entry<K, V> e = this.overflowIt.next();
+                    this.overflowIt.remove();
+                    return FP.t2(e.getKey(), e.getValue());
+                }
+                this.overflowIt = null;
+                this.overflow = null;
+                this.loaded = false;
+                continue;
+            }
+            if (this.emitIndex < this.size) {
+                final int i = this.emitIndex++;
+                final K k = (K) this.keys[i];
+                final V v = (V) this.vals[i];
+                this.keys[i] = null;
+                this.vals[i] = null;
+                return FP.t2(k, v);
+            }
+            this.loaded = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * ͂ DataReader  close AcĂꎞt@C폜B
+     */
+    @Override
+    public void close() {
+        try {
+            if (this.input != null) {
+                this.input.close();
+                this.input = null;
+            }
+        } finally {
+            if (this.spills != null) {
+                for (Spill<K, V> sp : this.spills) {
+                    if (sp != null) {
+                        sp.close();
+                    }
+                }
+                this.spills = null;
+            }
+            for (Spill<K, V> sp; (sp = this.pending.poll()) != null;) {
+                sp.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.atson.commons.sql;
+
+import com.atson.commons.annotations.NonNull;
+import com.atson.commons.annotations.Nullable;
+
+/**
+ * ╶̃R[h {@link CodeProperty2} R[hl\<br>
+ *
+ * <p>
+ * R[h {@code CodeProperty2<Integer>} (Short, Byte )  {@code CodeProperty2<Character>} ŁA
+ * ̃R[h͕R[hl𐮐̃R[hƂĈB
+ * </p>
+ * <p>
+ * R[h͈̔͂vfɔׂċ (R[h - ŏl) YƂzB
+ * L͈͂ɂ܂΂ɎU΂Ăꍇ̓I[vAhX@̕\B
+ * \z͕ύXȂ̂ŁAXbhԂŋLĂbNȂňB
+ * </p>
+ * Enum ̕\ {@link #of(Class)} ŃNXƂ1xB
+ *
+ * @param <E> CodeProperty2̌^
+ */
+final public class IntCodeIndex<E extends CodeProperty2<?>> {
+
+    private static final ClassValue<IntCodeIndex<?>> INDEXES = new ClassValue<IntCodeIndex<?>>() {
+        @Override
+        protected IntCodeIndex<?> computeValue(final Class<?> type) {
+            final Object[] values = type.getEnumConstants();
+            if (values == null) {
+                throw new IllegalArgumentException("not an enum: " + type.getName());
+            }
+            return new IntCodeIndex<CodeProperty2<?>>((CodeProperty2<?>[]) values);
+        }
+    };
+
+    // zɂ͈͂̏ vf̂̔{܂
+    private static final int DENSE_FACTOR = 4;
+    private static final int DENSE_MIN = 64;
+
+    private final int min;
+    // zňꍇ̕\ ܂΂ȏꍇnull
+    private final Object[] dense;
+    // ܂΂ȏꍇ̕\
+    private final int[] keys;
+    private final Object[] vals;
+    private final int mask;
+    private final E nullValue;
+    private final boolean ascii;
+
+    /**
+     * cls ̗񋓎q̕\ԂB\̓NXƂ1xB<br>
+     * R[h񋓎qꍇ́Aɐ錾ꂽ̂ԂB
+     *
+     * @param cls ̃R[hEnum̃NX
+     * @return cls̕\
+     * @throws IllegalArgumentException R[hłłȂ񋓎qꍇ
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<?> & CodeProperty2<?>> IntCodeIndex<E> of(final Class<E> cls) {
+        return (IntCodeIndex<E>) INDEXES.get(cls);
+    }
+
+    private IntCodeIndex(final E[] values) {
+        E nullValue = null;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        int count = 0;
+        boolean ascii = true;
+        for (E val : values) {
+            final Object code = val.getCode();
+            if (code == null) {
+                if (nullValue == null) {
+                    nullValue = val;
+                }
+                continue;
+            }
+            final int k = key(code);
+            min = Math.min(min, k);
+            max = Math.max(max, k);
+            ascii &= 0 <= k && k < 0x80;
+            count++;
+        }
+        this.nullValue = nullValue;
+        this.ascii = ascii;
+
+        if (count == 0) {
+            this.min = 0;
+            this.dense = new Object[0];
+            this.keys = null;
+            this.vals = null;
+            this.mask = 0;
+        } else if ((long) max - min < Math.max(DENSE_MIN, (long) count * DENSE_FACTOR)) {
+            this.min = min;
+            this.dense = new Object[max - min + 1];
+            for (E val : values) {
+                final Object code = val.getCode();
+                if (code != null && this.dense[key(code) - min] == null) {
+                    this.dense[key(code) - min] = val;
+                }
+            }
+            this.keys = null;
+            this.vals = null;
+            this.mask = 0;
+        } else {
+            this.min = 0;
+            this.dense = null;
+            final int capacity = Integer.highestOneBit(count * 2 - 1) << 1;
+            this.keys = new int[capacity];
+            this.vals = new Object[capacity];
+            this.mask = capacity - 1;
+            for (E val : values) {
+                final Object code = val.getCode();
+                if (code == null) {
+                    continue;
+                }
+                final int k = key(code);
+                int slot = mix(k) & this.mask;
+                while (this.vals[slot] != null && this.keys[slot] != k) {
+                    slot = (slot + 1) & this.mask;
+                }
+                if (this.vals[slot] == null) {
+                    this.keys[slot] = k;
+                    this.vals[slot] = val;
+                }
+            }
+        }
+    }
+
+    private static int key(final Object code) {
+        if (code instanceof Integer || code instanceof Short || code instanceof Byte) {
+            return ((Number) code).intValue();
+        }
+        if (code instanceof Character) {
+            return ((Character) code).charValue();
+        }
+        throw new IllegalArgumentException("not an integer or char code: " + code.getClass().getName());
+    }
+
+    private static int mix(final int k) {
+        final int h = k * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @param code ̃R[h ̃R[h̏ꍇ͕R[hl
+     * @return codeɑΉvf Ȃnull
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public E get(final int code) {
+        if (this.dense != null) {
+            final int i = code - this.min;
+            // iunsignedŔׂƔz񒷂傫
+            return Integer.compareUnsigned(i, this.dense.length) < 0 ? (E) this.dense[i] : null;
+        }
+        int slot = mix(code) & this.mask;
+        for (; this.vals[slot] != null; slot = (slot + 1) & this.mask) {
+            if (this.keys[slot] == code) {
+                return (E) this.vals[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param code Integer, Short, Byte, Character ̂ꂩ ܂null
+     * @return codeɑΉvf Ȃnull
+     */
+    @Nullable
+    public E get(final Object code) {
+        return code == null ? this.nullValue : get(key(code));
+    }
+
+    /**
+     * @param code ̃R[h ̃R[h̏ꍇ͕R[hl
+     * @return codeɑΉvf
+     * @throws IllegalArgumentException R[hɑΉvfȂꍇ
+     */
+    @NonNull
+    public E valueOfCode(final int code) {
+        final E val = get(code);
+        if (val == null) {
+            throw new IllegalArgumentException("no value for code:" + code);
+        }
+        return val;
+    }
+
+    /**
+     * @param code Integer, Short, Byte, Character ̂ꂩ ܂null
+     * @return codeɑΉvf
+     * @throws IllegalArgumentException R[hɑΉvfȂꍇ
+     */
+    @NonNull
+    public E valueOfCode(final Object code) {
+        final E val = get(code);
+        if (val == null) {
+            throw new IllegalArgumentException("no value for code:" + code);
+        }
+        return val;
+    }
+
+    /**
+     * @return ׂẴR[h0ȏ0x80̏ꍇtrue
+     */
+    public boolean isAscii() {
+        return this.ascii;
+    }
+}
@@ -5,6 +5,7 @@ import static com.atson.commons.sql.Data.nothing;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Connection;
@@ -16,6 +17,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.ParseException;
 import java.time.Month;
+import java.util.NoSuchElementException;
 
 import com.atson.commons.lang.FP;
 import com.atson.commons.lang.FP.EConsumer;
@@ -24,7 +26,15 @@ import com.atson.commons.lang.FP.Fun;
 import com.atson.commons.lang.FP.T2;
 import com.atson.commons.lang.FP.T3;
 import com.atson.commons.lang.FP.T4;
+import com.atson.commons.lang.FP.T5;
+import com.atson.commons.lang.FP.T6;
+import com.atson.commons.lang.FP.T7;
+import com.atson.commons.lang.FP.T8;
 import com.atson.commons.lang.FP.Unit;
+import com.atson.commons.lang.IntIntObj;
+import com.atson.commons.lang.IntObj;
+import com.atson.commons.lang.LongDouble;
+import com.atson.commons.lang.LongLong;
 import com.atson.commons.sql.Accessors.Composer;
 import com.atson.commons.sql.Accessors.OneColumnComposer;
 import com.atson.commons.sql.Data.Maybe;
@@ -225,7 +235,261 @@ final public class JdbcFP {
             }
         };
     }
+
+    public static <X, Y, Z, W, U> Accessors.Composer<T5<X, Y, Z, W, U>> t5Composer(
+            final Accessors.Composer<X> xc,
+            final Accessors.Composer<Y> yc,
+            final Accessors.Composer<Z> zc,
+            final Accessors.Composer<W> wc,
+            final Accessors.Composer<U> uc) {
+        final int newWidth = xc.width() + yc.width() + zc.width() + wc.width() + uc.width();
+        return new Accessors.Composer<T5<X, Y, Z, W, U>>() {
+            @Override
+            public T5<X, Y, Z, W, U> create(final ResultSet rs, final int idx)
+                    throws SQLException {
+                int i = idx;
+                final X x = xc.create(rs, i);
+                i += xc.width();
+                final Y y = yc.create(rs, i);
+                i += yc.width();
+                final Z z = zc.create(rs, i);
+                i += zc.width();
+                final W w = wc.create(rs, i);
+                i += wc.width();
+                final U u = uc.create(rs, i);
+                return T5.of(x, y, z, w, u);
+            }
+
+            @Override
+            public int width() {
+                return newWidth;
+            }
+        };
+    }
+
+    public static <X, Y, Z, W, U, V> Accessors.Composer<T6<X, Y, Z, W, U, V>> t6Composer(
+            final Accessors.Composer<X> xc,
+            final Accessors.Composer<Y> yc,
+            final Accessors.Composer<Z> zc,
+            final Accessors.Composer<W> wc,
+            final Accessors.Composer<U> uc,
+            final Accessors.Composer<V> vc) {
+        final int newWidth = xc.width() + yc.width() + zc.width() + wc.width() + uc.width() + vc.width();
+        return new Accessors.Composer<T6<X, Y, Z, W, U, V>>() {
+            @Override
+            public T6<X, Y, Z, W, U, V> create(final ResultSet rs, final int idx)
+                    throws SQLException {
+                int i = idx;
+                final X x = xc.create(rs, i);
+                i += xc.width();
+                final Y y = yc.create(rs, i);
+                i += yc.width();
+                final Z z = zc.create(rs, i);
+                i += zc.width();
+                final W w = wc.create(rs, i);
+                i += wc.width();
+                final U u = uc.create(rs, i);
+                i += uc.width();
+                final V v = vc.create(rs, i);
+                return T6.of(x, y, z, w, u, v);
+            }
+
+            @Override
+            public int width() {
+                return newWidth;
+            }
+        };
+    }
+
+    public static <X, Y, Z, W, U, V, S> Accessors.Composer<T7<X, Y, Z, W, U, V, S>> t7Composer(
+            final Accessors.Composer<X> xc,
+            final Accessors.Composer<Y> yc,
+            final Accessors.Composer<Z> zc,
+            final Accessors.Composer<W> wc,
+            final Accessors.Composer<U> uc,
+            final Accessors.Composer<V> vc,
+            final Accessors.Composer<S> sc) {
+        final int newWidth = xc.width() + yc.width() + zc.width() + wc.width() + uc.width() + vc.width() + sc.width();
+        return new Accessors.Composer<T7<X, Y, Z, W, U, V, S>>() {
+            @Override
+            public T7<X, Y, Z, W, U, V, S> create(final ResultSet rs, final int idx)
+                    throws SQLException {
+                int i = idx;
+                final X x = xc.create(rs, i);
+                i += xc.width();
+                final Y y = yc.create(rs, i);
+                i += yc.width();
+                final Z z = zc.create(rs, i);
+                i += zc.width();
+                final W w = wc.create(rs, i);
+                i += wc.width();
+                final U u = uc.create(rs, i);
+                i += uc.width();
+                final V v = vc.create(rs, i);
+                i += vc.width();
+                final S s = sc.create(rs, i);
+                return T7.of(x, y, z, w, u, v, s);
+            }
+
+            @Override
+            public int width() {
+                return newWidth;
+            }
+        };
+    }
+
+    public static <X, Y, Z, W, U, V, S, T> Accessors.Composer<T8<X, Y, Z, W, U, V, S, T>> t8Composer(
+            final Accessors.Composer<X> xc,
+            final Accessors.Composer<Y> yc,
+            final Accessors.Composer<Z> zc,
+            final Accessors.Composer<W> wc,
+            final Accessors.Composer<U> uc,
+            final Accessors.Composer<V> vc,
+            final Accessors.Composer<S> sc,
+            final Accessors.Composer<T> tc) {
+        final int newWidth = xc.width() + yc.width() + zc.width() + wc.width() + uc.width() + vc.width() + sc.width() + tc.width();
+        return new Accessors.Composer<T8<X, Y, Z, W, U, V, S, T>>() {
+            @Override
+            public T8<X, Y, Z, W, U, V, S, T> create(final ResultSet rs, final int idx)
+                    throws SQLException {
+                int i = idx;
+                final X x = xc.create(rs, i);
+                i += xc.width();
+                final Y y = yc.create(rs, i);
+                i += yc.width();
+                final Z z = zc.create(rs, i);
+                i += zc.width();
+                final W w = wc.create(rs, i);
+                i += wc.width();
+                final U u = uc.create(rs, i);
+                i += uc.width();
+                final V v = vc.create(rs, i);
+                i += vc.width();
+                final S s = sc.create(rs, i);
+                i += sc.width();
+                final T t = tc.create(rs, i);
+                return T8.of(x, y, z, w, u, v, s, t);
+            }
+
+            @Override
+            public int width() {
+                return newWidth;
+            }
+        };
+    }
     
+    /**
+     * 1ڂ {@link ResultSet#getInt(int)} œǂ݁A bc œǂ Composer<br>
+     * 1ڂ boxing ȂB1ڂnull̏ꍇSQLExceptionX[B
+     */
+    public static <B> Accessors.Composer<IntObj<B>> intObjComposer(final Accessors.Composer<B> bc) {
+        final int newWidth = 1 + bc.width();
+        return new Accessors.Composer<IntObj<B>>() {
+            @Override
+            public IntObj<B> create(final ResultSet rs, final int idx)
+                    throws SQLException {
+                final int a = notNullInt(rs, idx);
+                return IntObj.of(a, bc.create(rs, idx + 1));
+            }
+
+            @Override
+            public int width() {
+                return newWidth;
+            }
+        };
+    }
+
+    /**
+     * 1, 2ڂ {@link ResultSet#getInt(int)} œǂ݁A cc œǂ Composer<br>
+     * 1, 2ڂ boxing ȂBǂ炩null̏ꍇSQLExceptionX[B
+     */
+    public static <C> Accessors.Composer<IntIntObj<C>> intIntObjComposer(final Accessors.Composer<C> cc) {
+        final int newWidth = 2 + cc.width();
+        return new Accessors.Composer<IntIntObj<C>>() {
+            @Override
+            public IntIntObj<C> create(final ResultSet rs, final int idx)
+                    throws SQLException {
+                final int a = notNullInt(rs, idx);
+                final int b = notNullInt(rs, idx + 1);
+                return IntIntObj.of(a, b, cc.create(rs, idx + 2));
+            }
+
+            @Override
+            public int width() {
+                return newWidth;
+            }
+        };
+    }
+
+    private static final Accessors.Composer<LongLong> LONG_LONG_COMPOSER = new Accessors.Composer<LongLong>() {
+        @Override
+        public LongLong create(final ResultSet rs, final int idx)
+                throws SQLException {
+            final long a = notNullLong(rs, idx);
+            return LongLong.of(a, notNullLong(rs, idx + 1));
+        }
+
+        @Override
+        public int width() {
+            return 2;
+        }
+    };
+
+    /**
+     * 2 {@link ResultSet#getLong(int)} œǂ Composer<br>
+     * boxing ȂBǂ炩̗null̏ꍇSQLExceptionX[B
+     */
+    public static Accessors.Composer<LongLong> longLongComposer() {
+        return LONG_LONG_COMPOSER;
+    }
+
+    private static final Accessors.Composer<LongDouble> LONG_DOUBLE_COMPOSER = new Accessors.Composer<LongDouble>() {
+        @Override
+        public LongDouble create(final ResultSet rs, final int idx)
+                throws SQLException {
+            final long a = notNullLong(rs, idx);
+            return LongDouble.of(a, notNullDouble(rs, idx + 1));
+        }
+
+        @Override
+        public int width() {
+            return 2;
+        }
+    };
+
+    /**
+     * 1ڂ {@link ResultSet#getLong(int)}A2ڂ {@link ResultSet#getDouble(int)} œǂ Composer<br>
+     * boxing ȂBǂ炩̗null̏ꍇSQLExceptionX[B
+     */
+    public static Accessors.Composer<LongDouble> longDoubleComposer() {
+        return LONG_DOUBLE_COMPOSER;
+    }
+
+    // getInt Ȃǂ null ̗ 0 Ԃ̂ŁA0 Ƌʂ邽߂ wasNull 
+    private static int notNullInt(final ResultSet rs, final int idx) throws SQLException {
+        final int v = rs.getInt(idx);
+        if (rs.wasNull()) {
+            throw new SQLException("column " + idx + " is null");
+        }
+        return v;
+    }
+
+    private static long notNullLong(final ResultSet rs, final int idx) throws SQLException {
+        final long v = rs.getLong(idx);
+        if (rs.wasNull()) {
+            throw new SQLException("column " + idx + " is null");
+        }
+        return v;
+    }
+
+    private static double notNullDouble(final ResultSet rs, final int idx) throws SQLException {
+        final double v = rs.getDouble(idx);
+        if (rs.wasNull()) {
+            throw new SQLException("column " + idx + " is null");
+        }
+        return v;
+    }
+
     /**
      * composer.width()̑̕Snull̏ꍇnothingԂA
      * łȂꍇjust(composer.create(rs))Ԃcomposer<br>
@@ -262,10 +526,12 @@ final public class JdbcFP {
 
     public static final int RESULT_SET_BEGIN_INDEX = 1;
 
-    public static class ResultSetReader<T> implements Read.RecordReader<T> {
+    public static class ResultSetReader<T> implements Read.Cursor<T> {
         private final Accessors.Creator<T> creator;
         protected final ResultSet rs;
         private final int index;
+        private T current;
+        private boolean valid = false;
         protected ResultSetReader
             (final Accessors.Creator<T> creator, final int idx, final ResultSet rs) {
             this.creator = creator;
@@ -279,18 +545,40 @@ final public class JdbcFP {
 
         @Override
         public Maybe<T> read() {
+            if (!advance()) {
+                return nothing();
+            }
+            return just(this.current);
+        }
+
+        /**
+         * ̍sɐiŃf[^BMaybe ͍Ȃ
+         */
+        @Override
+        public boolean advance() {
+            this.valid = false;
+            this.current = null;
             try {
                 if (!this.rs.next()) {
-                    return nothing();
+                    return false;
                 }
 
-                T data = this.creator.create(this.rs, this.index);
-                return just(data);
+                this.current = this.creator.create(this.rs, this.index);
+                this.valid = true;
+                return true;
             } catch (SQLException e) {
                 throw new SQLRuntimeException(e);
             }
         }
 
+        @Override
+        public T current() {
+            if (!this.valid) {
+                throw new NoSuchElementException();
+            }
+            return this.current;
+        }
+
         @Override
         public void close() {}
     }
@@ -302,6 +590,18 @@ final public class JdbcFP {
         return Accessors.toReader(tc, sel);
     }
 
+    private static volatile SlowQueryLog slowQueryLog = null;
+
+    /**
+     * {@link #dataReader(Connection, Query)} ŔsNG log ɋL^B<br>
+     * null ŋL^߂B
+     *
+     * @param log
+     */
+    public static void setSlowQueryLog(final SlowQueryLog log) {
+        slowQueryLog = log;
+    }
+
     /**
      * QuerŷSQLQuery`oChsASQL𔭍sB<br>
      * ʂDataReaderŃbvĎ擾B<br>
@@ -316,6 +616,10 @@ final public class JdbcFP {
      */
     public static <T> DataReader<T> dataReader(final Connection conn, final Query<T> q)
             throws SQLException {
+        final SlowQueryLog log = slowQueryLog;
+        if (log != null) {
+            return log.dataReader(conn, q);
+        }
         PreparedStatement sel = null;
         try {
             sel = conn.prepareStatement(q.getSql().unSql());
@@ -353,6 +657,24 @@ final public class JdbcFP {
         };
     }
 
+    /**
+     * startColumn Ō̗܂ł񃉃xBeañvpeBɋl߂CreatorԂB
+     * 菑 Creator  {@link ResultSet#getObject(int)} ċl߂ɎgB
+     * @see BeanCreator
+     */
+    public static <A> Accessors.Creator<A> beanCreator(final Class<A> clsA) {
+        return BeanCreator.of(clsA);
+    }
+
+    /**
+     * width񃉃xBeañvpeBɋl߂ComposerԂB
+     * {@link #tComposer(Accessors.Composer, Accessors.Composer)} ȂǂőComposerƕׂĎgB
+     * @see BeanCreator
+     */
+    public static <A> Accessors.Composer<A> beanComposer(final Class<A> clsA, final int width) {
+        return BeanCreator.composer(clsA, width);
+    }
+
     /**
      * ResultSetA^̒lcreator.createŎoAfunB^ɕϊcreatorԂB
      * @param creator A^̒locreator null֎~
@@ -496,19 +818,121 @@ final public class JdbcFP {
      * @returns 1Composer
      */
     public static <E extends Enum<E> & CodeProperty> Accessors.Composer<E> codePropertyComposer(final Class<E> clazz) {
+        final CodeIndex<E> index = CodeIndex.of(clazz);
         return new Accessors.OneColumnComposer<E>() {
             
             @Override
             public E create(final ResultSet rs, final int idx)
                     throws SQLException {
                 String code = JdbcFP.<String> get(String.class, rs, idx);
-                // TODO valueOfCode(Class, String) ͒xȂ̂ŃLbVH
-                return CodePropertyUtil.valueOfCode(clazz, code);
+                return index.valueOfCode(code);
             }
             
         };
     }
+
+    /**
+     * {@link #codePropertyComposer(Class)} ƓlԂA
+     *  {@link ResultSet#getBytes(int)} œǂ݁AString 炸Enuml1ComposerԂB<br>
+     * R[h ASCII ȂZ CHAR/VARCHAR B
+     * Enum ASCII ȊÕR[hꍇ {@link #codePropertyComposer(Class)} ƓœǂށB<br>
+     * ^̗ getBytes gȂ JDBC hCoł͎gȂB
+     *
+     * @returns 1Composer
+     */
+    public static <E extends Enum<E> & CodeProperty> Accessors.Composer<E> codePropertyBytesComposer(final Class<E> clazz) {
+        final CodeIndex<E> index = CodeIndex.of(clazz);
+        if (!index.isAscii()) {
+            return codePropertyComposer(clazz);
+        }
+        return new Accessors.OneColumnComposer<E>() {
+
+            @Override
+            public E create(final ResultSet rs, final int idx)
+                    throws SQLException {
+                byte[] bytes = rs.getBytes(idx);
+                if (bytes == null) {
+                    return index.valueOfCode((String) null);
+                }
+                E val = index.get(bytes, 0, bytes.length);
+                if (val == null) {
+                    throw new IllegalArgumentException(
+                            "no value for code:" + new String(bytes, StandardCharsets.ISO_8859_1));
+                }
+                return val;
+            }
+
+        };
+    }
     
+    /**
+     * ResultSet1̐R[h {@link ResultSet#getInt(int)} œđΉEnuml擾A1ComposerԂB<br>
+     * null̏ꍇ̓R[hnull̗񋓎qԂB<br>
+     * create͑ΉEnuml擾łȂꍇAIllegalArgumentExceptionX[B
+     *
+     * @see IntCodeIndex
+     * @returns 1Composer
+     */
+    public static <E extends Enum<E> & CodeProperty2<Integer>> Accessors.Composer<E> intCodePropertyComposer(final Class<E> clazz) {
+        final IntCodeIndex<E> index = IntCodeIndex.of(clazz);
+        return new Accessors.OneColumnComposer<E>() {
+
+            @Override
+            public E create(final ResultSet rs, final int idx)
+                    throws SQLException {
+                int code = rs.getInt(idx);
+                if (rs.wasNull()) {
+                    return index.valueOfCode((Object) null);
+                }
+                return index.valueOfCode(code);
+            }
+
+        };
+    }
+
+    /**
+     * ResultSet11̃R[h𓾂đΉEnuml擾A1ComposerԂB<br>
+     * R[hׂASCIIȂ {@link ResultSet#getBytes(int)} œǂ݁AString ȂB<br>
+     * null̏ꍇ̓R[hnull̗񋓎qԂB<br>
+     * create͑ΉEnuml擾łȂꍇAIllegalArgumentExceptionX[B
+     *
+     * @see IntCodeIndex
+     * @returns 1Composer
+     */
+    public static <E extends Enum<E> & CodeProperty2<Character>> Accessors.Composer<E> charCodePropertyComposer(final Class<E> clazz) {
+        final IntCodeIndex<E> index = IntCodeIndex.of(clazz);
+        final boolean bytes = index.isAscii();
+        return new Accessors.OneColumnComposer<E>() {
+
+            @Override
+            public E create(final ResultSet rs, final int idx)
+                    throws SQLException {
+                if (bytes) {
+                    byte[] code = rs.getBytes(idx);
+                    if (code == null) {
+                        return index.valueOfCode((Object) null);
+                    }
+                    E val = code.length == 1 ? index.get(code[0] & 0xff) : null;
+                    if (val != null) {
+                        return val;
+                    }
+                    throw new IllegalArgumentException(
+                            "no value for code:" + new String(code, StandardCharsets.ISO_8859_1));
+                }
+                String code = JdbcFP.<String> get(String.class, rs, idx);
+                if (code == null) {
+                    return index.valueOfCode((Object) null);
+                }
+                E val = code.length() == 1 ? index.get(code.charAt(0)) : null;
+                if (val != null) {
+                    return val;
+                }
+                throw new IllegalArgumentException("no value for code:" + code);
+            }
+
+        };
+    }
+
     /**
      * @return 1mon`̌Ƃĉ߂Composer<br>
      * create͗null̏ꍇAnullԂB<br>
@@ -714,6 +1138,115 @@ final public class JdbcFP {
         return dataReader(t4Creator(clsA, clsB, clsC, clsD), sel);
     }
 
+    /**
+     * 51T5ɂ<br>
+     * T2 qɂ {@link #tCreator(Class, Class, Class, Class, Class)} ƈႢA1sɂ1Ȃ
+     */
+    public static <A,B,C,D,E>
+        Accessors.Creator<T5<A,B,C,D,E>>
+        t5Creator(final Class<A> clsA,
+                  final Class<B> clsB,
+                  final Class<C> clsC,
+                  final Class<D> clsD,
+                  final Class<E> clsE) {
+        return new Accessors.Creator<T5<A,B,C,D,E>>() {
+            @Override
+            public T5<A,B,C,D,E>
+                create(final ResultSet rs, final int idx) throws SQLException {
+                return
+                    FP.t5(JdbcFP.<A>get(clsA, rs, idx),
+                          JdbcFP.<B>get(clsB, rs, idx + 1),
+                          JdbcFP.<C>get(clsC, rs, idx + 2),
+                          JdbcFP.<D>get(clsD, rs, idx + 3),
+                          JdbcFP.<E>get(clsE, rs, idx + 4));
+            }
+        };
+    }
+
+    /**
+     * 61T6ɂ
+     */
+    public static <A,B,C,D,E,F>
+        Accessors.Creator<T6<A,B,C,D,E,F>>
+        t6Creator(final Class<A> clsA,
+                  final Class<B> clsB,
+                  final Class<C> clsC,
+                  final Class<D> clsD,
+                  final Class<E> clsE,
+                  final Class<F> clsF) {
+        return new Accessors.Creator<T6<A,B,C,D,E,F>>() {
+            @Override
+            public T6<A,B,C,D,E,F>
+                create(final ResultSet rs, final int idx) throws SQLException {
+                return
+                    FP.t6(JdbcFP.<A>get(clsA, rs, idx),
+                          JdbcFP.<B>get(clsB, rs, idx + 1),
+                          JdbcFP.<C>get(clsC, rs, idx + 2),
+                          JdbcFP.<D>get(clsD, rs, idx + 3),
+                          JdbcFP.<E>get(clsE, rs, idx + 4),
+                          JdbcFP.<F>get(clsF, rs, idx + 5));
+            }
+        };
+    }
+
+    /**
+     * 71T7ɂ
+     */
+    public static <A,B,C,D,E,F,G>
+        Accessors.Creator<T7<A,B,C,D,E,F,G>>
+        t7Creator(final Class<A> clsA,
+                  final Class<B> clsB,
+                  final Class<C> clsC,
+                  final Class<D> clsD,
+                  final Class<E> clsE,
+                  final Class<F> clsF,
+                  final Class<G> clsG) {
+        return new Accessors.Creator<T7<A,B,C,D,E,F,G>>() {
+            @Override
+            public T7<A,B,C,D,E,F,G>
+                create(final ResultSet rs, final int idx) throws SQLException {
+                return
+                    FP.t7(JdbcFP.<A>get(clsA, rs, idx),
+                          JdbcFP.<B>get(clsB, rs, idx + 1),
+                          JdbcFP.<C>get(clsC, rs, idx + 2),
+                          JdbcFP.<D>get(clsD, rs, idx + 3),
+                          JdbcFP.<E>get(clsE, rs, idx + 4),
+                          JdbcFP.<F>get(clsF, rs, idx + 5),
+                          JdbcFP.<G>get(clsG, rs, idx + 6));
+            }
+        };
+    }
+
+    /**
+     * 81T8ɂ
+     */
+    public static <A,B,C,D,E,F,G,H>
+        Accessors.Creator<T8<A,B,C,D,E,F,G,H>>
+        t8Creator(final Class<A> clsA,
+                  final Class<B> clsB,
+                  final Class<C> clsC,
+                  final Class<D> clsD,
+                  final Class<E> clsE,
+                  final Class<F> clsF,
+                  final Class<G> clsG,
+                  final Class<H> clsH) {
+        return new Accessors.Creator<T8<A,B,C,D,E,F,G,H>>() {
+            @Override
+            public T8<A,B,C,D,E,F,G,H>
+                create(final ResultSet rs, final int idx) throws SQLException {
+                return
+                    FP.t8(JdbcFP.<A>get(clsA, rs, idx),
+                          JdbcFP.<B>get(clsB, rs, idx + 1),
+                          JdbcFP.<C>get(clsC, rs, idx + 2),
+                          JdbcFP.<D>get(clsD, rs, idx + 3),
+                          JdbcFP.<E>get(clsE, rs, idx + 4),
+                          JdbcFP.<F>get(clsF, rs, idx + 5),
+                          JdbcFP.<G>get(clsG, rs, idx + 6),
+                          JdbcFP.<H>get(clsH, rs, idx + 7));
+            }
+        };
+    }
+
     @Deprecated
     // Maybe̎gĂ
     public static <A> Accessors.Creator<Maybe<A>> maybeCreator(
@@ -763,12 +1296,7 @@ final public class JdbcFP {
                         return new FP.Fun<T,FP.Unit>() {
                             @Override
                             public FP.Unit app(final T t) {
-                                try {
-                                    ps.setObject(idx, t);
-                                } catch (SQLException e) {
-                                    throw new SQLRuntimeException(e);
-                                }
-                                return FP.UNIT;
+                                return set(ps, idx, t);
                             }
                         };
                     }
@@ -789,7 +1317,29 @@ final public class JdbcFP {
 
     public static <T>
         FP.Unit set(final PreparedStatement ps, final Integer idx, final T t) {
-        return JdbcFP.<T>set(ps, idx).app(t);
+        try {
+            ps.setObject(idx, t);
+        } catch (SQLException e) {
+            throw new SQLRuntimeException(e);
+        }
+        return FP.UNIT;
+    }
+
+    private static final FP.Fun3<PreparedStatement, Integer, Object, FP.Unit> SETTER =
+        new FP.Fun3<PreparedStatement, Integer, Object, FP.Unit>() {
+            @Override
+            public FP.Unit app(final PreparedStatement ps, final Integer idx, final Object t) {
+                return set(ps, idx, t);
+            }
+        };
+
+    /**
+     * {@link #set()} 3 Kp̊֐ȂBCX^X͋L
+     */
+    @SuppressWarnings("unchecked")
+    public static <T>
+        FP.Fun3<PreparedStatement, Integer, T, FP.Unit> setter() {
+        return (FP.Fun3<PreparedStatement, Integer, T, FP.Unit>) (FP.Fun3<PreparedStatement, Integer, ?, FP.Unit>) SETTER;
     }
 
 
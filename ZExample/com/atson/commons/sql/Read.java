@@ -1,11 +1,13 @@
 package com.atson.commons.sql;
 
 import static com.atson.commons.lang.fp.Data.just;
+import static com.atson.commons.lang.fp.Data.nothing;
 
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.NoSuchElementException;
 
+import com.atson.commons.lang.FP.EConsumer;
 import com.atson.commons.lang.fp.Data.Maybe;
 import com.atson.commons.lang.fp.Exceptional.RuntimeHandler;
 
@@ -56,6 +58,137 @@ final public class Read {
         void close() throws X;
     }
 
+    /**
+     * <pre>
+     * Maybe 炸ɓǂ RecordReader
+     * advance()1ǂ݂߁Aǂ߂f[^current()Ŏo
+     *
+     *  OK
+     * Cursor{@code <T>} cursor = Read.cursor(reader);
+     * while (cursor.advance()) {
+     *   T data = cursor.current();
+     *   // do something
+     * }
+     * cursor.close();
+     * </pre>
+     *
+     * read()  advance()  current() ŎAf[^Ƃ Maybe B
+     *  Cursor ɑ΂ read()  advance() ČĂł悢B
+     *
+     * @param <T> f[^̌^
+     */
+    public static interface Cursor<T> extends RecordReader<T> {
+        /**
+         * @return ̃f[^ǂ߂ꍇtrue f[^ȂȂfalse
+         */
+        boolean advance() throws Exception;
+
+        /**
+         * @return Ōadvance()œǂ񂾃f[^
+         * @throws NoSuchElementException advance()ĂłȂAfalseԂꍇ
+         */
+        T current();
+    }
+
+    /**
+     * advance()current()read()Cursor
+     *
+     * @param <T> f[^̌^
+     */
+    public static abstract class AbstractCursor<T> implements Cursor<T> {
+        private T current;
+        private boolean valid = false;
+
+        /**
+         * ̃f[^ǂ{@link #setCurrent(Object)}
+         *
+         * @return ̃f[^ǂ߂ꍇtrue
+         */
+        protected abstract boolean fetch() throws Exception;
+
+        protected final void setCurrent(final T data) {
+            this.current = data;
+        }
+
+        @Override
+        public final boolean advance() throws Exception {
+            this.valid = false;
+            this.current = null;
+            this.valid = fetch();
+            return this.valid;
+        }
+
+        @Override
+        public final T current() {
+            if (!this.valid) {
+                throw new NoSuchElementException();
+            }
+            return this.current;
+        }
+
+        @Override
+        public Maybe<T> read() throws Exception {
+            return advance() ? just(current()) : nothing();
+        }
+    }
+
+    /**
+     * readerCursorƂēǂށBreaderCursorȂ炻̂܂ܕԂB<br>
+     * CursorłȂꍇ̓f[^Ƃreader.read()MaybeB
+     * ԂCursorclose()readerB
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Cursor<T> cursor(final RecordReader<? extends T> reader) {
+        if (reader instanceof Cursor) {
+            return (Cursor<T>) reader;
+        }
+        return new AbstractCursor<T>() {
+            @Override
+            protected boolean fetch() throws Exception {
+                final Maybe<? extends T> m = reader.read();
+                if (m.isNothing()) {
+                    return false;
+                }
+                setCurrent(m.fromJust());
+                return true;
+            }
+
+            @Override
+            public void close() throws Exception {
+                reader.close();
+            }
+        };
+    }
+
+    /**
+     * reader̎c̃f[^fɓnBreader͕ȂB
+     *
+     * @return nf[^̐
+     */
+    public static <T, X extends Exception> int readInto(final RecordReader<? extends T> reader,
+            final EConsumer<? super T, X> f) throws Exception {
+        final Cursor<? extends T> c = cursor(reader);
+        int n = 0;
+        while (c.advance()) {
+            f.accept(c.current());
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * OsOɂ{@link Cursor#advance()}
+     */
+    public static boolean unsafeAdvance(final Cursor<?> cursor) {
+        try {
+            return cursor.advance();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SQLRuntimeException(e);
+        }
+    }
+
     public static <T> Maybe<T>
         unsafeRead(final RecordReader<T> reader) {
         return new RuntimeHandler<Maybe<T>>() {
@@ -71,7 +204,7 @@ final public class Read {
      *
      * @author hibino
      */
-    static public final class PushbackReader<T> implements RecordReader<T> {
+    static public final class PushbackReader<T> extends AbstractCursor<T> {
         /**
          * PushbackReader擾<br>
          *
@@ -88,11 +221,11 @@ final public class Read {
             return new PushbackReader<U>(in);
         }
 
-        private final RecordReader<? extends T> in;
-        private final LinkedList<T> stack = new LinkedList<T>();
+        private final Cursor<? extends T> in;
+        private final ArrayList<T> stack = new ArrayList<T>();
 
         private PushbackReader(final RecordReader<? extends T> in) {
-            this.in = in;
+            this.in = cursor(in);
         }
 
         public void unread(final T data) {
@@ -100,13 +233,16 @@ final public class Read {
         }
 
         @Override
-        public Maybe<T> read() throws Exception {
-            if (!this.stack.isEmpty())
-             {
-                return just(this.stack.removeLast()); // pop
+        protected boolean fetch() throws Exception {
+            if (!this.stack.isEmpty()) {
+                setCurrent(this.stack.remove(this.stack.size() - 1)); // pop
+                return true;
             }
-
-            return Maybe.up(this.in.read());
+            if (!this.in.advance()) {
+                return false;
+            }
+            setCurrent(this.in.current());
+            return true;
         }
 
         public Maybe<T> peek() throws Exception {
@@ -117,6 +253,19 @@ final public class Read {
             return mayData;
         }
 
+        /**
+         * Maybe Ȃ{@link #peek()}
+         *
+         * @return ̃f[^ꍇtrue ̃f[^current()ŎoAadvance()łǂ߂
+         */
+        public boolean peekAdvance() throws Exception {
+            if (!advance()) {
+                return false;
+            }
+            unread(current());
+            return true;
+        }
+
         /**
          * {@inheritDoc}
          *
@@ -162,18 +311,21 @@ final public class Read {
                 return new Iterator<T>() {
                     @Override
                     public boolean hasNext() {
-                        return unsafePeek(pbr).isJust();
+                        try {
+                            return pbr.peekAdvance();
+                        } catch (RuntimeException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw new SQLRuntimeException(e);
+                        }
                     }
 
                     @Override
                     public T next() {
-                        Maybe<T> data = unsafeRead(pbr);
-
-                        if (data.isNothing()) {
+                        if (!unsafeAdvance(pbr)) {
                             throw new NoSuchElementException();
                         }
-
-                        return data.fromJust();
+                        return pbr.current();
                     }
 
                     @Override
@@ -0,0 +1,630 @@
+package com.atson.commons.sql;
+
+import static com.atson.commons.sql.Data.just;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.atson.commons.collection.TopKHeap;
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.FP.Fun;
+import com.atson.commons.lang.FP.T2;
+import com.atson.commons.sql.Data.Maybe;
+
+/**
+ * {@link DataReader} gݍ킹邽߂̃[eBeB<br>
+ * Ԃ DataReader  close ƁA͂ DataReader ׂ close B
+ */
+final public class Readers {
+    private Readers() { FP.noInstance(); }
+
+    /**
+     * RecordReader  DataReader ƂēǂށB<br>
+     * read, close ŃX[ꂽO͎sOɃbvB
+     *
+     * @param reader null֎~
+     * @return readerǂDataReader
+     */
+    public static <T> DataReader<T> fromRecordReader(final Read.RecordReader<? extends T> reader) {
+        final Read.Cursor<? extends T> cursor = Read.cursor(reader);
+        return new DataReader<T>() {
+            @Override
+            public T read() {
+                return Read.unsafeAdvance(cursor) ? cursor.current() : null;
+            }
+
+            @Override
+            public void close() {
+                try {
+                    reader.close();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new SQLRuntimeException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * {@link FP#topK(int, java.util.Comparator, Iterable)}  DataReader <br>
+     * reader Ō܂œǂނAɂ k cȂBreader ͕ȂB
+     *
+     * @return c ő傫 k  傫
+     */
+    public static <T> ArrayList<T> topK(final int k, final Comparator<? super T> c, final DataReader<? extends T> reader) {
+        return collectK(TopKHeap.<T>top(k, c), reader).toList();
+    }
+
+    /**
+     * {@link FP#bottomK(int, java.util.Comparator, Iterable)}  DataReader  reader ͕ȂB
+     *
+     * @return c ŏ k  
+     */
+    public static <T> ArrayList<T> bottomK(final int k, final Comparator<? super T> c, final DataReader<? extends T> reader) {
+        return collectK(TopKHeap.<T>bottom(k, c), reader).toList();
+    }
+
+    private static <T> TopKHeap<T> collectK(final TopKHeap<T> heap, final DataReader<? extends T> reader) {
+        long i = 0;
+        for (T t; (t = reader.read()) != null;) {
+            heap.offer(t, i++);
+        }
+        return heap;
+    }
+
+    /**
+     * ʂ̍s̍
+     *
+     * @param <A> ̍š^
+     * @param <B> E̍š^
+     * @param <R> ʂ̍š^
+     */
+    private static abstract class JoinRow<A, B, R> {
+        final boolean leftOuter;
+        final boolean rightOuter;
+
+        JoinRow(final boolean leftOuter, final boolean rightOuter) {
+            this.leftOuter = leftOuter;
+            this.rightOuter = rightOuter;
+        }
+
+        abstract R both(A a, B b);
+        R leftOnly(@SuppressWarnings("unused") final A a) { return FP.unsupported(); }
+        R rightOnly(@SuppressWarnings("unused") final B b) { return FP.unsupported(); }
+    }
+
+    private static <A, B> JoinRow<A, B, T2<A, B>> innerRow() {
+        return new JoinRow<A, B, T2<A, B>>(false, false) {
+            @Override
+            T2<A, B> both(final A a, final B b) { return FP.t2(a, b); }
+        };
+    }
+
+    private static <A, B> JoinRow<A, B, T2<A, Maybe<B>>> leftRow() {
+        return new JoinRow<A, B, T2<A, Maybe<B>>>(true, false) {
+            @Override
+            T2<A, Maybe<B>> both(final A a, final B b) { return FP.t2(a, just(b)); }
+            @Override
+            T2<A, Maybe<B>> leftOnly(final A a) { return FP.t2(a, Data.<B> nothing()); }
+        };
+    }
+
+    private static <A, B> JoinRow<A, B, T2<Maybe<A>, Maybe<B>>> fullRow() {
+        return new JoinRow<A, B, T2<Maybe<A>, Maybe<B>>>(true, true) {
+            @Override
+            T2<Maybe<A>, Maybe<B>> both(final A a, final B b) { return FP.t2(just(a), just(b)); }
+            @Override
+            T2<Maybe<A>, Maybe<B>> leftOnly(final A a) { return FP.t2(just(a), Data.<B> nothing()); }
+            @Override
+            T2<Maybe<A>, Maybe<B>> rightOnly(final B b) { return FP.t2(Data.<A> nothing(), just(b)); }
+        };
+    }
+
+    /**
+     * ʂ1ȏソ߂ĂԂDataReader̋ʕ
+     */
+    private static abstract class JoinReader<A, B, R> implements DataReader<R> {
+        protected final DataReader<? extends A> left;
+        protected final DataReader<? extends B> right;
+        protected final JoinRow<A, B, R> row;
+        protected final ArrayDeque<R> out = new ArrayDeque<R>();
+        private boolean finished = false;
+
+        JoinReader(final DataReader<? extends A> left, final DataReader<? extends B> right,
+                final JoinRow<A, B, R> row) {
+            this.left = left;
+            this.right = right;
+            this.row = row;
+        }
+
+        /**
+         * i߂āAʂout0ȏ
+         * @return ׂ͂ēǂݏIꍇtrue
+         */
+        protected abstract boolean step();
+
+        @Override
+        public final R read() {
+            for (;;) {
+                R r = this.out.poll();
+                if (r != null) {
+                    return r;
+                }
+                if (this.finished) {
+                    return null;
+                }
+                this.finished = step();
+            }
+        }
+
+        @Override
+        public final void close() {
+            try {
+                this.left.close();
+            } finally {
+                this.right.close();
+            }
+        }
+    }
+
+    /**
+     * ̓͂L[1ǂݐi߂錋<br>
+     * E͓L[̍sobt@̂ŁA͉E̍őO[vōς
+     */
+    private static final class MergeJoinReader<K, A, B, R> extends JoinReader<A, B, R> {
+        private final Comparator<? super K> comp;
+        private final Fun<? super A, ? extends K> keyA;
+        private final Fun<? super B, ? extends K> keyB;
+
+        private boolean started = false;
+        private K prevKA;
+        private boolean hasPrevKA = false;
+
+        private B nextB;
+        private K nextBKey;
+
+        private final ArrayList<B> group = new ArrayList<B>();
+        private K groupKey;
+        private boolean groupLoaded = false;
+        private boolean groupMatched = false;
+
+        MergeJoinReader(final Comparator<? super K> comp,
+                final Fun<? super A, ? extends K> keyA, final Fun<? super B, ? extends K> keyB,
+                final DataReader<? extends A> left, final DataReader<? extends B> right,
+                final JoinRow<A, B, R> row) {
+            super(left, right, row);
+            this.comp = comp;
+            this.keyA = keyA;
+            this.keyB = keyB;
+        }
+
+        private void advanceB() {
+            B b = this.right.read();
+            if (b == null) {
+                this.nextB = null;
+                return;
+            }
+            K k = this.keyB.app(b);
+            if (this.nextB != null && this.comp.compare(this.nextBKey, k) > 0) {
+                throw new IllegalStateException("right reader is not sorted: " + this.nextBKey + " > " + k);
+            }
+            this.nextB = b;
+            this.nextBKey = k;
+        }
+
+        private void closeGroup() {
+            if (this.groupMatched || !this.row.rightOuter) {
+                this.group.clear();
+            } else {
+                for (B b : this.group) {
+                    this.out.add(this.row.rightOnly(b));
+                }
+                this.group.clear();
+            }
+            this.groupLoaded = false;
+            this.groupMatched = false;
+        }
+
+        private void loadGroup() {
+            this.groupKey = this.nextBKey;
+            do {
+                this.group.add(this.nextB);
+                advanceB();
+            } while (this.nextB != null && this.comp.compare(this.nextBKey, this.groupKey) == 0);
+            this.groupLoaded = true;
+            this.groupMatched = false;
+        }
+
+        @Override
+        protected boolean step() {
+            if (!this.started) {
+                this.started = true;
+                advanceB();
+            }
+
+            A a = this.left.read();
+            if (a == null) {
+                closeGroup();
+                if (this.row.rightOuter) {
+                    while (this.nextB != null) {
+                        this.out.add(this.row.rightOnly(this.nextB));
+                        advanceB();
+                    }
+                }
+                return true;
+            }
+
+            K ka = this.keyA.app(a);
+            if (this.hasPrevKA && this.comp.compare(this.prevKA, ka) > 0) {
+                throw new IllegalStateException("left reader is not sorted: " + this.prevKA + " > " + ka);
+            }
+            this.prevKA = ka;
+            this.hasPrevKA = true;
+
+            if (this.groupLoaded && this.comp.compare(this.groupKey, ka) < 0) {
+                closeGroup();
+            }
+            if (!this.groupLoaded) {
+                while (this.nextB != null && this.comp.compare(this.nextBKey, ka) < 0) {
+                    if (this.row.rightOuter) {
+                        this.out.add(this.row.rightOnly(this.nextB));
+                    }
+                    advanceB();
+                }
+                if (this.nextB != null) {
+                    loadGroup();
+                }
+            }
+
+            if (this.groupLoaded && this.comp.compare(this.groupKey, ka) == 0) {
+                for (B b : this.group) {
+                    this.out.add(this.row.both(a, b));
+                }
+                this.groupMatched = true;
+            } else if (this.row.leftOuter) {
+                this.out.add(this.row.leftOnly(a));
+            }
+            return false;
+        }
+    }
+
+    /**
+     * ESǂŃnbV\Aň<br>
+     * Eɂ͏̓͂n
+     */
+    private static final class HashJoinReader<K, A, B, R> extends JoinReader<A, B, R> {
+        private final Fun<? super A, ? extends K> keyA;
+        private final Fun<? super B, ? extends K> keyB;
+
+        private HashMap<K, Bucket<B>> table;
+
+        private static final class Bucket<B> {
+            final ArrayList<B> rows = new ArrayList<B>(1);
+            boolean matched = false;
+        }
+
+        HashJoinReader(final Fun<? super A, ? extends K> keyA, final Fun<? super B, ? extends K> keyB,
+                final DataReader<? extends A> left, final DataReader<? extends B> right,
+                final JoinRow<A, B, R> row) {
+            super(left, right, row);
+            this.keyA = keyA;
+            this.keyB = keyB;
+        }
+
+        private void build() {
+            this.table = new HashMap<K, Bucket<B>>();
+            for (B b; (b = this.right.read()) != null;) {
+                K k = this.keyB.app(b);
+                Bucket<B> bucket = this.table.get(k);
+                if (bucket == null) {
+                    bucket = new Bucket<B>();
+                    this.table.put(k, bucket);
+                }
+                bucket.rows.add(b);
+            }
+        }
+
+        @Override
+        protected boolean step() {
+            if (this.table == null) {
+                build();
+            }
+
+            A a = this.left.read();
+            if (a == null) {
+                if (this.row.rightOuter) {
+                    for (Map.Entry<K, Bucket<B>> e : this.table.entrySet()) {
+                        Bucket<B> bucket = e.getValue();
+                        if (bucket.matched) {
+                            continue;
+                        }
+                        for (B b : bucket.rows) {
+                            this.out.add(this.row.rightOnly(b));
+                        }
+                    }
+                }
+                this.table.clear();
+                return true;
+            }
+
+            Bucket<B> bucket = this.table.get(this.keyA.app(a));
+            if (bucket != null) {
+                for (B b : bucket.rows) {
+                    this.out.add(this.row.both(a, b));
+                }
+                bucket.matched = true;
+            } else if (this.row.leftOuter) {
+                this.out.add(this.row.leftOnly(a));
+            }
+            return false;
+        }
+    }
+
+    /**
+     * }[W ()<br>
+     * as, bs ͂ comp ɂăL[̏ɕłȂ΂ȂȂB
+     * łȂƂoꍇAread  IllegalStateException X[B<br>
+     * L[̍sɂꍇ́A̒ςԂB
+     *
+     * @param comp L[̔r L[nullɂȂ肤Ȃnull邱
+     * @param keyA ̍sL[o֐
+     * @param keyB E̍sL[o֐
+     * @param as L[̍̓
+     * @param bs L[̉E̓
+     * @return L[ (a, b) ̏ŕԂDataReader
+     */
+    public static <K, A, B> DataReader<T2<A, B>>
+        mergeJoin(final Comparator<? super K> comp,
+                  final Fun<? super A, ? extends K> keyA, final Fun<? super B, ? extends K> keyB,
+                  final DataReader<? extends A> as, final DataReader<? extends B> bs) {
+        return new MergeJoinReader<K, A, B, T2<A, B>>(comp, keyA, keyB, as, bs, Readers.<A, B> innerRow());
+    }
+
+    /**
+     * }[W (O)
+     * @see #mergeJoin(Comparator, Fun, Fun, DataReader, DataReader)
+     * @return ΉE̍sȂ a ɂ (a, nothing) ԂDataReader
+     */
+    public static <K, A, B> DataReader<T2<A, Maybe<B>>>
+        leftMergeJoin(final Comparator<? super K> comp,
+                      final Fun<? super A, ? extends K> keyA, final Fun<? super B, ? extends K> keyB,
+                      final DataReader<? extends A> as, final DataReader<? extends B> bs) {
+        return new MergeJoinReader<K, A, B, T2<A, Maybe<B>>>(comp, keyA, keyB, as, bs, Readers.<A, B> leftRow());
+    }
+
+    /**
+     * }[W (SO)<br>
+     * ʂ̓L[ɕԁB
+     * @see #mergeJoin(Comparator, Fun, Fun, DataReader, DataReader)
+     * @return БɂȂs nothing Ŗ߂ĕԂDataReader
+     */
+    public static <K, A, B> DataReader<T2<Maybe<A>, Maybe<B>>>
+        fullMergeJoin(final Comparator<? super K> comp,
+                      final Fun<? super A, ? extends K> keyA, final Fun<? super B, ? extends K> keyB,
+                      final DataReader<? extends A> as, final DataReader<? extends B> bs) {
+        return new MergeJoinReader<K, A, B, T2<Maybe<A>, Maybe<B>>>(comp, keyA, keyB, as, bs, Readers.<A, B> fullRow());
+    }
+
+    /**
+     * nbV ()<br>
+     * ŏ read  build SǂŁAL[ equals/hashCode ɂnbV\B
+     * ̓͂ build ɁA傫 probe ɓnƁB<br>
+     * ͂L[łKv͂ȂBʂ probe ̏ŕԂB
+     *
+     * @param keyA probe̍sL[o֐
+     * @param keyB build̍sL[o֐
+     * @param probe 1ǂ܂
+     * @param build ɓǂݍ܂
+     * @return L[ (a, b) ԂDataReader
+     */
+    public static <K, A, B> DataReader<T2<A, B>>
+        hashJoin(final Fun<? super A, ? extends K> keyA, final Fun<? super B, ? extends K> keyB,
+                 final DataReader<? extends A> probe, final DataReader<? extends B> build) {
+        return new HashJoinReader<K, A, B, T2<A, B>>(keyA, keyB, probe, build, Readers.<A, B> innerRow());
+    }
+
+    /**
+     * nbV (probe ̍O)
+     * @see #hashJoin(Fun, Fun, DataReader, DataReader)
+     * @return Ή build ̍sȂ a ɂ (a, nothing) ԂDataReader
+     */
+    public static <K, A, B> DataReader<T2<A, Maybe<B>>>
+        leftHashJoin(final Fun<? super A, ? extends K> keyA, final Fun<? super B, ? extends K> keyB,
+                     final DataReader<? extends A> probe, final DataReader<? extends B> build) {
+        return new HashJoinReader<K, A, B, T2<A, Maybe<B>>>(keyA, keyB, probe, build, Readers.<A, B> leftRow());
+    }
+
+    /**
+     * nbV (SO)<br>
+     * Ή probe ̍sȂ build ̍śAprobe ǂݏIɂ܂Ƃ߂ĕԂB
+     * @see #hashJoin(Fun, Fun, DataReader, DataReader)
+     * @return БɂȂs nothing Ŗ߂ĕԂDataReader
+     */
+    public static <K, A, B> DataReader<T2<Maybe<A>, Maybe<B>>>
+        fullHashJoin(final Fun<? super A, ? extends K> keyA, final Fun<? super B, ? extends K> keyB,
+                     final DataReader<? extends A> probe, final DataReader<? extends B> build) {
+        return new HashJoinReader<K, A, B, T2<Maybe<A>, Maybe<B>>>(keyA, keyB, probe, build, Readers.<A, B> fullRow());
+    }
+
+    /**
+     * ׂ荇vf1O[vǂݐi߂ DataReader ̋ʕ<br>
+     * 1ǂ݂邾Ȃ̂ŁA͍ő̃O[vōς
+     */
+    private static abstract class GroupReader<T, G> implements DataReader<G> {
+        private final DataReader<? extends T> in;
+        private T next;
+        private boolean started = false;
+
+        GroupReader(final DataReader<? extends T> in) {
+            this.in = in;
+        }
+
+        /**
+         * O[v̍ŏ̗vf󂯎
+         */
+        protected abstract void begin(T first);
+
+        /**
+         * O[vɍŌɉvf last ƓO[vȂ t  true Ԃ<br>
+         *  groupBy ƓAO[v̍ŏ̗vfł͂ȂO̗vfƔׂ
+         */
+        protected abstract boolean add(T last, T t);
+
+        /**
+         * @return first n܂ǂݏIO[v
+         */
+        protected abstract G end(T first);
+
+        @Override
+        public final G read() {
+            if (!this.started) {
+                this.started = true;
+                this.next = this.in.read();
+            }
+            final T first = this.next;
+            if (first == null) {
+                return null;
+            }
+
+            begin(first);
+            for (T last = first;; last = this.next) {
+                this.next = this.in.read();
+                if (this.next == null || !add(last, this.next)) {
+                    break;
+                }
+            }
+            return end(first);
+        }
+
+        @Override
+        public final void close() {
+            this.in.close();
+        }
+    }
+
+    /**
+     * {@link FP.ArrayListJ#groupBy(FP.Eq, Iterable)}  DataReader <br>
+     * ׂ荇 eq œvf1O[vԂBS܂Ƃ߂ēǂނƂ͂ȂB
+     *
+     * @param eq vf̓l֌W
+     * @param reader O[vƂɕ񂾓
+     * @return ׂ荇vf̃Xg1ԂDataReader
+     */
+    public static <T> DataReader<ArrayList<T>>
+        groupBy(final FP.Eq<? super T> eq, final DataReader<? extends T> reader) {
+        return new GroupReader<T, ArrayList<T>>(reader) {
+            private ArrayList<T> group;
+
+            @Override
+            protected void begin(final T first) {
+                this.group = new ArrayList<T>();
+                this.group.add(first);
+            }
+
+            @Override
+            protected boolean add(final T last, final T t) {
+                if (!eq.eq(last, t)) {
+                    return false;
+                }
+                this.group.add(t);
+                return true;
+            }
+
+            @Override
+            protected ArrayList<T> end(final T first) {
+                ArrayList<T> g = this.group;
+                this.group = null;
+                return g;
+            }
+        };
+    }
+
+    public static <T> DataReader<ArrayList<T>>
+        groupBy(final Fun<T, Fun<T, Boolean>> eq, final DataReader<? extends T> reader) {
+        return groupBy(FP.defEq(eq), reader);
+    }
+
+    /**
+     * {@link FP.ArrayListJ#groupByFst(FP.Eq, Iterable)}  DataReader <br>
+     * L[̏ɕ (k, v) ǂ݁Aׂ荇L[ v ܂Ƃ߂1ԂB
+     *
+     * @param eq L[̓l֌W
+     * @param reader L[Ƃɕ񂾓
+     * @return (k, [v]) 1ԂDataReader
+     */
+    public static <K, V> DataReader<T2<K, ArrayList<V>>>
+        groupByFst(final FP.Eq<? super K> eq, final DataReader<? extends T2<K, V>> reader) {
+        return new GroupReader<T2<K, V>, T2<K, ArrayList<V>>>(reader) {
+            private ArrayList<V> group;
+
+            @Override
+            protected void begin(final T2<K, V> first) {
+                this.group = new ArrayList<V>();
+                this.group.add(first.snd());
+            }
+
+            @Override
+            protected boolean add(final T2<K, V> last, final T2<K, V> t) {
+                if (!eq.eq(last.fst(), t.fst())) {
+                    return false;
+                }
+                this.group.add(t.snd());
+                return true;
+            }
+
+            @Override
+            protected T2<K, ArrayList<V>> end(final T2<K, V> first) {
+                ArrayList<V> g = this.group;
+                this.group = null;
+                return FP.t2(first.fst(), g);
+            }
+        };
+    }
+
+    public static <K, V> DataReader<T2<K, ArrayList<V>>>
+        groupByFst(final Fun<K, Fun<K, Boolean>> eq, final DataReader<? extends T2<K, V>> reader) {
+        return groupByFst(FP.defEq(eq), reader);
+    }
+
+    /**
+     * L[̏ɕ (k, v) ǂ݁Aׂ荇L[ v  monoid ŏݍ1ԂB<br>
+     * O[v̗vfێȂ̂ŁA̓O[v̑傫ɂȂB
+     *
+     * @param eq L[̓l֌W
+     * @param monoid v ̏ݍ
+     * @param reader L[Ƃɕ񂾓
+     * @return (k, mconcat [v]) 1ԂDataReader
+     */
+    public static <K, V> DataReader<T2<K, V>>
+        foldByFst(final FP.Eq<? super K> eq, final Data.Monoid<V> monoid,
+                  final DataReader<? extends T2<K, V>> reader) {
+        return new GroupReader<T2<K, V>, T2<K, V>>(reader) {
+            private V acc;
+
+            @Override
+            protected void begin(final T2<K, V> first) {
+                this.acc = monoid.mappend(monoid.mempty(), first.snd());
+            }
+
+            @Override
+            protected boolean add(final T2<K, V> last, final T2<K, V> t) {
+                if (!eq.eq(last.fst(), t.fst())) {
+                    return false;
+                }
+                this.acc = monoid.mappend(this.acc, t.snd());
+                return true;
+            }
+
+            @Override
+            protected T2<K, V> end(final T2<K, V> first) {
+                V v = this.acc;
+                this.acc = null;
+                return FP.t2(first.fst(), v);
+            }
+        };
+    }
+}
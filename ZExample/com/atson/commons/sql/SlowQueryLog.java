@@ -0,0 +1,424 @@
+package com.atson.commons.sql;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JdbcFP#dataReader(Connection, JdbcFP.Query)} ŔsNGL^郍O<br>
+ *
+ * <p>
+ * sԂ threshold ȏ̃NGƁAȊO sampleRate ̊ŖׂɑI񂾃NGA
+ *  capacity ̃O (ݒ肳Ă) [e[gt@CɋL^B
+ * 1̋L^ SQLA{@link JdbcFP.Query#bind} ŃoChꂽlAsAԂ̓B
+ * {@link Explain} ݒ肷 threshold ȏ̃NG̎svL^B
+ * </p>
+ * <p>
+ * threshold Ɣׂ̂ DB ɂ (prepare, bind, execute  read ̍v) ŁA
+ * read  read ̊ԂɗpĂ鎞Ԃ͊܂܂ȂB
+ * prepare  DataReader  close ܂ł̎Ԃ total ƂċL^邾ŁAɂ͎gȂB
+ * close Ȃ΋L^ȂB
+ * </p>
+ * <p>
+ * oChꂽlL^邽߁A{@link JdbcFP.Query#bind} ɂ PreparedStatement  Proxy nB
+ * bind ŃhCõNXɃLXg邱Ƃ͂łȂBhCõNXKvȏꍇ
+ * {@link PreparedStatement#unwrap(Class)} g (unwrap ̂ւ̃oCh͋L^Ȃ)B
+ * </p>
+ * g
+ * <pre>
+ * JdbcFP.setSlowQueryLog(new SlowQueryLog(500, 0.01, 1000)
+ *     .rolling(new File("/var/log/app/slow-query.log"), 10 * 1024 * 1024, 5));
+ * </pre>
+ */
+public class SlowQueryLog {
+
+    /**
+     * sv擾֐<br>
+     * DBƂ EXPLAIN ̕@Ⴄ̂ŗpŗpӂ
+     */
+    public interface Explain {
+        /**
+         * @param conn NG𔭍sConnection
+         * @param sql NGSQL
+         * @param params oChꂽl (ԍ̏)
+         * @return sv̕
+         */
+        String explain(Connection conn, String sql, List<Object> params) throws SQLException;
+    }
+
+    /**
+     * L^ꂽNG1
+     */
+    public static final class Entry {
+        private final long startMillis;
+        private final String sql;
+        private final List<Object> params;
+        private final int rows;
+        private final long prepareNanos;
+        private final long bindNanos;
+        private final long executeNanos;
+        private final long fetchNanos;
+        private final long dbNanos;
+        private final long totalNanos;
+        private final boolean slow;
+        private final String plan;
+
+        Entry(final long startMillis, final String sql, final List<Object> params, final int rows,
+                final long prepareNanos, final long bindNanos, final long executeNanos,
+                final long fetchNanos, final long totalNanos, final boolean slow, final String plan) {
+            this.startMillis = startMillis;
+            this.sql = sql;
+            this.params = params;
+            this.rows = rows;
+            this.prepareNanos = prepareNanos;
+            this.bindNanos = bindNanos;
+            this.executeNanos = executeNanos;
+            this.fetchNanos = fetchNanos;
+            this.dbNanos = prepareNanos + bindNanos + executeNanos + fetchNanos;
+            this.totalNanos = totalNanos;
+            this.slow = slow;
+            this.plan = plan;
+        }
+
+        public long getStartMillis() { return this.startMillis; }
+        public String getSql() { return this.sql; }
+        public List<Object> getParams() { return this.params; }
+        public int getRows() { return this.rows; }
+        public long getPrepareNanos() { return this.prepareNanos; }
+        public long getBindNanos() { return this.bindNanos; }
+        public long getExecuteNanos() { return this.executeNanos; }
+        public long getFetchNanos() { return this.fetchNanos; }
+        /** @return prepare, bind, execute, fetch ̍v threshold Ɣׂ鎞 */
+        public long getDbNanos() { return this.dbNanos; }
+        /** @return prepare  close ܂ł̎ p̏܂ */
+        public long getTotalNanos() { return this.totalNanos; }
+        /** @return thresholdȏゾꍇtrueATvƂċL^ꂽꍇfalse */
+        public boolean isSlow() { return this.slow; }
+        /** @return sv 擾Ȃꍇnull */
+        public String getPlan() { return this.plan; }
+
+        /**
+         * @return Ot@C1s̕ (s܂܂Ȃ)
+         */
+        @Override
+        public String toString() {
+            StringBuilder b = new StringBuilder(128 + this.sql.length());
+            b.append(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date(this.startMillis)))
+                .append(this.slow ? " SLOW" : " SAMPLE")
+                .append(" db=").append(millis(this.dbNanos))
+                .append(" total=").append(millis(this.totalNanos))
+                .append(" prepare=").append(millis(this.prepareNanos))
+                .append(" bind=").append(millis(this.bindNanos))
+                .append(" execute=").append(millis(this.executeNanos))
+                .append(" fetch=").append(millis(this.fetchNanos))
+                .append(" rows=").append(this.rows)
+                .append(" sql=").append(oneLine(this.sql))
+                .append(" params=").append(oneLine(String.valueOf(this.params)));
+            if (this.plan != null) {
+                b.append(" plan=").append(oneLine(this.plan));
+            }
+            return b.toString();
+        }
+
+        private static String millis(final long nanos) {
+            return String.format("%.3fms", nanos / 1e6);
+        }
+
+        private static String oneLine(final String s) {
+            return s.replace("\r", "").replace('\n', ' ');
+        }
+    }
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final Entry[] ring;
+    private int ringNext = 0;
+    private int ringSize = 0;
+
+    private volatile Explain explain;
+
+    private File file;
+    private long maxBytes;
+    private int files;
+    private OutputStream out;
+    private long written;
+
+    /**
+     * @param thresholdMillis DB ɂ̎ԈȏォNGׂ͂ċL^
+     * @param sampleRate threshold̃NGL^銄 0ŋL^Ȃ
+     * @param capacity ɕێ錏
+     */
+    public SlowQueryLog(final long thresholdMillis, final double sampleRate, final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleRate = sampleRate;
+        this.ring = new Entry[capacity];
+    }
+
+    /**
+     * L^t@CɂB<br>
+     * t@C maxBytes 𒴂 file.1, file.2, ... ɂ炵Afiles ܂ŎcB
+     *
+     * @return this
+     */
+    public synchronized SlowQueryLog rolling(final File file, final long maxBytes, final int files) {
+        closeFile();
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.files = files;
+        return this;
+    }
+
+    /**
+     * thresholdȏ̃NG̎sv explain Ŏ擾B
+     * @return this
+     */
+    public SlowQueryLog explain(final Explain explain) {
+        this.explain = explain;
+        return this;
+    }
+
+    /**
+     * @return ߂̋L^ Â
+     */
+    public synchronized List<Entry> recent() {
+        ArrayList<Entry> rv = new ArrayList<Entry>(this.ringSize);
+        int start = (this.ringNext - this.ringSize + this.ring.length) % this.ring.length;
+        for (int i = 0; i < this.ringSize; i++) {
+            rv.add(this.ring[(start + i) % this.ring.length]);
+        }
+        return rv;
+    }
+
+    /**
+     * t@CB
+     */
+    public synchronized void close() {
+        closeFile();
+    }
+
+    private void record(final Entry e) {
+        synchronized (this) {
+            this.ring[this.ringNext] = e;
+            this.ringNext = (this.ringNext + 1) % this.ring.length;
+            if (this.ringSize < this.ring.length) {
+                this.ringSize++;
+            }
+            if (this.file != null) {
+                try {
+                    write(e.toString());
+                } catch (IOException ex) {
+                    // O̎sŃNGsȂ
+                    closeFile();
+                }
+            }
+        }
+    }
+
+    private void write(final String line) throws IOException {
+        // maxBytes Ɣׂ͕̂ł͂Ȃ UTF-8 ̃oCg
+        final byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+        if (this.out == null) {
+            this.written = this.file.length();
+            this.out = new FileOutputStream(this.file, true);
+        }
+        if (this.written > 0 && this.written + bytes.length > this.maxBytes) {
+            closeFile();
+            roll();
+            this.written = 0;
+            this.out = new FileOutputStream(this.file, true);
+        }
+        this.out.write(bytes);
+        this.written += bytes.length;
+    }
+
+    private void roll() {
+        new File(this.file.getPath() + "." + this.files).delete();
+        for (int i = this.files - 1; i >= 1; i--) {
+            File f = new File(this.file.getPath() + "." + i);
+            if (f.exists()) {
+                f.renameTo(new File(this.file.getPath() + "." + (i + 1)));
+            }
+        }
+        if (this.files > 0) {
+            this.file.renameTo(new File(this.file.getPath() + ".1"));
+        } else {
+            this.file.delete();
+        }
+    }
+
+    private void closeFile() {
+        if (this.out != null) {
+            try {
+                this.out.close();
+            } catch (IOException e) {
+                // ignore Exception at close
+            }
+            this.out = null;
+        }
+    }
+
+    /**
+     * PreparedStatementւ setXxx(ԍ, l, ...) L^<br>
+     * unwrap, isWrapperFor  Proxy ł͂Ȃ PreparedStatement ɂē
+     */
+    private static final class BindCapture implements InvocationHandler {
+        private final PreparedStatement stmt;
+        private final TreeMap<Integer, Object> params = new TreeMap<Integer, Object>();
+
+        BindCapture(final PreparedStatement stmt) {
+            this.stmt = stmt;
+        }
+
+        PreparedStatement proxy() {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class }, this);
+        }
+
+        List<Object> params() {
+            return Collections.unmodifiableList(new ArrayList<Object>(this.params.values()));
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("unwrap")) {
+                final Class<?> iface = (Class<?>) args[0];
+                return iface.isInstance(this.stmt) ? this.stmt : this.stmt.unwrap(iface);
+            }
+            if (name.equals("isWrapperFor")) {
+                final Class<?> iface = (Class<?>) args[0];
+                return iface.isInstance(this.stmt) || this.stmt.isWrapperFor(iface);
+            }
+            if (args != null && args.length >= 2 && name.startsWith("set")
+                    && args[0] instanceof Integer) {
+                this.params.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                this.params.clear();
+            }
+            try {
+                return method.invoke(this.stmt, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * OȂ {@link JdbcFP#dataReader(Connection, JdbcFP.Query)} ƓƂ
+     */
+    <T> DataReader<T> dataReader(final Connection conn, final JdbcFP.Query<T> q)
+            throws SQLException {
+        final long startMillis = System.currentTimeMillis();
+        final long t0 = System.nanoTime();
+        final String sql = q.getSql().unSql();
+        PreparedStatement sel = null;
+        try {
+            sel = conn.prepareStatement(sql);
+            final long t1 = System.nanoTime();
+            final BindCapture capture = new BindCapture(sel);
+            q.bind(capture.proxy());
+            final long t2 = System.nanoTime();
+            final ResultSet rs = sel.executeQuery();
+            final long t3 = System.nanoTime();
+            final DataReader<T> in = Accessors.toReader(q.getCreator(), rs);
+            final PreparedStatement stmt = sel;
+            return new DataReader<T>() {
+                private int rows = 0;
+                private long fetchNanos = 0;
+                private boolean closed = false;
+
+                @Override
+                public T read() {
+                    long s = System.nanoTime();
+                    T t = in.read();
+                    this.fetchNanos += System.nanoTime() - s;
+                    if (t != null) {
+                        this.rows++;
+                    }
+                    return t;
+                }
+
+                @Override
+                public void close() {
+                    if (this.closed) {
+                        return;
+                    }
+                    this.closed = true;
+                    try {
+                        in.close();
+                    } finally {
+                        closeQuietly(stmt);
+                        long total = System.nanoTime() - t0;
+                        finish(conn, startMillis, sql, capture.params(), this.rows,
+                                t1 - t0, t2 - t1, t3 - t2, this.fetchNanos, total);
+                    }
+                }
+            };
+        } catch (SQLException e) {
+            closeQuietly(sel);
+            throw e;
+        } catch (RuntimeException e) {
+            closeQuietly(sel);
+            throw e;
+        } catch (Error e) {
+            closeQuietly(sel);
+            throw e;
+        }
+    }
+
+    private void finish(final Connection conn, final long startMillis, final String sql,
+            final List<Object> params, final int rows, final long prepareNanos, final long bindNanos,
+            final long executeNanos, final long fetchNanos, final long totalNanos) {
+        // p read ̊ԂɎgԂŒxƔ肵Ȃ
+        final long dbNanos = prepareNanos + bindNanos + executeNanos + fetchNanos;
+        final boolean slow = dbNanos >= this.thresholdNanos;
+        if (!slow && !(this.sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < this.sampleRate)) {
+            return;
+        }
+        String plan = null;
+        final Explain ex = this.explain;
+        if (slow && ex != null) {
+            try {
+                plan = ex.explain(conn, sql, params);
+            } catch (SQLException e) {
+                plan = "EXPLAIN failed: " + e;
+            } catch (RuntimeException e) {
+                plan = "EXPLAIN failed: " + e;
+            }
+        }
+        record(new Entry(startMillis, sql, params, rows, prepareNanos, bindNanos,
+                executeNanos, fetchNanos, totalNanos, slow, plan));
+    }
+
+    private static void closeQuietly(final PreparedStatement stmt) {
+        if (stmt != null) {
+            try {
+                stmt.close();
+            } catch (SQLException e) {
+                // ignore Exception at close
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.atson.commons.test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.atson.commons.lang.FP;
+import com.atson.commons.sql.DataReader;
+
+/**
+ * eXgp̌ƃf[^쐬
+ */
+final class Check {
+    private Check() { FP.noInstance(); }
+
+    static void check(final boolean cond, final String what) {
+        if (!cond) {
+            throw new AssertionError(what);
+        }
+    }
+
+    static void eq(final Object expected, final Object actual, final String what) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(what + ": expected " + expected + " but " + actual);
+        }
+    }
+
+    /**
+     * body  type ̗OX[邱Ƃm߂
+     */
+    static void throwsEx(final Class<? extends Throwable> type, final Runnable body, final String what) {
+        try {
+            body.run();
+        } catch (Throwable e) {
+            if (type.isInstance(e)) {
+                return;
+            }
+            throw new AssertionError(what + ": expected " + type.getName() + " but " + e);
+        }
+        throw new AssertionError(what + ": expected " + type.getName());
+    }
+
+    @SafeVarargs
+    static <T> DataReader<T> reader(final T... xs) {
+        final ArrayList<T> rv = new ArrayList<T>(xs.length);
+        for (T x : xs) {
+            rv.add(x);
+        }
+        return reader(rv);
+    }
+
+    /**
+     * xs ǂ DataReader close ꂽ {@link ListReader#closed} ł킩
+     */
+    static <T> ListReader<T> reader(final List<T> xs) {
+        return new ListReader<T>(xs);
+    }
+
+    static final class ListReader<T> implements DataReader<T> {
+        private final Iterator<T> it;
+        boolean closed = false;
+
+        ListReader(final List<T> xs) {
+            this.it = xs.iterator();
+        }
+
+        @Override
+        public T read() {
+            return this.it.hasNext() ? this.it.next() : null;
+        }
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+    }
+
+    /**
+     * reader Ō܂œǂ close 
+     */
+    static <T> ArrayList<T> readAll(final DataReader<T> reader) {
+        final ArrayList<T> rv = new ArrayList<T>();
+        try {
+            for (T t; (t = reader.read()) != null;) {
+                rv.add(t);
+            }
+        } finally {
+            reader.close();
+        }
+        return rv;
+    }
+
+    /**
+     * ϒ̔zOɏoȂ悤vf ArrayList ɃRs[
+     */
+    @SafeVarargs
+    static <T> List<T> list(final T... xs) {
+        final ArrayList<T> rv = new ArrayList<T>(xs.length);
+        for (T x : xs) {
+            rv.add(x);
+        }
+        return rv;
+    }
+}
@@ -0,0 +1,156 @@
+package com.atson.commons.test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+
+import com.atson.commons.lang.FP;
+
+/**
+ * eXgpɌ܂sԂ JDBC IuWFNg<br>
+ * l͗񃉃x̏ Object ŗ^AgetInt Ȃǂ Number AgetBytes  String  UTF-8 ŕϊB
+ */
+final class FakeJdbc {
+    private FakeJdbc() { FP.noInstance(); }
+
+    static ResultSet resultSet(final String[] labels, final Object[][] rows) {
+        return proxy(ResultSet.class, new InvocationHandler() {
+            private int row = -1;
+            private boolean wasNull = false;
+            private final ResultSetMetaData md = metaData(labels);
+
+            @Override
+            public Object invoke(final Object self, final Method m, final Object[] args) {
+                final String n = m.getName();
+                if (n.equals("next")) {
+                    return ++this.row < rows.length;
+                }
+                if (n.equals("wasNull")) {
+                    return this.wasNull;
+                }
+                if (n.equals("getMetaData")) {
+                    return this.md;
+                }
+                if (n.equals("close")) {
+                    return null;
+                }
+                if (n.startsWith("get") && args != null && args.length == 1 && args[0] instanceof Integer) {
+                    final Object v = rows[this.row][(Integer) args[0] - 1];
+                    this.wasNull = v == null;
+                    return convert(m.getReturnType(), v);
+                }
+                return objectMethod(self, m, args);
+            }
+        });
+    }
+
+    /**
+     * prepareStatement ŁAbind 󂯕t executeQuery  rows Ԃ PreparedStatement Ԃ Connection
+     */
+    static Connection connection(final String[] labels, final Object[][] rows) {
+        return proxy(Connection.class, new InvocationHandler() {
+            @Override
+            public Object invoke(final Object self, final Method m, final Object[] args) {
+                if (m.getName().equals("prepareStatement")) {
+                    return statement(labels, rows);
+                }
+                return objectMethod(self, m, args);
+            }
+        });
+    }
+
+    static PreparedStatement statement(final String[] labels, final Object[][] rows) {
+        return proxy(PreparedStatement.class, new InvocationHandler() {
+            @Override
+            public Object invoke(final Object self, final Method m, final Object[] args) {
+                final String n = m.getName();
+                if (n.equals("executeQuery")) {
+                    return resultSet(labels, rows);
+                }
+                if (n.equals("unwrap")) {
+                    return self;
+                }
+                if (n.equals("isWrapperFor")) {
+                    return ((Class<?>) args[0]).isInstance(self);
+                }
+                if (n.startsWith("set") || n.equals("close") || n.equals("clearParameters")) {
+                    return null;
+                }
+                return objectMethod(self, m, args);
+            }
+        });
+    }
+
+    private static ResultSetMetaData metaData(final String[] labels) {
+        return proxy(ResultSetMetaData.class, new InvocationHandler() {
+            @Override
+            public Object invoke(final Object self, final Method m, final Object[] args) {
+                final String n = m.getName();
+                if (n.equals("getColumnCount")) {
+                    return labels.length;
+                }
+                if (n.equals("getColumnLabel") || n.equals("getColumnName")) {
+                    return labels[(Integer) args[0] - 1];
+                }
+                return objectMethod(self, m, args);
+            }
+        });
+    }
+
+    private static Object convert(final Class<?> type, final Object v) {
+        if (type == int.class) {
+            return v == null ? 0 : ((Number) v).intValue();
+        }
+        if (type == long.class) {
+            return v == null ? 0L : ((Number) v).longValue();
+        }
+        if (type == double.class) {
+            return v == null ? 0.0 : ((Number) v).doubleValue();
+        }
+        if (type == float.class) {
+            return v == null ? 0.0f : ((Number) v).floatValue();
+        }
+        if (type == short.class) {
+            return v == null ? (short) 0 : ((Number) v).shortValue();
+        }
+        if (type == byte.class) {
+            return v == null ? (byte) 0 : ((Number) v).byteValue();
+        }
+        if (type == boolean.class) {
+            return v != null && (Boolean) v;
+        }
+        if (type == String.class) {
+            return v == null ? null : v.toString();
+        }
+        if (type == byte[].class && v instanceof String) {
+            return ((String) v).getBytes(StandardCharsets.UTF_8);
+        }
+        if (type == BigDecimal.class) {
+            return v == null ? null : new BigDecimal(v.toString());
+        }
+        return v;
+    }
+
+    private static Object objectMethod(final Object self, final Method m, final Object[] args) {
+        if (m.getName().equals("equals")) {
+            return self == args[0];
+        }
+        if (m.getName().equals("hashCode")) {
+            return System.identityHashCode(self);
+        }
+        if (m.getName().equals("toString")) {
+            return "Fake" + m.getDeclaringClass().getSimpleName();
+        }
+        throw new UnsupportedOperationException(m.getName());
+    }
+
+    private static <T> T proxy(final Class<T> type, final InvocationHandler h) {
+        return type.cast(Proxy.newProxyInstance(FakeJdbc.class.getClassLoader(), new Class<?>[] { type }, h));
+    }
+}
@@ -0,0 +1,230 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+
+import java.beans.ConstructorProperties;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.atson.commons.sql.Accessors;
+import com.atson.commons.sql.BeanCreator;
+import com.atson.commons.sql.CodeProperty;
+import com.atson.commons.sql.JdbcFP;
+
+public class TestBeanCreator {
+
+    enum Kind { NEW, OLD }
+
+    enum Color implements CodeProperty {
+        RED("R"), BLUE("B");
+
+        private final String code;
+
+        private Color(final String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String getCode() {
+            return this.code;
+        }
+    }
+
+    /**
+     * Zb^[ƃtB[hŋl߂
+     */
+    public static class Shop {
+        private String shopCode;
+        private int price;
+        private Integer stock;
+        public BigDecimal rate;
+        public Kind kind;
+        public Color color;
+
+        public void setShopCode(final String shopCode) {
+            this.shopCode = shopCode;
+        }
+
+        public void setPrice(final int price) {
+            this.price = price;
+        }
+
+        public void setStock(final Integer stock) {
+            this.stock = stock;
+        }
+
+        @Override
+        public String toString() {
+            return this.shopCode + "," + this.price + "," + this.stock + "," + this.rate + "," + this.kind + ","
+                + this.color;
+        }
+    }
+
+    /**
+     * RXgN^̈ŋl߁AcZb^[ŋl߂
+     */
+    public static class Item {
+        final long id;
+        final String name;
+        private double weight;
+
+        @ConstructorProperties({ "id", "name" })
+        public Item(final long id, final String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @ConstructorProperties({ "id" })
+        public Item(final long id) {
+            this(id, "-");
+        }
+
+        public void setWeight(final double weight) {
+            this.weight = weight;
+        }
+
+        @Override
+        public String toString() {
+            return this.id + "," + this.name + "," + this.weight;
+        }
+    }
+
+    static final String[] SHOP = { "SHOP_CODE", "PRICE", "STOCK", "RATE", "KIND", "COLOR" };
+
+    static <T> String read(final Accessors.Creator<T> c, final String[] labels, final Object... row)
+        throws SQLException {
+        final ResultSet rs = FakeJdbc.resultSet(labels, new Object[][] { row });
+        check(rs.next(), "next");
+        return String.valueOf(c.create(rs, 1));
+    }
+
+    static void fails(final Accessors.Creator<?> c, final String what, final String[] labels, final Object... row) {
+        try {
+            read(c, labels, row);
+        } catch (SQLException e) {
+            return;
+        }
+        throw new AssertionError(what + ": expected SQLException");
+    }
+
+    /**
+     * getMetaData Ă񂾉񐔂𐔂 ResultSet
+     */
+    static ResultSet counting(final ResultSet rs, final AtomicInteger metaData) {
+        return (ResultSet) Proxy.newProxyInstance(TestBeanCreator.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(final Object self, final Method m, final Object[] args) throws Throwable {
+                        if (m.getName().equals("getMetaData")) {
+                            metaData.incrementAndGet();
+                        }
+                        try {
+                            return m.invoke(rs, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                });
+    }
+
+    static Object[][] itemRows(final int n, final int seed) {
+        final Object[][] rows = new Object[n][];
+        for (int i = 0; i < n; i++) {
+            rows[i] = new Object[] { (long) (seed * 100000 + i), 0.5 * i, "n" + seed };
+        }
+        return rows;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        // 񃉃x͑啶 '_' 𖳎ăvpeBɑΉ
+        final BeanCreator<Shop> shop = BeanCreator.of(Shop.class);
+        eq("S01,120,3,1.5,OLD,BLUE", read(shop, SHOP, "S01", 120, 3, "1.5", "OLD", "B"), "setter and field");
+        eq("S02,0,null,null,null,null", read(shop, SHOP, "S02", 0, null, null, null, null), "null columns");
+        eq("S03,5,null,null,null,null", read(shop, new String[] { "price", "Shop_Code" }, 5, "S03"), "labels");
+        fails(shop, "primitive null", SHOP, "S04", null, 1, null, null, null);
+        fails(shop, "no property", new String[] { "SHOP_CODE", "OWNER" }, "S05", "x");
+        fails(shop, "duplicate label", new String[] { "SHOP_CODE", "shopCode" }, "S06", "S06");
+        Check.throwsEx(IllegalArgumentException.class, new Runnable() {
+            @Override
+            public void run() {
+                BeanCreator.of(Runnable.class);
+            }
+        }, "interface");
+
+        // ׂėɂRXgN^̂ł̑̂g
+        final BeanCreator<Item> item = BeanCreator.of(Item.class);
+        eq("7,a,2.5", read(item, new String[] { "ID", "WEIGHT", "NAME" }, 7L, 2.5, "a"), "constructor");
+        eq("8,-,0.0", read(item, new String[] { "ID" }, 8L), "smaller constructor");
+        fails(item, "no constructor", new String[] { "NAME" }, "a");
+        fails(item, "constructor primitive null", new String[] { "ID", "NAME" }, null, "a");
+
+        // Composer  startColumn  width 񂾂ǂ
+        final Accessors.Composer<Item> composer = JdbcFP.beanComposer(Item.class, 2);
+        eq(2, composer.width(), "width");
+        final ResultSet wide = FakeJdbc.resultSet(new String[] { "X", "ID", "NAME", "Y" },
+                new Object[][] { { "x", 9L, "b", "y" } });
+        check(wide.next(), "next");
+        eq("9,b,0.0", String.valueOf(composer.create(wide, 2)), "composer offset");
+
+        // 2sڈȍ~̓^f[^Ȃ ʂ ResultSet ɐ؂ւΓǂݒ
+        final String[] labels = { "ID", "WEIGHT", "NAME" };
+        final String[] reordered = { "NAME", "ID", "WEIGHT" };
+        final AtomicInteger md1 = new AtomicInteger();
+        final AtomicInteger md2 = new AtomicInteger();
+        final ResultSet rs1 = counting(FakeJdbc.resultSet(labels, itemRows(3, 1)), md1);
+        final ResultSet rs2 = counting(FakeJdbc.resultSet(reordered, new Object[][] { { "m", 5L, 1.0 } }), md2);
+        final ArrayList<String> got = new ArrayList<String>();
+        while (rs1.next()) {
+            got.add(String.valueOf(item.create(rs1, 1)));
+        }
+        check(rs2.next(), "next");
+        got.add(String.valueOf(item.create(rs2, 1)));
+        eq(Check.list("100000,n1,0.0", "100001,n1,0.5", "100002,n1,1.0", "5,m,1.0"), got, "switch ResultSet");
+        eq(1, md1.get(), "metadata once");
+        eq(1, md2.get(), "metadata on switch");
+
+        // ̃XbhŋLĂAꂼ ResultSet ̃^f[^1xȂ
+        final int threads = 4;
+        final int rows = 20000;
+        final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            final ArrayList<Future<Integer>> results = new ArrayList<Future<Integer>>();
+            for (int t = 0; t < threads; t++) {
+                final int seed = t;
+                results.add(pool.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        final AtomicInteger md = new AtomicInteger();
+                        // XbhƂɗ̕тς Plan ʂɂ
+                        final String[] ls = seed % 2 == 0 ? labels : new String[] { "ID", "WEIGHT", "NAME_" };
+                        final ResultSet rs = counting(FakeJdbc.resultSet(ls, itemRows(rows, seed)), md);
+                        for (int i = 0; rs.next(); i++) {
+                            eq((seed * 100000 + i) + ",n" + seed + "," + (0.5 * i), String.valueOf(item.create(rs, 1)),
+                                    "thread " + seed + " row " + i);
+                        }
+                        return md.get();
+                    }
+                }));
+            }
+            for (int t = 0; t < threads; t++) {
+                eq(1, results.get(t).get(), "metadata once in thread " + t);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        System.out.println("TestBeanCreator OK");
+    }
+}
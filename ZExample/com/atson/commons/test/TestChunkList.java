@@ -0,0 +1,108 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+import static com.atson.commons.test.Check.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import com.atson.commons.collection.ChunkList;
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.FP.ChunkListJ;
+import com.atson.commons.lang.FP.Fun;
+import com.atson.commons.lang.FP.LinkedListJ;
+import com.atson.commons.lang.FP.T2;
+
+public class TestChunkList {
+
+    /**
+     * 1ȉȂ瓙 ړIłȂ̂ŒO̗vfƔׂ邩ŏ̗vfƔׂ邩Ōʂς
+     */
+    static final Fun<Integer, Fun<Integer, Boolean>> NEAR = new Fun<Integer, Fun<Integer, Boolean>>() {
+        @Override
+        public Fun<Integer, Boolean> app(final Integer a) {
+            return new Fun<Integer, Boolean>() {
+                @Override
+                public Boolean app(final Integer b) {
+                    return Math.abs(a - b) <= 1;
+                }
+            };
+        }
+    };
+
+    public static void main(final String[] args) {
+        // `N܂ ArrayList ƓɐU镑
+        final ChunkList<Integer> cl = new ChunkList<Integer>();
+        final ArrayList<Integer> al = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            cl.add(i);
+            al.add(i);
+        }
+        eq(al, cl, "equals");
+        eq(al.hashCode(), cl.hashCode(), "hashCode");
+        eq(999, cl.getLast(), "getLast");
+        for (int i = 999; i >= 0; i -= 37) {
+            eq(i, cl.get(i), "get backward " + i);
+        }
+        eq(500, cl.set(500, -1), "set");
+        eq(-1, cl.get(500), "get after set");
+        cl.set(500, 500);
+        check(Arrays.equals(al.toArray(), cl.toArray()), "toArray");
+        Check.throwsEx(IndexOutOfBoundsException.class, new Runnable() {
+            @Override
+            public void run() {
+                cl.get(1000);
+            }
+        }, "get out of range");
+
+        // concat ̓`Nڂ other ͋ɂȂ
+        final ChunkList<Integer> a = ChunkList.of(1, 2, 3);
+        final ChunkList<Integer> b = ChunkList.of(4, 5);
+        eq(list(1, 2, 3, 4, 5), a.concat(b), "concat");
+        eq(0, b.size(), "concat other empty");
+        a.add(6);
+        eq(list(1, 2, 3, 4, 5, 6), a, "add after concat");
+        eq(list(), b, "other stays empty");
+        b.add(7);
+        eq(list(1, 2, 3, 4, 5, 6), a, "other reusable");
+        eq(list(4), ChunkList.<Integer> of().concat(ChunkList.of(4)), "concat to empty");
+        Check.throwsEx(IllegalArgumentException.class, new Runnable() {
+            @Override
+            public void run() {
+                a.concat(a);
+            }
+        }, "concat self");
+
+        final Iterator<Integer> it = a.iterator();
+        it.next();
+        a.add(7);
+        Check.throwsEx(ConcurrentModificationException.class, new Runnable() {
+            @Override
+            public void run() {
+                it.next();
+            }
+        }, "concurrent modification");
+
+        // groupBy n LinkedListJ ƓO̗vfƔׂ
+        final List<Integer> xs = list(1, 2, 3, 5, 5, 7);
+        eq(LinkedListJ.groupBy(NEAR, xs), ChunkListJ.groupBy(NEAR, xs), "groupBy");
+        eq("[[1, 2, 3], [5, 5], [7]]", ChunkListJ.groupBy(NEAR, xs).toString(), "groupBy value");
+        final ArrayList<T2<Integer, String>> kv = new ArrayList<T2<Integer, String>>();
+        final ArrayList<T2<String, Integer>> vk = new ArrayList<T2<String, Integer>>();
+        for (Integer x : xs) {
+            kv.add(FP.t2(x, "v" + x));
+            vk.add(FP.t2("v" + x, x));
+        }
+        eq(LinkedListJ.groupByFst(NEAR, kv).toString(), ChunkListJ.groupByFst(NEAR, kv).toString(), "groupByFst");
+        eq("[(1,[v1, v2, v3]), (5,[v5, v5]), (7,[v7])]",
+                ChunkListJ.groupByFst(NEAR, kv).toString(), "groupByFst value");
+        eq(LinkedListJ.groupBySnd(NEAR, vk).toString(), ChunkListJ.groupBySnd(NEAR, vk).toString(), "groupBySnd");
+        eq(0, ChunkListJ.groupByFst(NEAR, new ArrayList<T2<Integer, String>>()).size(), "groupByFst empty");
+
+        System.out.println("TestChunkList OK");
+    }
+}
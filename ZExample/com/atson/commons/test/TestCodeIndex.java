@@ -0,0 +1,149 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.atson.commons.sql.CodeIndex;
+import com.atson.commons.sql.CodeProperty;
+import com.atson.commons.sql.CodePropertyUtil;
+import com.atson.commons.sql.JdbcFP;
+
+public class TestCodeIndex {
+
+    enum Color implements CodeProperty {
+        RED("R"), GREEN("G"), BLUE("B"), NONE(null), OLD_RED("R");
+
+        private final String code;
+
+        private Color(final String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String getCode() {
+            return this.code;
+        }
+    }
+
+    enum Kana implements CodeProperty {
+        A(""), I("");
+
+        private final String code;
+
+        private Kana(final String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String getCode() {
+            return this.code;
+        }
+    }
+
+    static byte[] ascii(final String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    static final class Code implements CodeProperty {
+        private final String code;
+
+        Code(final String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String getCode() {
+            return this.code;
+        }
+    }
+
+    public static void main(final String[] args) throws SQLException {
+        // dR[h͐ɐ錾ꂽ񋓎q R[hnull̗񋓎qnullň
+        final CodeIndex<Color> colors = CodeIndex.of(Color.class);
+        eq(Color.RED, colors.get("R"), "R");
+        eq(Color.BLUE, colors.get("B"), "B");
+        eq(Color.NONE, colors.get((String) null), "null code");
+        eq(null, colors.get("X"), "unknown");
+        eq(Color.GREEN, colors.get(new StringBuilder("G")), "CharSequence");
+        eq(null, colors.get(new StringBuilder("GG")), "CharSequence unknown");
+        eq(Color.RED, CodePropertyUtil.valueOfCode(Color.class, "R"), "CodePropertyUtil static");
+        // CX^X̕\͏]ǂdR[hȂ
+        Check.throwsEx(AssertionError.class, new Runnable() {
+            @Override
+            public void run() {
+                CodePropertyUtil.of(Color.class).valueOfCode("G");
+            }
+        }, "CodePropertyUtil duplicated code");
+        Check.throwsEx(IllegalArgumentException.class, new Runnable() {
+            @Override
+            public void run() {
+                colors.valueOfCode("X");
+            }
+        }, "valueOfCode unknown");
+
+        // Փ˂傫ȕ\łׂĈ
+        final Code[] codes = new Code[1000];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = new Code("C" + i);
+        }
+        final CodeIndex<Code> big = CodeIndex.of(codes);
+        for (int i = 0; i < codes.length; i++) {
+            eq(codes[i], big.get("C" + i), "big " + i);
+            eq(codes[i], big.get(new StringBuilder("C").append(i)), "big CharSequence " + i);
+        }
+        eq(null, big.get("C1000"), "big unknown");
+        eq(codes[999], CodePropertyUtil.of(codes).valueOfCode("C999"), "CodePropertyUtil");
+        Check.throwsEx(AssertionError.class, new Runnable() {
+            @Override
+            public void run() {
+                CodeIndex.of(new Code[] { new Code("A"), new Code("A") });
+            }
+        }, "duplicated code");
+
+        final ResultSet rs = FakeJdbc.resultSet(new String[] { "COLOR" }, new Object[][] { { "B" }, { "R" } });
+        rs.next();
+        eq(Color.BLUE, JdbcFP.codePropertyComposer(Color.class).create(rs, 1), "composer B");
+        rs.next();
+        eq(Color.RED, JdbcFP.codePropertyComposer(Color.class).create(rs, 1), "composer R");
+
+        // oCgňĂň̂ƓʂɂȂ
+        check(colors.isAscii(), "ascii");
+        final byte[] buf = ascii("xxGBR");
+        eq(Color.GREEN, colors.get(buf, 2, 1), "bytes G");
+        eq(Color.RED, colors.get(buf, 4, 1), "bytes R");
+        eq(null, colors.get(buf, 2, 2), "bytes GB");
+        eq(null, colors.get(buf, 0, 0), "bytes empty");
+        for (int i = 0; i < codes.length; i++) {
+            final byte[] b = ascii("C" + i);
+            eq(codes[i], big.get(b, 0, b.length), "big bytes " + i);
+        }
+        check(!CodeIndex.of(Kana.class).isAscii(), "not ascii");
+
+        final ResultSet brs = FakeJdbc.resultSet(new String[] { "COLOR", "KANA" },
+                new Object[][] { { "G", "" }, { null, "" }, { "Z", "" } });
+        brs.next();
+        eq(Color.GREEN, JdbcFP.codePropertyBytesComposer(Color.class).create(brs, 1), "bytes composer G");
+        // ASCII łȂR[h͕œǂ
+        eq(Kana.I, JdbcFP.codePropertyBytesComposer(Kana.class).create(brs, 2), "bytes composer kana");
+        brs.next();
+        eq(Color.NONE, JdbcFP.codePropertyBytesComposer(Color.class).create(brs, 1), "bytes composer null");
+        eq(Kana.A, JdbcFP.codePropertyBytesComposer(Kana.class).create(brs, 2), "bytes composer kana 2");
+        brs.next();
+        Check.throwsEx(IllegalArgumentException.class, new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    JdbcFP.codePropertyBytesComposer(Color.class).create(brs, 1);
+                } catch (SQLException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        }, "bytes composer unknown");
+
+        System.out.println("TestCodeIndex OK");
+    }
+}
@@ -0,0 +1,81 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+import static com.atson.commons.test.Check.list;
+import static com.atson.commons.test.Check.readAll;
+import static com.atson.commons.test.Check.reader;
+
+import com.atson.commons.sql.CodeMatcher;
+import com.atson.commons.sql.CodeProperty;
+import com.atson.commons.sql.CodePropertyUtil;
+
+public class TestCodeMatcher {
+
+    enum Status implements CodeProperty {
+        NEW("N"), RUNNING("R"), DONE("D"), CANCELED("C"), NONE(null);
+
+        private final String code;
+
+        private Status(final String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String getCode() {
+            return this.code;
+        }
+    }
+
+    enum Other implements CodeProperty {
+        DONE;
+
+        @Override
+        public String getCode() {
+            return "D";
+        }
+    }
+
+    public static void main(final String[] args) {
+        final CodeMatcher<Status> closed = CodeMatcher.of(Status.DONE, Status.CANCELED);
+        final String[] codes = { "N", "R", "D", "C", null, "X", "" };
+        // codeEqualsOr Ɠ
+        for (String code : codes) {
+            eq(CodePropertyUtil.codeEqualsOr(code, Status.DONE, Status.CANCELED), closed.matches(code), "matches " + code);
+            eq(CodePropertyUtil.codeEqualsOr(code, Status.DONE, Status.CANCELED),
+                    closed.matches(code == null ? null : new StringBuilder(code)), "matches CharSequence " + code);
+        }
+        eq(CodePropertyUtil.getCodes(Status.DONE, Status.CANCELED), closed.getCodes(), "codes");
+        eq(Status.CANCELED, closed.valueOfCodeOrNull("C"), "valueOfCodeOrNull");
+
+        for (Status s : Status.values()) {
+            eq(s == Status.DONE || s == Status.CANCELED, closed.contains(s), "contains " + s);
+        }
+        check(!closed.contains(null), "contains null");
+
+        // Ⴄ Enum ̒lR[hnull̒l
+        final CodeMatcher<CodeProperty> mixed = CodeMatcher.<CodeProperty> of(Status.NONE, Other.DONE);
+        check(mixed.contains(Other.DONE), "mixed Other.DONE");
+        check(!mixed.contains(Status.DONE), "mixed Status.DONE");
+        check(mixed.matches((String) null), "mixed null code");
+        check(mixed.matches("D"), "mixed D");
+
+        eq(list(Status.DONE, Status.CANCELED, Status.DONE), closed.filter(new Status[] {
+            Status.NEW, Status.DONE, Status.CANCELED, Status.RUNNING, Status.DONE }), "filter array");
+        eq(list(Status.CANCELED), closed.filter(list(Status.NEW, Status.CANCELED)), "filter iterable");
+        eq(list("D", "C"), closed.filterCodes(codes), "filterCodes");
+        final Check.ListReader<Status> r = Check.reader(list(Status.NEW, Status.DONE, Status.NONE, Status.CANCELED));
+        eq(list(Status.DONE, Status.CANCELED), readAll(closed.filter(r)), "filter reader");
+        check(r.closed, "filter reader closed");
+        eq(list(), readAll(closed.filter(reader(Status.NEW, Status.RUNNING))), "filter reader none");
+
+        Check.throwsEx(NullPointerException.class, new Runnable() {
+            @Override
+            public void run() {
+                CodeMatcher.of(Status.DONE, null);
+            }
+        }, "null value");
+
+        System.out.println("TestCodeMatcher OK");
+    }
+}
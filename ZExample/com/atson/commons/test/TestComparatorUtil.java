@@ -0,0 +1,261 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import com.atson.commons.lang.ComparatorUtil;
+import com.atson.commons.lang.ComparatorUtil.BeanComparatorWrapper;
+import com.atson.commons.lang.ComparatorUtil.ComparatorChainWrapper;
+import com.atson.commons.lang.FP.Fun;
+
+public class TestComparatorUtil {
+
+    public static class Item implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final int id;
+        private final String name;
+        private final Item parent;
+
+        public Item(final int id, final String name, final Item parent) {
+            this.id = id;
+            this.name = name;
+            this.parent = parent;
+        }
+
+        public int getId() {
+            return this.id;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public Item getParent() {
+            return this.parent;
+        }
+
+        @Override
+        public String toString() {
+            return this.id + ":" + this.name;
+        }
+    }
+
+    /**
+     * 񉻂ł Comparator
+     */
+    static final class ByLength implements Comparator<String>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int compare(final String a, final String b) {
+            return a.length() - b.length();
+        }
+    }
+
+    static final Comparator<String> BY_LENGTH = new ByLength();
+
+    static final Fun<Item, Integer> ID_MOD_7 = new Fun<Item, Integer>() {
+        @Override
+        public Integer app(final Item a) {
+            return a.getId() % 7;
+        }
+    };
+
+    static final Comparator<Integer> NATURAL = new Comparator<Integer>() {
+        @Override
+        public int compare(final Integer a, final Integer b) {
+            return a.compareTo(b);
+        }
+    };
+
+    /**
+     * O̒Ŕׂ O null Ȃ0
+     */
+    static final Comparator<Item> BY_NAME_LENGTH = new Comparator<Item>() {
+        @Override
+        public int compare(final Item a, final Item b) {
+            final int la = a.getName() == null ? 0 : a.getName().length();
+            final int lb = b.getName() == null ? 0 : b.getName().length();
+            return la - lb;
+        }
+    };
+
+    static List<Item> items(final int n, final long seed) {
+        final Random r = new Random(seed);
+        final ArrayList<Item> rv = new ArrayList<Item>();
+        final Item[] parents = { new Item(-1, "p", null), new Item(-2, "q", null) };
+        for (int i = 0; i < n; i++) {
+            final String name = r.nextInt(5) == 0 ? null : "n" + r.nextInt(i / 4 + 1);
+            rv.add(new Item(r.nextInt(n / 3 + 1), name, parents[r.nextInt(2)]));
+        }
+        return rv;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T copy(final T o) throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(o);
+        out.close();
+        return (T) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+    }
+
+    static void setField(final Object o, final String name, final Object value) throws Exception {
+        final Field f = o.getClass().getDeclaredField(name);
+        f.setAccessible(true);
+        f.set(o, value);
+    }
+
+    static Object getField(final Object o, final String name) throws Exception {
+        final Field f = o.getClass().getDeclaredField(name);
+        f.setAccessible(true);
+        return f.get(o);
+    }
+
+    /**
+     * ComparatorUtil.sort  Collections.sort ̌ʂ
+     */
+    static <T> void sameSort(final List<T> xs, final Comparator<? super T> c, final String what) {
+        final ArrayList<T> expected = new ArrayList<T>(xs);
+        Collections.sort(expected, c);
+        final ArrayList<T> actual = new ArrayList<T>(xs);
+        ComparatorUtil.sort(actual, c);
+        eq(expected, actual, what);
+    }
+
+    /**
+     * c1  c2 ̔rʂׂ̕Ă̑gœ
+     */
+    static <T> void sameCompare(final List<T> xs, final Comparator<? super T> c1, final Comparator<? super T> c2,
+            final String what) {
+        for (T a : xs) {
+            for (T b : xs) {
+                eq(Integer.signum(c1.compare(a, b)), Integer.signum(c2.compare(a, b)), what + " " + a + " " + b);
+            }
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final List<Item> small = items(40, 1);
+
+        // 񉻌`͈ȑO̊l̂܂
+        eq(5926010944125791208L, ObjectStreamClass.lookup(BeanComparatorWrapper.class).getSerialVersionUID(),
+                "BeanComparatorWrapper serialVersionUID");
+
+        // vpeB̒lŔׁAnull ͊ő傫
+        final BeanComparatorWrapper<Item> byName = ComparatorUtil.beanProperty("name");
+        final Item a = new Item(1, "a", null);
+        final Item b = new Item(2, "b", null);
+        final Item none = new Item(3, null, null);
+        check(byName.compare(a, b) < 0, "name a < b");
+        check(byName.compare(none, a) > 0, "null is high");
+        check(ComparatorUtil.<Item> beanProperty("name", false).compare(none, a) < 0, "null is low");
+        check(ComparatorUtil.<Item> beanProperty("name", BY_LENGTH).compare(new Item(0, "zz", null), b) > 0,
+                "value comparator");
+        check(ComparatorUtil.<Item> beanProperty("parent.id").compare(new Item(0, "x", b), new Item(0, "x", a)) > 0,
+                "nested property");
+        eq(0, byName.compare(a, new Item(9, "a", null)), "equal values");
+        for (String p : new String[] { "name", "id", "parent.name" }) {
+            sameSort(small, ComparatorUtil.<Item> beanProperty(p), "sort " + p);
+        }
+
+        // setProperty ŔׂvpeBς
+        final BeanComparatorWrapper<Item> w = ComparatorUtil.beanProperty("name");
+        w.setProperty("id");
+        eq("id", w.getProperty(), "setProperty");
+        check(w.compare(b, a) > 0, "after setProperty");
+
+        // 񉻂Ăr
+        final BeanComparatorWrapper<Item> copied = copy(ComparatorUtil.<Item> beanProperty("name", BY_LENGTH, false));
+        eq("name", copied.getProperty(), "copied property");
+        sameCompare(small, ComparatorUtil.<Item> beanProperty("name", BY_LENGTH, false), copied, "copied compare");
+
+        // Â` (property, valueComparator Ȃ) ǂł beanComparator Ŕׂ
+        final BeanComparatorWrapper<Item> old = ComparatorUtil.beanProperty("name", BY_LENGTH);
+        setField(old, "property", null);
+        setField(old, "valueComparator", null);
+        sameCompare(small, ComparatorUtil.<Item> beanProperty("name", BY_LENGTH), old, "old fields compare");
+        sameSort(small, old, "old fields sort");
+        final BeanComparatorWrapper<Item> restored = copy(old);
+        eq("name", restored.getProperty(), "old stream property");
+        sameCompare(small, ComparatorUtil.<Item> beanProperty("name", BY_LENGTH), restored, "old stream compare");
+        sameSort(small, restored, "old stream sort");
+
+        eq(-8696120643977005362L, ObjectStreamClass.lookup(ComparatorChainWrapper.class).getSerialVersionUID(),
+                "ComparatorChainWrapper serialVersionUID");
+
+        // ȋgݍ킹ɂ炸 Collections.sort Ɠ L[̗vf͌̏
+        for (int n : new int[] { 0, 1, 2, 50, 3000 }) {
+            final List<Item> xs = items(n, n);
+            final String what = " n=" + n;
+            sameSort(xs, ComparatorUtil.cons(NATURAL, ID_MOD_7), "cons" + what);
+            sameSort(xs, ComparatorUtil.keyComparator(NATURAL, ID_MOD_7), "keyComparator" + what);
+            sameSort(xs, ComparatorUtil.<Item> newChain()
+                    .append(ComparatorUtil.cons(NATURAL, ID_MOD_7))
+                    .append(ComparatorUtil.<Item> beanProperty("name"), true)
+                    .append(BY_NAME_LENGTH), "chain" + what);
+            sameSort(xs, ComparatorUtil.<Item> newChain()
+                    .append(ComparatorUtil.<Item> newChain()
+                            .append(ComparatorUtil.<Item> beanProperty("parent.name"))
+                            .append(ComparatorUtil.cons(NATURAL, ID_MOD_7), true), true)
+                    .append(ComparatorUtil.<Item> beanProperty("id", false))
+                    .append(BY_NAME_LENGTH, true), "nested chain" + what);
+            sameSort(xs, ComparatorUtil.<Item> newChain().append(BY_NAME_LENGTH), "single plain" + what);
+        }
+        final ComparatorUtil.KeyComparator<Item, Integer> kc = ComparatorUtil.keyComparator(NATURAL, ID_MOD_7);
+        check(kc.getKey() == ID_MOD_7 && kc.getKeyComparator() == NATURAL, "keyComparator parts");
+        check(ComparatorUtil.cons(NATURAL, ID_MOD_7) instanceof ComparatorUtil.KeyComparator, "cons is KeyComparator");
+        eq(3, ComparatorUtil.<Item> newChain().append(BY_NAME_LENGTH).append(BY_NAME_LENGTH, true)
+                .append(BY_NAME_LENGTH).size(), "chain size");
+
+        // Â` (comparators, reverses Ȃ) ͕̍ɂ̂܂ܔׂ
+        final ComparatorChainWrapper<Item> oldChain = ComparatorUtil.<Item> newChain()
+                .append(ComparatorUtil.cons(NATURAL, ID_MOD_7), true)
+                .append(ComparatorUtil.<Item> beanProperty("name"));
+        setField(oldChain, "comparators", null);
+        setField(oldChain, "reverses", null);
+        final List<Item> many = items(500, 7);
+        sameSort(many, oldChain, "old chain");
+        // commons  ComparatorChain 1xׂƒi𑫂Ȃ̂ŁÂׂ͔O
+        final ComparatorChainWrapper<Item> appended = ComparatorUtil.<Item> newChain()
+                .append(ComparatorUtil.cons(NATURAL, ID_MOD_7), true)
+                .append(ComparatorUtil.<Item> beanProperty("name"));
+        setField(appended, "comparators", null);
+        setField(appended, "reverses", null);
+        appended.append(ComparatorUtil.<Item> beanProperty("parent.id"));
+        eq(3, appended.size(), "old chain append");
+        sameSort(many, appended, "old chain after append");
+        sameSort(many, ComparatorUtil.<Item> newChain().append(oldChain, true).append(BY_NAME_LENGTH),
+                "old chain nested");
+        final ComparatorChainWrapper<Item> beans = ComparatorUtil.<Item> newChain()
+                .append(ComparatorUtil.<Item> beanProperty("name"), true)
+                .append(ComparatorUtil.<Item> beanProperty("id"));
+        setField(beans, "comparators", null);
+        setField(beans, "reverses", null);
+        sameSort(many, copy(beans), "old chain copied");
+
+        // ꕔ̒ioĂ鍽ɂȂ
+        final ComparatorChainWrapper<Item> partial = ComparatorUtil.<Item> newChain()
+                .append(ComparatorUtil.<Item> beanProperty("name"))
+                .append(ComparatorUtil.cons(NATURAL, ID_MOD_7), true);
+        ((List<?>) getField(partial, "comparators")).remove(1);
+        ((List<?>) getField(partial, "reverses")).remove(1);
+        sameSort(many, partial, "size mismatch");
+
+        System.out.println("TestComparatorUtil OK");
+    }
+}
@@ -0,0 +1,126 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import com.atson.commons.sql.DataReader;
+import com.atson.commons.sql.ExternalSorter;
+
+public class TestExternalSorter {
+
+    /**
+     * 擪3Ŕׂ L[̗vf͓͂̏ɕԂ͂
+     */
+    static final Comparator<String> BY_KEY = new Comparator<String>() {
+        @Override
+        public int compare(final String a, final String b) {
+            return a.substring(0, 3).compareTo(b.substring(0, 3));
+        }
+    };
+
+    static final ExternalSorter.Codec<String> UTF = new ExternalSorter.Codec<String>() {
+        @Override
+        public void write(final DataOutputStream out, final String t) throws IOException {
+            out.writeUTF(t);
+        }
+
+        @Override
+        public String read(final DataInputStream in) throws IOException {
+            return in.readUTF();
+        }
+    };
+
+    static List<String> input(final int n, final long seed) {
+        final Random r = new Random(seed);
+        final ArrayList<String> rv = new ArrayList<String>();
+        for (int i = 0; i < n; i++) {
+            rv.add(String.format("k%02d:%d", r.nextInt(40), i));
+        }
+        return rv;
+    }
+
+    static File tmpDir() throws IOException {
+        final File d = File.createTempFile("extsorttest", "");
+        check(d.delete() && d.mkdir(), "mkdir " + d);
+        return d;
+    }
+
+    static int files(final File dir) {
+        return dir.list().length;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final File dir = tmpDir();
+        try {
+            // ꎞt@C̐ɂ炸̈ȕבւƓ
+            for (int n : new int[] { 0, 1, 10, 640, 650, 5000 }) {
+                for (int runSize : new int[] { 1, 10, 100000 }) {
+                    for (ExternalSorter.Codec<String> codec : Check.<ExternalSorter.Codec<String>> list(null, UTF)) {
+                        final List<String> xs = input(n, n + runSize);
+                        final ArrayList<String> expected = new ArrayList<String>(xs);
+                        Collections.sort(expected, BY_KEY);
+                        final String what = " n=" + n + " runSize=" + runSize + " codec=" + (codec != null);
+
+                        final Check.ListReader<String> in = Check.reader(xs);
+                        final DataReader<String> sorted =
+                            new ExternalSorter<String>(BY_KEY, runSize, codec, dir).sort(in);
+                        check(in.closed, "input closed" + what);
+                        check(files(dir) <= ExternalSorter.MAX_FAN_IN, "fan-in " + files(dir) + what);
+                        eq(expected, Check.readAll(sorted), "sorted" + what);
+                        eq(0, files(dir), "temp files deleted" + what);
+                    }
+                }
+            }
+
+            // r close Ăꎞt@C폜
+            final DataReader<String> partial =
+                new ExternalSorter<String>(BY_KEY, 3, null, dir).sort(Check.reader(input(1000, 1)));
+            check(files(dir) > 1, "runs written");
+            partial.read();
+            partial.close();
+            eq(0, files(dir), "deleted after partial read");
+
+            // בւ̓rŎsĂꎞt@CcȂ
+            final int[] calls = { 0 };
+            Check.throwsEx(IllegalStateException.class, new Runnable() {
+                @Override
+                public void run() {
+                    new ExternalSorter<String>(new Comparator<String>() {
+                        @Override
+                        public int compare(final String a, final String b) {
+                            if (++calls[0] > 20000) {
+                                throw new IllegalStateException("boom");
+                            }
+                            return BY_KEY.compare(a, b);
+                        }
+                    }, 5, null, dir).sort(Check.reader(input(3000, 2)));
+                }
+            }, "comparator failure");
+            eq(0, files(dir), "deleted after failure");
+
+            Check.throwsEx(IllegalArgumentException.class, new Runnable() {
+                @Override
+                public void run() {
+                    new ExternalSorter<String>(BY_KEY, 0);
+                }
+            }, "runSize 0");
+        } finally {
+            for (String f : dir.list()) {
+                new File(dir, f).delete();
+            }
+            dir.delete();
+        }
+
+        System.out.println("TestExternalSorter OK");
+    }
+}
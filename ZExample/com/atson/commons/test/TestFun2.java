@@ -0,0 +1,113 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.eq;
+import static com.atson.commons.test.Check.list;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.FP.ArrayListJ;
+import com.atson.commons.lang.FP.Fun;
+import com.atson.commons.lang.FP.Fun2;
+import com.atson.commons.lang.FP.Fun3;
+import com.atson.commons.lang.FP.LinkedListJ;
+import com.atson.commons.lang.FP.T2;
+import com.atson.commons.sql.JdbcFP;
+
+public class TestFun2 {
+
+    /**
+     * łȂZ ̏Ⴆƌʂς
+     */
+    static final Fun2<String, Integer, String> SNOC = new Fun2<String, Integer, String>() {
+        @Override
+        public String app(final String a, final Integer b) {
+            return "(" + a + "<" + b + ")";
+        }
+    };
+
+    static final Fun<String, Fun<Integer, String>> SNOC_CURRIED = new Fun<String, Fun<Integer, String>>() {
+        @Override
+        public Fun<Integer, String> app(final String a) {
+            return new Fun<Integer, String>() {
+                @Override
+                public String app(final Integer b) {
+                    return "(" + a + "<" + b + ")";
+                }
+            };
+        }
+    };
+
+    static final Fun3<String, Integer, Character, String> F3 = new Fun3<String, Integer, Character, String>() {
+        @Override
+        public String app(final String a, final Integer b, final Character c) {
+            return a + b + c;
+        }
+    };
+
+    static final Fun<T2<String, Integer>, String> TUPLED = new Fun<T2<String, Integer>, String>() {
+        @Override
+        public String app(final T2<String, Integer> p) {
+            return p.fst() + "<" + p.snd();
+        }
+    };
+
+    public static void main(final String[] args) {
+        for (int n : new int[] { 0, 1, 2, 100 }) {
+            final ArrayList<Integer> xs = new ArrayList<Integer>();
+            for (int i = 0; i < n; i++) {
+                xs.add(i * 31 % 17);
+            }
+            final String what = " n=" + n;
+            eq(FP.foldl(SNOC_CURRIED, "z", xs), FP.foldl(SNOC, "z", xs), "foldl" + what);
+            eq(FP.foldl(SNOC_CURRIED, "z", xs), FP.foldl(FP.fun2(SNOC_CURRIED), "z", xs), "foldl fun2" + what);
+        }
+        eq("((z<1)<2)", FP.foldl(SNOC, "z", list(1, 2)), "foldl value");
+
+        // ݕϊĂ֐
+        eq("(a<1)", FP.curry(SNOC).app("a").app(1), "curry");
+        eq(SNOC.app("a", 1), FP.fun2(FP.curry(SNOC)).app("a", 1), "fun2 curry");
+        eq(SNOC.app("a", 1), FP.uncurry(SNOC).app(FP.t2("a", 1)), "uncurry");
+        eq("a<1", FP.fun2Tupled(TUPLED).app("a", 1), "fun2Tupled");
+        eq(SNOC.app("a", 1), FP.flip(SNOC).app(1, "a"), "flip");
+        eq(SNOC.app("a", 1), FP.flip(FP.flip(SNOC)).app("a", 1), "flip flip");
+        eq("x2y", FP.curry(F3).app("x").app(2).app('y'), "curry Fun3");
+        eq("x2y", FP.fun3(FP.curry(F3)).app("x", 2, 'y'), "fun3 curry");
+
+        // Java\bhł̓J[łƓ
+        final List<Integer> as = list(1, 2, 3);
+        final List<String> bs = list("a", "b");
+        eq(list(1, 2, 3, 1, 2, 3), ArrayListJ.append(as, as), "ArrayListJ append");
+        eq(ArrayListJ.<Integer> append().app(as).app(as), ArrayListJ.append(as, as), "ArrayListJ append curried");
+        eq(LinkedListJ.<Integer> append().app(as).app(as), LinkedListJ.append(as, as), "LinkedListJ append");
+        eq("[(1,a), (2,b)]", ArrayListJ.zip(as, bs).toString(), "ArrayListJ zip");
+        eq(ArrayListJ.<Integer, String> zip().app(as).app(bs).toString(), ArrayListJ.zip(as, bs).toString(),
+                "ArrayListJ zip curried");
+        eq(LinkedListJ.<Integer, String> zip().app(as).app(bs).toString(), LinkedListJ.zip(as, bs).toString(),
+                "LinkedListJ zip");
+        eq(0, LinkedListJ.zip(as, new LinkedList<String>()).size(), "zip empty");
+
+        // setter  set Ɠ setObject Ă
+        final List<String> calls = new ArrayList<String>();
+        final PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(TestFun2.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(final Object proxy, final Method m, final Object[] a) {
+                        calls.add(m.getName() + a[0] + "=" + a[1]);
+                        return null;
+                    }
+                });
+        JdbcFP.set(ps, 1, "v");
+        JdbcFP.<Integer> setter().app(ps, 2, 42);
+        eq(list("setObject1=v", "setObject2=42"), calls, "setter");
+        eq(FP.UNIT, JdbcFP.<String> setter().app(ps, 3, "w"), "setter returns UNIT");
+
+        System.out.println("TestFun2 OK");
+    }
+}
@@ -0,0 +1,109 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+import static com.atson.commons.test.Check.list;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import com.atson.commons.collection.GroupTable;
+import com.atson.commons.lang.FP.Fun;
+import com.atson.commons.lang.ParFP;
+import com.atson.commons.sql.Data;
+
+public class TestGroupTable {
+
+    static final Fun<Integer, Integer> MOD = new Fun<Integer, Integer>() {
+        @Override
+        public Integer app(final Integer a) {
+            return a % 1013 == 0 ? null : a % 1013;
+        }
+    };
+
+    static final Fun<Integer, String> SHOW = new Fun<Integer, String>() {
+        @Override
+        public String app(final Integer a) {
+            return a + ",";
+        }
+    };
+
+    /**
+     * LinkedHashMap ōҒl
+     */
+    static LinkedHashMap<Integer, ArrayList<Integer>> expected(final List<Integer> xs) {
+        final LinkedHashMap<Integer, ArrayList<Integer>> rv = new LinkedHashMap<Integer, ArrayList<Integer>>();
+        for (Integer x : xs) {
+            final Integer k = MOD.app(x);
+            if (!rv.containsKey(k)) {
+                rv.put(k, new ArrayList<Integer>());
+            }
+            rv.get(k).add(x);
+        }
+        return rv;
+    }
+
+    public static void main(final String[] args) {
+        for (int n : new int[] { 0, 1, 100, 5000, 100000 }) {
+            final ArrayList<Integer> xs = new ArrayList<Integer>(n);
+            for (int i = 0; i < n; i++) {
+                xs.add((int) ((i * 2654435761L) % 1000003));
+            }
+            final String what = " n=" + n;
+            final LinkedHashMap<Integer, ArrayList<Integer>> groups = expected(xs);
+            final LinkedHashMap<Integer, Integer> counts = new LinkedHashMap<Integer, Integer>();
+            final LinkedHashMap<Integer, String> folds = new LinkedHashMap<Integer, String>();
+            for (Integer k : groups.keySet()) {
+                counts.put(k, groups.get(k).size());
+                final StringBuilder b = new StringBuilder();
+                for (Integer x : groups.get(k)) {
+                    b.append(SHOW.app(x));
+                }
+                folds.put(k, b.toString());
+            }
+
+            // L[͍̏ŏɌꂽ O[v͓͂̏
+            eq(groups, GroupTable.groupingBy(MOD, xs).toLinkedHashMap(), "groupingBy" + what);
+            eq(counts, GroupTable.countBy(MOD, xs).toLinkedHashMap(), "countBy" + what);
+            eq(folds, GroupTable.foldBy(MOD, SHOW, Data.stringMonoid, xs).toLinkedHashMap(), "foldBy" + what);
+            eq(groups, ParFP.groupingBy(MOD, xs).toLinkedHashMap(), "ParFP.groupingBy" + what);
+            eq(counts, ParFP.countBy(MOD, xs).toLinkedHashMap(), "ParFP.countBy" + what);
+            eq(folds, ParFP.foldBy(MOD, SHOW, Data.stringMonoid, xs).toLinkedHashMap(), "ParFP.foldBy" + what);
+
+            // O̕\Ɍ㔼̕\𕹍ƑŜ1xɍꍇƓ
+            final List<Integer> front = xs.subList(0, n / 3);
+            final List<Integer> back = xs.subList(n / 3, n);
+            eq(groups, GroupTable.groupingBy(MOD, front).merge(GroupTable.groupingBy(MOD, back),
+                    Data.<Integer>arrayListMonoid()).toLinkedHashMap(), "merge" + what);
+            eq(groups, GroupTable.mergeGroups(GroupTable.groupingBy(MOD, front),
+                    GroupTable.groupingBy(MOD, back)).toLinkedHashMap(), "mergeGroups" + what);
+        }
+
+        // merge  Monoid ɏ]A̒lύXȂ
+        final GroupTable<String, ArrayList<Integer>> a = new GroupTable<String, ArrayList<Integer>>();
+        final GroupTable<String, ArrayList<Integer>> b = new GroupTable<String, ArrayList<Integer>>();
+        final ArrayList<Integer> a1 = new ArrayList<Integer>(list(1));
+        final ArrayList<Integer> b1 = new ArrayList<Integer>(list(2));
+        a.put("x", a1);
+        b.put("x", b1);
+        b.put("y", new ArrayList<Integer>(list(3)));
+        a.merge(b, Data.<Integer>arrayListMonoid());
+        eq("{x=[1, 2], y=[3]}", a.toString(), "merged");
+        eq(list(1), a1, "left value unchanged");
+        eq(list(2), b1, "right value unchanged");
+
+        final GroupTable<String, Integer> t = new GroupTable<String, Integer>(1);
+        for (int i = 0; i < 1000; i++) {
+            t.put("k" + i, i);
+        }
+        t.put(null, -1);
+        eq(1001, t.size(), "size");
+        eq(500, t.get("k500"), "get");
+        eq(-1, t.get(null), "null key");
+        check(!t.containsKey("k1000"), "containsKey");
+        eq("k999", t.keys().get(999), "keys in insertion order");
+
+        System.out.println("TestGroupTable OK");
+    }
+}
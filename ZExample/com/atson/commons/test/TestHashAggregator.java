@@ -0,0 +1,107 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.eq;
+import static com.atson.commons.test.Check.readAll;
+import static com.atson.commons.test.Check.reader;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.FP.Fun;
+import com.atson.commons.lang.FP.T2;
+import com.atson.commons.sql.Data;
+import com.atson.commons.sql.HashAggregator;
+
+public class TestHashAggregator {
+
+    /**
+     * hashCode ׂēL[
+     */
+    static final class BadKey implements Serializable {
+        private static final long serialVersionUID = 1L;
+        final int id;
+
+        BadKey(final int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof BadKey && ((BadKey) o).id == this.id;
+        }
+    }
+
+    /**
+     * L[ k ̍s k % 7 + 1 AL[̏č
+     */
+    static <K> List<T2<K, Integer>> rows(final List<K> keys) {
+        final ArrayList<T2<K, Integer>> rv = new ArrayList<T2<K, Integer>>();
+        for (int r = 0; r < 7; r++) {
+            for (int i = 0; i < keys.size(); i++) {
+                if (r <= i % 7) {
+                    rv.add(FP.t2(keys.get((i * 31 + r) % keys.size()), 1));
+                }
+            }
+        }
+        return rv;
+    }
+
+    static <K> HashMap<K, Integer> expected(final List<T2<K, Integer>> rows) {
+        final HashMap<K, Integer> rv = new HashMap<K, Integer>();
+        for (T2<K, Integer> t : rows) {
+            final Integer n = rv.get(t.fst());
+            rv.put(t.fst(), n == null ? t.snd() : n + t.snd());
+        }
+        return rv;
+    }
+
+    static <K> HashMap<K, Integer> aggregate(final List<T2<K, Integer>> rows, final int budget) {
+        final HashMap<K, Integer> rv = new HashMap<K, Integer>();
+        final Fun<T2<K, Integer>, K> key = FP.<K, Integer>fst();
+        final Fun<T2<K, Integer>, Integer> value = FP.<K, Integer>snd();
+        for (T2<K, Integer> t : readAll(HashAggregator.aggregate(key, value, Data.intSumMonoid, budget, reader(rows)))) {
+            eq(null, rv.put(t.fst(), t.snd()), "key returned twice: " + t.fst());
+        }
+        return rv;
+    }
+
+    public static void main(final String[] args) {
+        final ArrayList<Integer> ints = new ArrayList<Integer>();
+        for (int i = 0; i < 5000; i++) {
+            ints.add(i);
+        }
+        final List<T2<Integer, Integer>> intRows = rows(ints);
+        final HashMap<Integer, Integer> intExpected = expected(intRows);
+        // \傫ȂSɍڂꍇƁAꎞt@Cɕꍇ
+        eq(intExpected, aggregate(intRows, HashAggregator.DEFAULT_BUDGET), "in memory");
+        eq(intExpected, aggregate(intRows, 100), "spilled");
+        eq(intExpected, aggregate(intRows, 1), "budget 1");
+
+        // łȂL[͉iɏWvł
+        final ArrayList<BadKey> bad = new ArrayList<BadKey>();
+        for (int i = 0; i < 300; i++) {
+            bad.add(new BadKey(i));
+        }
+        final List<T2<BadKey, Integer>> badRows = rows(bad);
+        eq(expected(badRows), aggregate(badRows, 8), "colliding keys");
+
+        // Xbg 2^31 oCg𒴂 budget ͎󂯕tȂ
+        Check.throwsEx(IllegalArgumentException.class, new Runnable() {
+            @Override
+            public void run() {
+                aggregate(intRows, (1 << 26) + 1);
+            }
+        }, "budget too large");
+        eq(intExpected, aggregate(intRows, 1 << 26), "max budget");
+
+        System.out.println("TestHashAggregator OK");
+    }
+}
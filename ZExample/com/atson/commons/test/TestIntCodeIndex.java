@@ -0,0 +1,161 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.atson.commons.sql.CodeProperty2;
+import com.atson.commons.sql.IntCodeIndex;
+import com.atson.commons.sql.JdbcFP;
+
+public class TestIntCodeIndex {
+
+    /**
+     * ͈͂̃R[h zň
+     */
+    enum Dense implements CodeProperty2<Integer> {
+        ZERO(0), ONE(1), TWO(2), MINUS(-1), NONE(null), UNO(1);
+
+        private final Integer code;
+
+        private Dense(final Integer code) {
+            this.code = code;
+        }
+
+        @Override
+        public Integer getCode() {
+            return this.code;
+        }
+    }
+
+    /**
+     * L͈͂ɂ܂΂ȃR[h nbV\ň
+     */
+    enum Sparse implements CodeProperty2<Integer> {
+        SMALL(3), BIG(1000000), HUGE(Integer.MAX_VALUE), NEG(Integer.MIN_VALUE), MID(65536);
+
+        private final Integer code;
+
+        private Sparse(final Integer code) {
+            this.code = code;
+        }
+
+        @Override
+        public Integer getCode() {
+            return this.code;
+        }
+    }
+
+    enum Flag implements CodeProperty2<Character> {
+        YES('Y'), NO('N'), KANA('');
+
+        private final Character code;
+
+        private Flag(final Character code) {
+            this.code = code;
+        }
+
+        @Override
+        public Character getCode() {
+            return this.code;
+        }
+    }
+
+    enum Ascii implements CodeProperty2<Character> {
+        YES('Y'), NO('N'), NONE(null);
+
+        private final Character code;
+
+        private Ascii(final Character code) {
+            this.code = code;
+        }
+
+        @Override
+        public Character getCode() {
+            return this.code;
+        }
+    }
+
+    static void rejects(final IntCodeIndex<?> index, final int code) {
+        Check.throwsEx(IllegalArgumentException.class, new Runnable() {
+            @Override
+            public void run() {
+                index.valueOfCode(code);
+            }
+        }, "valueOfCode " + code);
+    }
+
+    public static void main(final String[] args) throws SQLException {
+        final IntCodeIndex<Dense> dense = IntCodeIndex.of(Dense.class);
+        for (Dense d : Dense.values()) {
+            if (d != Dense.UNO) {
+                eq(d, dense.get((Object) d.getCode()), "dense " + d);
+            }
+        }
+        // dR[h͐ɐ錾ꂽ񋓎q
+        eq(Dense.ONE, dense.get(1), "dense duplicated");
+        eq(Dense.ONE, dense.get((Object) (short) 1), "dense Short");
+        eq(null, dense.get(3), "dense above");
+        eq(null, dense.get(-2), "dense below");
+        eq(null, dense.get(Integer.MIN_VALUE), "dense MIN_VALUE");
+        rejects(dense, 3);
+
+        final IntCodeIndex<Sparse> sparse = IntCodeIndex.of(Sparse.class);
+        for (Sparse s : Sparse.values()) {
+            eq(s, sparse.valueOfCode(s.getCode().intValue()), "sparse " + s);
+        }
+        eq(null, sparse.get(4), "sparse unknown");
+        eq(null, sparse.get(0), "sparse zero");
+        eq(null, sparse.get((Object) null), "sparse null");
+        rejects(sparse, 999999);
+
+        final IntCodeIndex<Flag> flags = IntCodeIndex.of(Flag.class);
+        eq(Flag.YES, flags.get('Y'), "char Y");
+        eq(Flag.KANA, flags.get((Object) ''), "char kana");
+        check(!flags.isAscii(), "not ascii");
+        check(IntCodeIndex.of(Ascii.class).isAscii(), "ascii");
+
+        Check.throwsEx(IllegalArgumentException.class, new Runnable() {
+            @Override
+            public void run() {
+                dense.get((Object) "1");
+            }
+        }, "String code");
+
+        final ResultSet rs = FakeJdbc.resultSet(new String[] { "STATUS", "FLAG", "KANA" },
+                new Object[][] { { 2, "N", "" }, { null, null, "Y" }, { 7, "Z", "N" } });
+        rs.next();
+        eq(Dense.TWO, JdbcFP.intCodePropertyComposer(Dense.class).create(rs, 1), "int composer");
+        eq(Ascii.NO, JdbcFP.charCodePropertyComposer(Ascii.class).create(rs, 2), "char composer bytes");
+        eq(Flag.KANA, JdbcFP.charCodePropertyComposer(Flag.class).create(rs, 3), "char composer string");
+        rs.next();
+        eq(Dense.NONE, JdbcFP.intCodePropertyComposer(Dense.class).create(rs, 1), "int composer null");
+        eq(Ascii.NONE, JdbcFP.charCodePropertyComposer(Ascii.class).create(rs, 2), "char composer null");
+        eq(Flag.YES, JdbcFP.charCodePropertyComposer(Flag.class).create(rs, 3), "char composer string Y");
+        rs.next();
+        Check.throwsEx(IllegalArgumentException.class, new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    JdbcFP.intCodePropertyComposer(Dense.class).create(rs, 1);
+                } catch (SQLException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        }, "int composer unknown");
+        Check.throwsEx(IllegalArgumentException.class, new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    JdbcFP.charCodePropertyComposer(Ascii.class).create(rs, 2);
+                } catch (SQLException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        }, "char composer unknown");
+
+        System.out.println("TestIntCodeIndex OK");
+    }
+}
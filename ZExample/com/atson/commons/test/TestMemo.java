@@ -0,0 +1,126 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.FP.EFun;
+import com.atson.commons.lang.FP.Fun;
+import com.atson.commons.lang.Memo;
+
+public class TestMemo {
+
+    static Fun<Integer, String> counting(final AtomicInteger calls) {
+        return new Fun<Integer, String>() {
+            @Override
+            public String app(final Integer a) {
+                calls.incrementAndGet();
+                return a == null || a < 0 ? null : "v" + a;
+            }
+        };
+    }
+
+    public static void main(final String[] args) throws Exception {
+        // 2ڈȍ~͌̊֐Ă΂Ȃ null ̌ʂ null ̈o
+        final AtomicInteger calls = new AtomicInteger();
+        final Memo.MemoFun<Integer, String> m = FP.memo(counting(calls));
+        for (int round = 0; round < 3; round++) {
+            for (int i = -5; i < 100; i++) {
+                eq(i < 0 ? null : "v" + i, m.app(i), "memo " + i);
+            }
+            eq(null, m.app(null), "memo null");
+        }
+        eq(106, calls.get(), "memo calls");
+        eq(106, m.size(), "memo size");
+        eq(106L, m.missCount(), "missCount");
+        eq(212L, m.hitCount(), "hitCount");
+        eq(2.0 / 3, m.hitRate(), "hitRate");
+        m.clear();
+        eq(0, m.size(), "clear");
+        m.app(1);
+        eq(107, calls.get(), "after clear");
+        eq(0.0, FP.memo(counting(calls)).hitRate(), "hitRate unused");
+
+        // 𒴂ƌÂ̂̂Ă
+        final AtomicInteger lruCalls = new AtomicInteger();
+        final Memo.MemoFun<Integer, String> lru = FP.memoLru(counting(lruCalls), 64);
+        for (int i = 0; i < 10000; i++) {
+            eq("v" + i % 1000, lru.app(i % 1000), "lru " + i);
+        }
+        check(lru.size() <= 64, "lru bounded " + lru.size());
+        eq(10000, lruCalls.get(), "lru evicts");
+        final AtomicInteger hotCalls = new AtomicInteger();
+        final Memo.MemoFun<Integer, String> hot = FP.memoLru(counting(hotCalls), 1);
+        hot.app(7);
+        hot.app(7);
+        eq(1, hotCalls.get(), "lru size 1");
+        Check.throwsEx(IllegalArgumentException.class, new Runnable() {
+            @Override
+            public void run() {
+                FP.memoLru(counting(hotCalls), 0);
+            }
+        }, "lru size 0");
+
+        // QƂ̕\͈cĂԂ͊oĂ
+        final AtomicInteger weakCalls = new AtomicInteger();
+        final Memo.MemoFun<String, String> weak = FP.memoWeak(new Fun<String, String>() {
+            @Override
+            public String app(final String a) {
+                weakCalls.incrementAndGet();
+                return a + "!";
+            }
+        });
+        // IuWFNgł͂ȂL[
+        final String key = new String("k");
+        weak.app(key);
+        weak.app(new String("k"));
+        eq(1, weakCalls.get(), "weak equals key");
+        eq(1, weak.size(), "weak size");
+        eq("k!", weak.app(key), "weak same key");
+        eq(1, weakCalls.get(), "weak same key calls");
+
+        // ċAĂяooʂg
+        final AtomicInteger fibCalls = new AtomicInteger();
+        final Fun<Integer, Long> fib = FP.memoFix(new Fun<Fun<Integer, Long>, Fun<Integer, Long>>() {
+            @Override
+            public Fun<Integer, Long> app(final Fun<Integer, Long> self) {
+                return new Fun<Integer, Long>() {
+                    @Override
+                    public Long app(final Integer n) {
+                        fibCalls.incrementAndGet();
+                        return n < 2 ? (long) n : self.app(n - 1) + self.app(n - 2);
+                    }
+                };
+            }
+        });
+        eq(12586269025L, fib.app(50), "fib");
+        eq(51, fibCalls.get(), "fib calls");
+
+        // O𓊂ꍇ͊oȂ
+        final AtomicInteger ecalls = new AtomicInteger();
+        final Memo<String, Integer, IOException> em = FP.ememo(new EFun<String, Integer, IOException>() {
+            @Override
+            public Integer app(final String s) throws IOException {
+                if (ecalls.incrementAndGet() == 1) {
+                    throw new IOException("first");
+                }
+                return s.length();
+            }
+        });
+        try {
+            em.app("abc");
+            check(false, "ememo throws");
+        } catch (IOException e) {
+            eq("first", e.getMessage(), "ememo exception");
+        }
+        eq(0, em.size(), "ememo not remembered");
+        eq(3, (int) em.app("abc"), "ememo retry");
+        eq(3, (int) em.app("abc"), "ememo hit");
+        eq(2, ecalls.get(), "ememo calls");
+
+        System.out.println("TestMemo OK");
+    }
+}
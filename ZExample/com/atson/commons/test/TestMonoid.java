@@ -0,0 +1,106 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+import static com.atson.commons.test.Check.list;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+
+import com.atson.commons.lang.ParFP;
+import com.atson.commons.sql.Data;
+import com.atson.commons.sql.Data.Maybe;
+import com.atson.commons.sql.Data.Monoid;
+
+public class TestMonoid {
+
+    /**
+     * mconcat, mconcatTree,  mconcat  mappend ʂƓɂȂ邱
+     */
+    static <A> void laws(final Monoid<A> m, final List<A> xs, final String what) {
+        A fold = m.mempty();
+        for (A x : xs) {
+            fold = m.mappend(fold, x);
+        }
+        final String expected = show(fold);
+        eq(expected, show(m.mconcat(xs)), what + " mconcat");
+        eq(expected, show(m.mconcatTree(xs)), what + " mconcatTree");
+        eq(expected, show(ParFP.mconcat(m, xs)), what + " ParFP.mconcat");
+        eq(show(m.mempty()), show(m.mconcat(new ArrayList<A>())), what + " mconcat empty");
+        if (!xs.isEmpty()) {
+            eq(show(xs.get(0)), show(m.mappend(m.mempty(), xs.get(0))), what + " left identity");
+            eq(show(xs.get(0)), show(m.mappend(xs.get(0), m.mempty())), what + " right identity");
+        }
+    }
+
+    static String show(final Object o) {
+        if (o instanceof Object[]) {
+            return Arrays.toString((Object[]) o);
+        }
+        if (o instanceof Maybe) {
+            final Maybe<?> m = (Maybe<?>) o;
+            return m.isJust() ? "Just " + show(m.fromJust()) : "Nothing";
+        }
+        return String.valueOf(o);
+    }
+
+    static final Comparator<Integer> NATURAL = new Comparator<Integer>() {
+        @Override
+        public int compare(final Integer a, final Integer b) {
+            return a.compareTo(b);
+        }
+    };
+
+    public static void main(final String[] args) {
+        final ArrayList<String> strs = new ArrayList<String>();
+        final ArrayList<Integer[]> arrays = new ArrayList<Integer[]>();
+        final ArrayList<ArrayList<Integer>> als = new ArrayList<ArrayList<Integer>>();
+        final ArrayList<LinkedList<Integer>> lls = new ArrayList<LinkedList<Integer>>();
+        final ArrayList<Integer> ints = new ArrayList<Integer>();
+        final ArrayList<BigDecimal> decimals = new ArrayList<BigDecimal>();
+        final ArrayList<LinkedHashMap<String, Integer>> maps = new ArrayList<LinkedHashMap<String, Integer>>();
+        final ArrayList<Maybe<String>> maybes = new ArrayList<Maybe<String>>();
+        for (int i = 0; i < 300; i++) {
+            strs.add("s" + i);
+            arrays.add(new Integer[] { i, -i });
+            als.add(new ArrayList<Integer>(list(i, i + 1)));
+            lls.add(new LinkedList<Integer>(list(i)));
+            ints.add(i * 37 % 101);
+            decimals.add(new BigDecimal("0.1"));
+            final LinkedHashMap<String, Integer> map = new LinkedHashMap<String, Integer>();
+            map.put("k" + i % 7, i);
+            maps.add(map);
+            maybes.add(i % 3 == 0 ? Data.<String>nothing() : Data.just("m" + i));
+        }
+        for (int n : new int[] { 0, 1, 2, 3, 300 }) {
+            laws(Data.stringMonoid, strs.subList(0, n), "string " + n);
+            laws(Data.arrayMonoid(Integer.class), arrays.subList(0, n), "array " + n);
+            laws(Data.<Integer>arrayListMonoid(), als.subList(0, n), "ArrayList " + n);
+            laws(Data.<Integer>linkedListMonoid(), lls.subList(0, n), "LinkedList " + n);
+            laws(Data.intSumMonoid, ints.subList(0, n), "int sum " + n);
+            laws(Data.bigDecimalSumMonoid, decimals.subList(0, n), "BigDecimal sum " + n);
+            laws(Data.minMonoid(NATURAL), ints.subList(0, n), "min " + n);
+            laws(Data.maxMonoid(NATURAL), ints.subList(0, n), "max " + n);
+            laws(Data.<String, Integer>mapMonoid(Data.intSumMonoid), maps.subList(0, n), "map " + n);
+            laws(Data.maybeMonoid(Data.stringMonoid), maybes.subList(0, n), "Maybe " + n);
+        }
+
+        // mappend ͈ύXȂ
+        final ArrayList<Integer> x = new ArrayList<Integer>(list(1, 2));
+        final ArrayList<Integer> y = new ArrayList<Integer>(list(3));
+        eq(list(1, 2, 3), Data.<Integer>arrayListMonoid().mappend(x, y), "ArrayList mappend");
+        eq(list(1, 2), x, "ArrayList x unchanged");
+        eq(list(3), y, "ArrayList y unchanged");
+        final LinkedHashMap<String, Integer> mx = maps.get(0);
+        Data.<String, Integer>mapMonoid(Data.intSumMonoid).mappend(mx, maps.get(7));
+        eq("{k0=0}", mx.toString(), "map x unchanged");
+        check(Data.arrayMonoid(Integer.class).mconcat(arrays).getClass() == Integer[].class, "array component type");
+
+        System.out.println("TestMonoid OK");
+    }
+}
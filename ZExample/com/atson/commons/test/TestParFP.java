@@ -0,0 +1,109 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.FP.ArrayListJ;
+import com.atson.commons.lang.FP.Fun;
+import com.atson.commons.lang.ParFP;
+import com.atson.commons.sql.Data;
+import com.atson.commons.sql.Data.Maybe;
+
+public class TestParFP {
+
+    static final Fun<Integer, String> SHOW = new Fun<Integer, String>() {
+        @Override
+        public String app(final Integer a) {
+            return a + ",";
+        }
+    };
+
+    static final Fun<Integer, Integer> ONE = new Fun<Integer, Integer>() {
+        @Override
+        public Integer app(final Integer a) {
+            return 1;
+        }
+    };
+
+    static Fun<Integer, Boolean> greaterThan(final int n) {
+        return new Fun<Integer, Boolean>() {
+            @Override
+            public Boolean app(final Integer a) {
+                return a > n;
+            }
+        };
+    }
+
+    static Fun<Integer, Boolean> divisibleBy(final int n) {
+        return new Fun<Integer, Boolean>() {
+            @Override
+            public Boolean app(final Integer a) {
+                return a % n == 0;
+            }
+        };
+    }
+
+    static String show(final Maybe<?> m) {
+        return m.isJust() ? "Just " + m.fromJust() : "Nothing";
+    }
+
+    public static void main(final String[] args) {
+        for (int n : new int[] { 0, 1, 15, 16, 17, 1000, 100000 }) {
+            final ArrayList<Integer> xs = new ArrayList<Integer>(n);
+            for (int i = 0; i < n; i++) {
+                xs.add((i * 7919) % 100003);
+            }
+            final Integer[] arr = xs.toArray(new Integer[n]);
+            final String what = " n=" + n;
+
+            // ʂ̏͒łƓ
+            eq(ArrayListJ.map(SHOW, xs), ParFP.map(SHOW, xs), "map" + what);
+            eq(ArrayListJ.map(SHOW, xs), ParFP.map(SHOW, arr), "map array" + what);
+            eq(ArrayListJ.filter(divisibleBy(3), xs), ParFP.filter(divisibleBy(3), xs), "filter" + what);
+            eq(ArrayListJ.filter(divisibleBy(3), xs), ParFP.filter(divisibleBy(3), new LinkedList<Integer>(xs)),
+                    "filter LinkedList" + what);
+            // łȂ Monoid łvf̏ɘA
+            eq(Data.stringMonoid.mconcat(ArrayListJ.map(SHOW, xs)), ParFP.foldMap(Data.stringMonoid, SHOW, xs),
+                    "foldMap string" + what);
+            eq(n, (int) ParFP.foldMap(Data.intSumMonoid, ONE, arr), "foldMap sum" + what);
+            eq(Data.stringMonoid.mconcat(ArrayListJ.map(SHOW, xs)),
+                    ParFP.mconcat(Data.stringMonoid, ArrayListJ.map(SHOW, xs)), "mconcat" + what);
+
+            for (int limit : new int[] { -1, 50000, 100001, 100003 }) {
+                eq(FP.any(greaterThan(limit), xs), ParFP.any(greaterThan(limit), xs), "any " + limit + what);
+                eq(FP.all(greaterThan(limit), xs), ParFP.all(greaterThan(limit), arr), "all " + limit + what);
+                eq(show(Data.find(greaterThan(limit), xs)), show(ParFP.find(greaterThan(limit), xs)),
+                        "find " + limit + what);
+            }
+        }
+
+        // ֐O͌Ăяoɓ
+        final List<Integer> nums = new ArrayList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            nums.add(i);
+        }
+        Check.throwsEx(IllegalStateException.class, new Runnable() {
+            @Override
+            public void run() {
+                ParFP.map(new Fun<Integer, Integer>() {
+                    @Override
+                    public Integer app(final Integer a) {
+                        if (a == 5000) {
+                            throw new IllegalStateException("boom");
+                        }
+                        return a;
+                    }
+                }, nums);
+            }
+        }, "exception");
+        check(ParFP.find(divisibleBy(1000), nums).isJust(), "find just");
+        eq(1000, (int) ParFP.find(greaterThan(999), nums).fromJust(), "find first");
+
+        System.out.println("TestParFP OK");
+    }
+}
@@ -0,0 +1,113 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.eq;
+import static com.atson.commons.test.Check.list;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import com.atson.commons.lang.FP.ArrayListJ;
+import com.atson.commons.lang.FP.Consumer;
+import com.atson.commons.lang.FP.Fun;
+import com.atson.commons.lang.Pair;
+import com.atson.commons.lang.Pipeline;
+
+public class TestPipeline {
+
+    /**
+     * Ă΂ꂽ񐔂𐔂֐
+     */
+    static final class Counted<A, B> implements Fun<A, B> {
+        final Fun<A, B> f;
+        int calls = 0;
+
+        Counted(final Fun<A, B> f) {
+            this.f = f;
+        }
+
+        @Override
+        public B app(final A a) {
+            this.calls++;
+            return this.f.app(a);
+        }
+    }
+
+    static final Fun<Integer, Integer> SQUARE = new Fun<Integer, Integer>() {
+        @Override
+        public Integer app(final Integer a) {
+            return a * a;
+        }
+    };
+
+    static final Fun<Integer, Boolean> ODD = new Fun<Integer, Boolean>() {
+        @Override
+        public Boolean app(final Integer a) {
+            return a % 2 != 0;
+        }
+    };
+
+    static final Fun<Integer, Boolean> SMALL = new Fun<Integer, Boolean>() {
+        @Override
+        public Boolean app(final Integer a) {
+            return a < 200;
+        }
+    };
+
+    static final Fun<Pair<Integer, Integer>, Integer> PLUS_INDEX = new Fun<Pair<Integer, Integer>, Integer>() {
+        @Override
+        public Integer app(final Pair<Integer, Integer> p) {
+            return p.fst() * 1000 + p.snd();
+        }
+    };
+
+    public static void main(final String[] args) {
+        final ArrayList<Integer> xs = new ArrayList<Integer>();
+        for (int i = 0; i < 50; i++) {
+            xs.add(i);
+        }
+        final LinkedList<Integer> lxs = new LinkedList<Integer>(xs);
+
+        // ÓI֐ɓKpꍇƓ
+        eq(ArrayListJ.map(SQUARE, xs), Pipeline.from(xs).map(SQUARE).toArrayList(), "map");
+        eq(ArrayListJ.filter(ODD, xs), Pipeline.from(xs).filter(ODD).toArrayList(), "filter");
+        eq(ArrayListJ.mapi(PLUS_INDEX, ArrayListJ.filter(ODD, xs)),
+                Pipeline.from(xs).filter(ODD).mapi(PLUS_INDEX).toArrayList(), "filter mapi");
+        eq(ArrayListJ.takeWhile(SMALL, ArrayListJ.map(SQUARE, ArrayListJ.filter(ODD, xs))),
+                Pipeline.from(lxs).filter(ODD).map(SQUARE).takeWhile(SMALL).toArrayList(), "filter map takeWhile");
+        for (int n = -1; n <= 52; n++) {
+            eq(ArrayListJ.take(n, ArrayListJ.filter(ODD, ArrayListJ.take(n + 3, xs))),
+                    Pipeline.from(xs).take(n + 3).filter(ODD).take(n).toArrayList(), "take " + n);
+            eq(ArrayListJ.take(n, xs), Pipeline.from(lxs).take(n).toLinkedList(), "take LinkedList " + n);
+        }
+        eq(ArrayListJ.map(SQUARE, xs), Pipeline.from(xs.toArray(new Integer[0])).map(SQUARE).toArrayList(), "array");
+        eq(list(), Pipeline.from(new ArrayList<Integer>()).map(SQUARE).toArrayList(), "empty");
+
+        // ł؂̗vfɂĂ͑O̒i̊֐Ă΂Ȃ
+        final Counted<Integer, Integer> sq = new Counted<Integer, Integer>(SQUARE);
+        final Pipeline<Integer> p = Pipeline.from(xs).map(sq).takeWhile(SMALL);
+        eq(list(0, 1, 4, 9, 16, 25, 36, 49, 64, 81, 100, 121, 144, 169, 196), p.toArrayList(), "takeWhile stops");
+        eq(16, sq.calls, "map calls");
+        sq.calls = 0;
+        Pipeline.from(xs).map(sq).take(3).toArrayList();
+        eq(3, sq.calls, "map calls before take");
+        sq.calls = 0;
+        Pipeline.from(xs).take(0).map(sq).toArrayList();
+        eq(0, sq.calls, "take 0");
+
+        //  Pipeline xsĂ悢 mapi ̓YsƂ0
+        final Pipeline<Integer> q = Pipeline.from(xs).filter(ODD).mapi(PLUS_INDEX).take(5);
+        eq(q.toArrayList(), q.toArrayList(), "rerun");
+        final List<Integer> seen = new ArrayList<Integer>();
+        q.forEach(new Consumer<Integer>() {
+            @Override
+            public void accept(final Integer a) {
+                seen.add(a);
+            }
+        });
+        eq(q.toArrayList(), seen, "forEach");
+        eq(q.toArrayList(), q.into(new ArrayList<Integer>()), "into");
+
+        System.out.println("TestPipeline OK");
+    }
+}
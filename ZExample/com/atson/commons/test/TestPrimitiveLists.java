@@ -0,0 +1,147 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+import static com.atson.commons.test.Check.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import com.atson.commons.collection.DoubleList;
+import com.atson.commons.collection.IntList;
+import com.atson.commons.collection.LongList;
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.FP.IntFun;
+import com.atson.commons.lang.FP.IntOp;
+import com.atson.commons.lang.FP.IntOp2;
+import com.atson.commons.lang.FP.ToIntFun;
+import com.atson.commons.lang.FP.ToLongFun;
+
+public class TestPrimitiveLists {
+
+    static final ToIntFun<String> LENGTH = new ToIntFun<String>() {
+        @Override
+        public int app(final String s) {
+            return s.length();
+        }
+    };
+
+    public static void main(final String[] args) {
+        final Random r = new Random(1);
+        final int[] xs = new int[1000];
+        final ArrayList<Integer> boxed = new ArrayList<Integer>();
+        final IntList il = new IntList();
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = r.nextInt(2000) - 1000;
+            boxed.add(xs[i]);
+            il.add(xs[i]);
+        }
+        eq(IntList.of(xs), il, "of");
+        eq(IntList.of(xs).hashCode(), il.hashCode(), "hashCode");
+        eq(boxed.hashCode(), il.hashCode(), "hashCode same as List");
+        eq(boxed.toString(), il.toString(), "toString");
+
+        // ArrayList<Integer> Ɠ
+        long sum = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        final ArrayList<Integer> evens = new ArrayList<Integer>();
+        for (int x : xs) {
+            sum += x;
+            min = Math.min(min, x);
+            max = Math.max(max, x);
+            if (x % 2 == 0) {
+                evens.add(x * 3);
+            }
+        }
+        eq(sum, il.sum(), "sum");
+        eq(min, il.min(), "min");
+        eq(max, il.max(), "max");
+        eq(sum, (long) il.foldl(new IntOp2() {
+            @Override
+            public int app(final int a, final int b) {
+                return a + b;
+            }
+        }, 0), "foldl");
+        final IntList mapped = il.filter(new IntFun<Boolean>() {
+            @Override
+            public Boolean app(final int x) {
+                return x % 2 == 0;
+            }
+        }).map(new IntOp() {
+            @Override
+            public int app(final int x) {
+                return x * 3;
+            }
+        });
+        eq(evens.toString(), mapped.toString(), "filter map");
+        eq(evens, mapped.mapToObj(new IntFun<Integer>() {
+            @Override
+            public Integer app(final int x) {
+                return x;
+            }
+        }), "mapToObj");
+
+        final int[] sorted = xs.clone();
+        Arrays.sort(sorted);
+        il.sort();
+        check(Arrays.equals(sorted, il.toArray()), "sort");
+        for (int x = -1001; x <= 1001; x += 7) {
+            final int i = il.binarySearch(x);
+            check(Arrays.binarySearch(sorted, x) >= 0 ? il.get(i) == x : i == Arrays.binarySearch(sorted, x),
+                    "binarySearch " + x);
+            eq(boxed.contains(x), il.contains(x), "contains " + x);
+        }
+
+        // a͌ӂꂵȂ
+        eq(3L * Integer.MAX_VALUE, IntList.of(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE).sum(), "sum overflow");
+        final IntList self = IntList.of(1, 2, 3);
+        self.addAll(self);
+        eq(IntList.of(1, 2, 3, 1, 2, 3), self, "addAll self");
+        eq(2, self.set(1, 9), "set");
+        eq(9, self.get(1), "get");
+        Check.throwsEx(IndexOutOfBoundsException.class, new Runnable() {
+            @Override
+            public void run() {
+                self.get(6);
+            }
+        }, "get out of range");
+        Check.throwsEx(NoSuchElementException.class, new Runnable() {
+            @Override
+            public void run() {
+                new IntList().min();
+            }
+        }, "min empty");
+
+        final LongList ll = LongList.of(Long.MAX_VALUE, -1L, 5L);
+        eq(Long.MAX_VALUE, ll.max(), "long max");
+        eq(-1L, ll.min(), "long min");
+        eq(list(Long.MAX_VALUE, -1L, 5L).hashCode(), ll.hashCode(), "long hashCode");
+
+        // vf̔r Double.equals Ɠ
+        eq(DoubleList.of(Double.NaN, 1.0), DoubleList.of(Double.NaN, 1.0), "NaN equals");
+        check(!DoubleList.of(0.0).equals(DoubleList.of(-0.0)), "-0.0 not equals");
+        eq(list(Double.NaN, -0.0).hashCode(), DoubleList.of(Double.NaN, -0.0).hashCode(), "double hashCode");
+        check(DoubleList.of(1.5, Double.NaN).contains(Double.NaN), "contains NaN");
+        eq(DoubleList.of(-1.0, 0.5, 2.0), DoubleList.of(2.0, -1.0, 0.5).sort(), "double sort");
+
+        // 傫̃L[̗͐vf
+        final List<String> words = list("bb", "a", "cc", "d");
+        eq("bb", FP.maximumByInt(LENGTH, words), "maximumByInt");
+        eq("a", FP.minimumByInt(LENGTH, words), "minimumByInt");
+        eq(null, FP.maximumByInt(LENGTH, new ArrayList<String>()), "maximumByInt empty");
+        eq("d", FP.maximumByLong(new ToLongFun<String>() {
+            @Override
+            public long app(final String s) {
+                return s.charAt(0);
+            }
+        }, words), "maximumByLong");
+        eq(IntList.of(2, 1, 2, 1), FP.mapToInt(LENGTH, words), "mapToInt");
+        eq(-42, FP.readIntValue().app("-42"), "readIntValue");
+
+        System.out.println("TestPrimitiveLists OK");
+    }
+}
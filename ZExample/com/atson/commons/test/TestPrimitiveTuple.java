@@ -0,0 +1,125 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+import static com.atson.commons.test.Check.list;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.IntIntObj;
+import com.atson.commons.lang.IntObj;
+import com.atson.commons.lang.LongDouble;
+import com.atson.commons.lang.LongLong;
+import com.atson.commons.lang.Pair;
+import com.atson.commons.sql.Accessors;
+import com.atson.commons.sql.JdbcFP;
+import com.atson.commons.sql.SQLRuntimeException;
+
+public class TestPrimitiveTuple {
+
+    static final String[] LABELS = { "A", "B", "C" };
+
+    /**
+     * row  ResultSet  c œǂ
+     */
+    static <T> T read(final Accessors.Composer<T> c, final Object... row) throws SQLException {
+        final ResultSet rs = FakeJdbc.resultSet(LABELS, new Object[][] { row });
+        check(rs.next(), "next");
+        return c.create(rs, 1);
+    }
+
+    /**
+     * null ̗ǂނ SQLException ɂȂ邱 getInt Ȃǂ 0 ԂȂ
+     */
+    static void nullColumn(final Accessors.Composer<?> c, final String what, final Object... row) {
+        try {
+            read(c, row);
+        } catch (SQLException e) {
+            return;
+        }
+        throw new AssertionError(what + ": expected SQLException");
+    }
+
+    static void equalsContract(final Object x, final Object same, final Object other, final String what) {
+        eq(x, same, what + " equals");
+        eq(same, x, what + " equals symmetric");
+        eq(x.hashCode(), same.hashCode(), what + " hashCode");
+        check(!x.equals(other) && !other.equals(x), what + " not equals");
+        check(!x.equals(null), what + " null");
+        final HashSet<Object> set = new HashSet<Object>(list(x, same, other));
+        eq(2, set.size(), what + " HashSet");
+    }
+
+    public static void main(final String[] args) throws Exception {
+        //  equals, hashCode, toString  boxing  T2/T3 Ɠl
+        final IntObj<String> io = IntObj.of(-7, "x");
+        eq(-7, io.fstInt(), "fstInt");
+        eq(-7, io.fst(), "IntObj fst");
+        eq("x", io.snd(), "IntObj snd");
+        eq(Pair.of(-7, "x").toString(), io.toString(), "IntObj toString");
+        eq(Pair.of(-7, "x").hashCode(), io.hashCode(), "IntObj hashCode same as Pair");
+        eq(-7, FP.<Integer, String> fst().app(io), "FP.fst");
+        equalsContract(io, IntObj.of(-7, "x"), IntObj.of(-7, "y"), "IntObj");
+        equalsContract(IntObj.of(1, null), IntObj.of(1, null), IntObj.of(2, null), "IntObj null");
+
+        final IntIntObj<String> iio = IntIntObj.of(1, 2, "z");
+        eq(1, iio.fstInt(), "IntIntObj fstInt");
+        eq(2, iio.sndInt(), "IntIntObj sndInt");
+        eq("z", iio.trd(), "IntIntObj trd");
+        eq(FP.t3(1, 2, "z"), iio.toT3(), "toT3");
+        eq(FP.t3(1, 2, "z").toString(), iio.toString(), "IntIntObj toString");
+        equalsContract(iio, IntIntObj.of(1, 2, "z"), IntIntObj.of(2, 1, "z"), "IntIntObj");
+
+        final LongLong ll = LongLong.of(Long.MAX_VALUE, -1L);
+        eq(Long.MAX_VALUE, ll.fstLong(), "fstLong");
+        eq(-1L, ll.sndLong(), "sndLong");
+        eq(Pair.of(Long.MAX_VALUE, -1L).toString(), ll.toString(), "LongLong toString");
+        equalsContract(ll, LongLong.of(Long.MAX_VALUE, -1L), LongLong.of(-1L, Long.MAX_VALUE), "LongLong");
+
+        // double  Double.equals Ɠׂ
+        final LongDouble ld = LongDouble.of(3L, 0.5);
+        eq(3L, ld.fstLong(), "LongDouble fstLong");
+        eq(0.5, ld.sndDouble(), "sndDouble");
+        eq(0.5, ld.snd(), "LongDouble snd");
+        equalsContract(ld, LongDouble.of(3L, 0.5), LongDouble.of(3L, 0.25), "LongDouble");
+        equalsContract(LongDouble.of(1L, Double.NaN), LongDouble.of(1L, Double.NaN), LongDouble.of(1L, 0.0),
+                "LongDouble NaN");
+        check(!LongDouble.of(1L, 0.0).equals(LongDouble.of(1L, -0.0)), "LongDouble -0.0");
+
+        // Composer ͗ boxing ɓǂ݁Anull ̗ SQLException
+        final Accessors.Composer<String> s = JdbcFP.composer(String.class);
+        eq(IntObj.of(5, "a"), read(JdbcFP.intObjComposer(s), 5, "a", null), "intObjComposer");
+        eq(IntObj.of(0, "a"), read(JdbcFP.intObjComposer(s), 0, "a", null), "intObjComposer zero");
+        eq(IntObj.of(5, null), read(JdbcFP.intObjComposer(s), 5, null, null), "intObjComposer null snd");
+        eq(2, JdbcFP.intObjComposer(s).width(), "intObjComposer width");
+        eq(IntIntObj.of(5, 6, "a"), read(JdbcFP.intIntObjComposer(s), 5, 6, "a"), "intIntObjComposer");
+        eq(3, JdbcFP.intIntObjComposer(s).width(), "intIntObjComposer width");
+        eq(LongLong.of(1L << 40, 2L), read(JdbcFP.longLongComposer(), 1L << 40, 2L, null), "longLongComposer");
+        eq(LongDouble.of(1L, 2.5), read(JdbcFP.longDoubleComposer(), 1L, 2.5, null), "longDoubleComposer");
+        eq(2, JdbcFP.longDoubleComposer().width(), "longDoubleComposer width");
+
+        nullColumn(JdbcFP.intObjComposer(s), "intObjComposer null", null, "a", null);
+        nullColumn(JdbcFP.intIntObjComposer(s), "intIntObjComposer null fst", null, 6, "a");
+        nullColumn(JdbcFP.intIntObjComposer(s), "intIntObjComposer null snd", 5, null, "a");
+        nullColumn(JdbcFP.longLongComposer(), "longLongComposer null fst", null, 2L, null);
+        nullColumn(JdbcFP.longLongComposer(), "longLongComposer null snd", 1L, null, null);
+        nullColumn(JdbcFP.longDoubleComposer(), "longDoubleComposer null fst", null, 2.5, null);
+        nullColumn(JdbcFP.longDoubleComposer(), "longDoubleComposer null snd", 1L, null, null);
+
+        // DataReader œǂނƎsOɂȂ
+        eq(list(LongLong.of(1L, 2L), LongLong.of(3L, 4L)), Check.readAll(JdbcFP.dataReader(JdbcFP.longLongComposer(),
+                FakeJdbc.statement(LABELS, new Object[][] { { 1L, 2L, null }, { 3L, 4L, null } }))), "dataReader");
+        Check.throwsEx(SQLRuntimeException.class, new Runnable() {
+            @Override
+            public void run() {
+                Check.readAll(JdbcFP.dataReader(JdbcFP.longLongComposer(),
+                        FakeJdbc.statement(LABELS, new Object[][] { { 1L, 2L, null }, { 3L, null, null } })));
+            }
+        }, "dataReader null");
+
+        System.out.println("TestPrimitiveTuple OK");
+    }
+}
@@ -0,0 +1,166 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+import static com.atson.commons.test.Check.list;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.atson.commons.lang.FP.EConsumer;
+import com.atson.commons.sql.Accessors;
+import com.atson.commons.sql.Data;
+import com.atson.commons.sql.Data.Maybe;
+import com.atson.commons.sql.JdbcFP;
+import com.atson.commons.sql.Read;
+import com.atson.commons.sql.Readers;
+
+public class TestRead {
+
+    /**
+     * Cursor łȂ RecordReader read() ̉񐔂 close ꂽ𐔂
+     */
+    static final class PlainReader implements Read.RecordReader<String> {
+        private final Iterator<String> it;
+        int reads = 0;
+        boolean closed = false;
+
+        PlainReader(final List<String> xs) {
+            this.it = xs.iterator();
+        }
+
+        @Override
+        public Maybe<String> read() {
+            this.reads++;
+            return this.it.hasNext() ? Data.just(this.it.next()) : Data.<String>nothing();
+        }
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+    }
+
+    static final Accessors.Creator<String> FIRST = new Accessors.Creator<String>() {
+        @Override
+        public String create(final ResultSet rs, final int startColumn) throws SQLException {
+            return rs.getString(startColumn);
+        }
+    };
+
+    static JdbcFP.ResultSetReader<String> rsReader(final String... xs) {
+        final Object[][] rows = new Object[xs.length][];
+        for (int i = 0; i < xs.length; i++) {
+            rows[i] = new Object[] { xs[i] };
+        }
+        return new JdbcFP.ResultSetReader<String>(FIRST, FakeJdbc.resultSet(new String[] { "S" }, rows)) {
+        };
+    }
+
+    static List<String> drain(final Read.Cursor<String> c) throws Exception {
+        final ArrayList<String> rv = new ArrayList<String>();
+        while (c.advance()) {
+            rv.add(c.current());
+        }
+        return rv;
+    }
+
+    static String show(final Maybe<?> m) {
+        return m.isJust() ? "Just " + m.fromJust() : "Nothing";
+    }
+
+    static void currentFails(final Read.Cursor<?> c, final String what) {
+        Check.throwsEx(NoSuchElementException.class, new Runnable() {
+            @Override
+            public void run() {
+                c.current();
+            }
+        }, what);
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final List<String> xs = list("a", null, "c");
+
+        // RecordReader  Cursor ɂĂf[^ǂ݁AMaybe  read() ƍĂ悢
+        final PlainReader plain = new PlainReader(xs);
+        final Read.Cursor<String> c = Read.cursor(plain);
+        currentFails(c, "current before advance");
+        check(c.advance(), "advance 1");
+        eq("a", c.current(), "current 1");
+        eq("a", c.current(), "current repeat");
+        eq("Just null", show(c.read()), "read mixed");
+        check(c.advance(), "advance 3");
+        eq("c", c.current(), "current 3");
+        check(!c.advance(), "advance end");
+        currentFails(c, "current after end");
+        eq("Nothing", show(c.read()), "read after end");
+        c.close();
+        check(plain.closed, "cursor closes reader");
+
+        final JdbcFP.ResultSetReader<String> rs = rsReader("a", null, "c");
+        check(Read.cursor(rs) == rs, "ResultSetReader is a Cursor");
+        eq(xs, drain(rs), "ResultSetReader advance");
+        currentFails(rs, "ResultSetReader current after end");
+        eq("Just x", show(rsReader("x").read()), "ResultSetReader read");
+        eq("Nothing", show(rsReader().read()), "ResultSetReader read empty");
+        check((Object) Data.<String>nothing() == Data.<Integer>nothing(), "nothing shared");
+
+        // PushbackReader  unread ̋tɓǂ݁Apeek ͓ǂݐi߂Ȃ
+        final Read.PushbackReader<String> pb = Read.PushbackReader.wrap(new PlainReader(list("a", "b", "c")));
+        check(Read.PushbackReader.wrap(null) == null, "wrap null");
+        eq("Just a", show(pb.peek()), "peek");
+        check(pb.peekAdvance(), "peekAdvance");
+        eq("a", pb.current(), "peekAdvance current");
+        check(pb.advance(), "advance after peek");
+        eq("a", pb.current(), "advance after peek current");
+        pb.unread("y");
+        pb.unread("x");
+        eq(list("x", "y", "b", "c"), drain(pb), "unread order");
+        check(!pb.peekAdvance(), "peekAdvance end");
+        eq("Nothing", show(pb.peek()), "peek end");
+
+        // ϊ͌̏ۂAnull ̃f[^1ƂĐ
+        final ArrayList<String> got = new ArrayList<String>();
+        final PlainReader counted = new PlainReader(xs);
+        eq(3, Read.readInto(counted, new EConsumer<String, RuntimeException>() {
+            @Override
+            public void accept(final String s) {
+                got.add(s);
+            }
+        }), "readInto count");
+        eq(xs, got, "readInto");
+        check(!counted.closed, "readInto does not close");
+        eq(4, counted.reads, "readInto reads");
+
+        final ArrayList<String> each = new ArrayList<String>();
+        final PlainReader er = new PlainReader(list("p", "q"));
+        for (String s : Read.each(er)) {
+            each.add(s);
+        }
+        eq(list("p", "q"), each, "each");
+        check(!er.closed, "each does not close");
+        final Iterator<String> it = Read.each(rsReader("r")).iterator();
+        check(it.hasNext(), "hasNext");
+        check(it.hasNext(), "hasNext twice");
+        eq("r", it.next(), "next");
+        check(!it.hasNext(), "hasNext end");
+        Check.throwsEx(NoSuchElementException.class, new Runnable() {
+            @Override
+            public void run() {
+                it.next();
+            }
+        }, "next end");
+
+        // DataReader  null ŏI[\̂ null ̃f[^̎OŏI
+        final PlainReader dr = new PlainReader(list("d", "e"));
+        eq(list("d", "e"), Check.readAll(Readers.fromRecordReader(dr)), "fromRecordReader");
+        check(dr.closed, "fromRecordReader closes");
+        eq(list("a"), Check.readAll(Readers.fromRecordReader(rsReader("a", null, "c"))), "fromRecordReader null");
+
+        System.out.println("TestRead OK");
+    }
+}
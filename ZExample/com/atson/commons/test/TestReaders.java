@@ -0,0 +1,143 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+import static com.atson.commons.test.Check.list;
+import static com.atson.commons.test.Check.readAll;
+import static com.atson.commons.test.Check.reader;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.FP.Fun;
+import com.atson.commons.lang.FP.T2;
+import com.atson.commons.sql.Data;
+import com.atson.commons.sql.Data.Maybe;
+import com.atson.commons.sql.DataReader;
+import com.atson.commons.sql.Readers;
+
+public class TestReaders {
+
+    static final Comparator<Integer> INT_ORDER = new Comparator<Integer>() {
+        @Override
+        public int compare(final Integer a, final Integer b) {
+            return a.compareTo(b);
+        }
+    };
+
+    static final Fun<T2<Integer, String>, Integer> KEY = FP.<Integer, String>fst();
+
+    static T2<Integer, String> row(final int k, final String v) {
+        return FP.t2(k, v);
+    }
+
+    static String show(final Object o) {
+        if (o instanceof T2<?, ?>) {
+            final T2<?, ?> t = (T2<?, ?>) o;
+            return "(" + show(t.fst()) + "," + show(t.snd()) + ")";
+        }
+        if (o instanceof Maybe<?>) {
+            final Maybe<?> m = (Maybe<?>) o;
+            return m.isJust() ? show(m.fromJust()) : "-";
+        }
+        if (o instanceof List<?>) {
+            final StringBuilder sb = new StringBuilder("[");
+            for (Object x : (List<?>) o) {
+                sb.append(sb.length() > 1 ? " " : "").append(show(x));
+            }
+            return sb.append("]").toString();
+        }
+        return String.valueOf(o);
+    }
+
+    static <T> String showAll(final DataReader<T> reader) {
+        return show(readAll(reader));
+    }
+
+    static List<T2<Integer, String>> left() {
+        return list(row(1, "a"), row(2, "b"), row(2, "c"), row(4, "d"));
+    }
+
+    static List<T2<Integer, String>> right() {
+        return list(row(2, "x"), row(2, "y"), row(3, "z"), row(4, "w"));
+    }
+
+    static void joins() {
+        final String inner = "[((2,b),(2,x)) ((2,b),(2,y)) ((2,c),(2,x)) ((2,c),(2,y)) ((4,d),(4,w))]";
+        eq(inner, showAll(Readers.mergeJoin(INT_ORDER, KEY, KEY, reader(left()), reader(right()))), "mergeJoin");
+        eq(inner, showAll(Readers.hashJoin(KEY, KEY, reader(left()), reader(right()))), "hashJoin");
+
+        final String leftOuter = "[((1,a),-) ((2,b),(2,x)) ((2,b),(2,y)) ((2,c),(2,x)) ((2,c),(2,y)) ((4,d),(4,w))]";
+        eq(leftOuter, showAll(Readers.leftMergeJoin(INT_ORDER, KEY, KEY, reader(left()), reader(right()))),
+                "leftMergeJoin");
+        eq(leftOuter, showAll(Readers.leftHashJoin(KEY, KEY, reader(left()), reader(right()))), "leftHashJoin");
+
+        // }[W̓L[AnbV build ̎cŌɕԂ
+        eq("[((1,a),-) ((2,b),(2,x)) ((2,b),(2,y)) ((2,c),(2,x)) ((2,c),(2,y)) (-,(3,z)) ((4,d),(4,w))]",
+                showAll(Readers.fullMergeJoin(INT_ORDER, KEY, KEY, reader(left()), reader(right()))),
+                "fullMergeJoin");
+        eq("[((1,a),-) ((2,b),(2,x)) ((2,b),(2,y)) ((2,c),(2,x)) ((2,c),(2,y)) ((4,d),(4,w)) (-,(3,z))]",
+                showAll(Readers.fullHashJoin(KEY, KEY, reader(left()), reader(right()))),
+                "fullHashJoin");
+
+        eq("[]", showAll(Readers.mergeJoin(INT_ORDER, KEY, KEY,
+                reader(new ArrayList<T2<Integer, String>>()), reader(right()))), "mergeJoin empty");
+
+        // łȂ
+        Check.throwsEx(IllegalStateException.class, new Runnable() {
+            @Override
+            public void run() {
+                readAll(Readers.mergeJoin(INT_ORDER, KEY, KEY,
+                        reader(list(row(2, "a"), row(1, "b"))), reader(right())));
+            }
+        }, "mergeJoin unsorted");
+
+        // close ͗̓͂ close 
+        final Check.ListReader<T2<Integer, String>> as = reader(left());
+        final Check.ListReader<T2<Integer, String>> bs = reader(right());
+        Readers.hashJoin(KEY, KEY, as, bs).close();
+        check(as.closed && bs.closed, "hashJoin close");
+    }
+
+    /**
+     * 1ȉȂ瓙 ړIłȂ
+     */
+    static final FP.Eq<Integer> NEAR = new FP.Eq<Integer>() {
+        @Override
+        public boolean eq(final Integer a, final Integer b) {
+            return Math.abs(a - b) <= 1;
+        }
+    };
+
+    static void groups() {
+        final List<Integer> xs = list(1, 2, 3, 5, 5, 7);
+        // O̗vfƔׂ groupBy ƓO[vɂȂ邱
+        final String expected = show(FP.ArrayListJ.groupBy(NEAR, xs));
+        eq("[[1 2 3] [5 5] [7]]", expected, "ArrayListJ.groupBy");
+        eq(expected, showAll(Readers.groupBy(NEAR, reader(xs))), "Readers.groupBy");
+
+        final ArrayList<T2<Integer, String>> kvs = new ArrayList<T2<Integer, String>>();
+        for (Integer x : xs) {
+            kvs.add(row(x, "v" + x));
+        }
+        eq("[(1,[v1 v2 v3]) (5,[v5 v5]) (7,[v7])]", showAll(Readers.groupByFst(NEAR, reader(kvs))),
+                "Readers.groupByFst");
+
+        final ArrayList<T2<Integer, Integer>> counts = new ArrayList<T2<Integer, Integer>>();
+        for (Integer x : xs) {
+            counts.add(FP.t2(x, 1));
+        }
+        eq("[(1,3) (5,2) (7,1)]", showAll(Readers.foldByFst(NEAR, Data.intSumMonoid, reader(counts))),
+                "Readers.foldByFst");
+
+        eq("[]", showAll(Readers.groupBy(NEAR, Check.<Integer>reader())), "groupBy empty");
+    }
+
+    public static void main(final String[] args) {
+        joins();
+        groups();
+        System.out.println("TestReaders OK");
+    }
+}
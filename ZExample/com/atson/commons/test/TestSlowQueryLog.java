@@ -0,0 +1,105 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+import static com.atson.commons.test.Check.readAll;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.FP.Unit;
+import com.atson.commons.sql.DataReader;
+import com.atson.commons.sql.JdbcFP;
+import com.atson.commons.sql.SlowQueryLog;
+
+public class TestSlowQueryLog {
+
+    static final String[] LABELS = { "ID" };
+    static final Object[][] ROWS = { { 1 }, { 2 }, { 3 } };
+
+    static JdbcFP.Query<Integer> query(final String sql) {
+        return JdbcFP.query(sql, JdbcFP.creator(Integer.class), new JdbcFP.QFun<PreparedStatement, Unit>() {
+            @Override
+            public Unit app(final PreparedStatement stmt) throws SQLException {
+                // hCõNX unwrap œ
+                check(stmt.isWrapperFor(PreparedStatement.class), "isWrapperFor");
+                check(stmt.unwrap(PreparedStatement.class) != null, "unwrap");
+                stmt.setInt(1, 10);
+                stmt.setString(2, "x");
+                return FP.UNIT;
+            }
+        });
+    }
+
+    /**
+     * 1sǂނƂ sleepMillis ҂đSǂ
+     */
+    static void run(final Connection conn, final String sql, final long sleepMillis) throws Exception {
+        final DataReader<Integer> r = JdbcFP.dataReader(conn, query(sql));
+        try {
+            while (r.read() != null) {
+                Thread.sleep(sleepMillis);
+            }
+        } finally {
+            r.close();
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Connection conn = FakeJdbc.connection(LABELS, ROWS);
+        try {
+            // NX̓ǂݍ݂Ȃǂōŏ̃NGxȂȂ悤1xsĂ
+            JdbcFP.setSlowQueryLog(new SlowQueryLog(0, 0.0, 1));
+            run(conn, "SELECT ID FROM T", 0);
+
+            // ǂޑx̃NG͒xNGƂċL^Ȃ
+            final SlowQueryLog log = new SlowQueryLog(200, 0.0, 10);
+            JdbcFP.setSlowQueryLog(log);
+            run(conn, "SELECT ID FROM T", 150);
+            eq(0, log.recent().size(), "slow consumer");
+
+            final SlowQueryLog all = new SlowQueryLog(0, 0.0, 10);
+            JdbcFP.setSlowQueryLog(all);
+            eq(3, readAll(JdbcFP.dataReader(conn, query("SELECT ID FROM T"))).size(), "rows read");
+            final List<SlowQueryLog.Entry> es = all.recent();
+            eq(1, es.size(), "recorded");
+            final SlowQueryLog.Entry e = es.get(0);
+            check(e.isSlow(), "slow");
+            eq(3, e.getRows(), "rows");
+            eq(Check.<Object>list(10, "x"), e.getParams(), "params");
+            check(e.getDbNanos() <= e.getTotalNanos(), "db <= total");
+
+            // [e[g UTF-8 ̃oCg maxBytes 𒴂Ȃ
+            final File f = File.createTempFile("slowquery", ".log");
+            try {
+                final long maxBytes = 600;
+                all.rolling(f, maxBytes, 2);
+                for (int i = 0; i < 10; i++) {
+                    run(conn, "SELECT ID FROM X܃}X^ WHERE Xܖ = ? AND n = ? -- Xܖƒnōi荞ށB{ SQL 1 UTF-8 3oCgɂȂ", 0);
+                }
+                all.close();
+                for (String name : new String[] { f.getPath(), f.getPath() + ".1", f.getPath() + ".2" }) {
+                    final File g = new File(name);
+                    check(g.exists(), "rolled " + name);
+                    check(g.length() <= maxBytes, name + " is " + g.length() + " bytes");
+                }
+            } finally {
+                delete(f);
+            }
+        } finally {
+            JdbcFP.setSlowQueryLog(null);
+        }
+        System.out.println("TestSlowQueryLog OK");
+    }
+
+    static void delete(final File f) throws IOException {
+        f.delete();
+        new File(f.getPath() + ".1").delete();
+        new File(f.getPath() + ".2").delete();
+    }
+}
@@ -0,0 +1,108 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+import static com.atson.commons.test.Check.list;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import com.atson.commons.collection.IntList;
+import com.atson.commons.collection.TopKHeap;
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.ParFP;
+import com.atson.commons.sql.Readers;
+
+public class TestTopK {
+
+    /**
+     * 擪̕Ŕׂ vf
+     */
+    static final Comparator<String> BY_HEAD = new Comparator<String>() {
+        @Override
+        public int compare(final String a, final String b) {
+            return Character.compare(a.charAt(0), b.charAt(0));
+        }
+    };
+
+    static final Comparator<String> REVERSED = Collections.reverseOrder(BY_HEAD);
+
+    /**
+     * ȕבւ̐擪 k 
+     */
+    static List<String> expected(final List<String> xs, final Comparator<String> c, final int k) {
+        final ArrayList<String> sorted = new ArrayList<String>(xs);
+        Collections.sort(sorted, c);
+        return new ArrayList<String>(sorted.subList(0, Math.min(k, sorted.size())));
+    }
+
+    static IntList indices(final List<String> xs, final List<String> picked) {
+        final IntList rv = new IntList();
+        for (String s : picked) {
+            rv.add(xs.indexOf(s));
+        }
+        return rv;
+    }
+
+    public static void main(final String[] args) {
+        final Random r = new Random(3);
+        for (int n : new int[] { 0, 1, 5, 100, 20000 }) {
+            final ArrayList<String> xs = new ArrayList<String>();
+            for (int i = 0; i < n; i++) {
+                xs.add((char) ('a' + r.nextInt(4)) + "" + i);
+            }
+            for (int k : new int[] { 0, 1, 3, 50, 30000 }) {
+                final String what = " n=" + n + " k=" + k;
+                // vf͐Ɍꂽ
+                final List<String> top = expected(xs, REVERSED, k);
+                final List<String> bottom = expected(xs, BY_HEAD, k);
+                eq(top, FP.topK(k, BY_HEAD, xs), "FP.topK" + what);
+                eq(bottom, FP.bottomK(k, BY_HEAD, new LinkedList<String>(xs)), "FP.bottomK" + what);
+                eq(indices(xs, top), FP.topKIndices(k, BY_HEAD, xs), "FP.topKIndices" + what);
+                eq(indices(xs, bottom), FP.bottomKIndices(k, BY_HEAD, xs), "FP.bottomKIndices" + what);
+                eq(top, ParFP.topK(k, BY_HEAD, xs), "ParFP.topK" + what);
+                eq(bottom, ParFP.bottomK(k, BY_HEAD, xs), "ParFP.bottomK" + what);
+                eq(indices(xs, top), ParFP.topKIndices(k, BY_HEAD, xs), "ParFP.topKIndices" + what);
+                eq(indices(xs, bottom), ParFP.bottomKIndices(k, BY_HEAD, xs), "ParFP.bottomKIndices" + what);
+                eq(top, Readers.topK(k, BY_HEAD, Check.reader(xs)), "Readers.topK" + what);
+                eq(bottom, Readers.bottomK(k, BY_HEAD, Check.reader(xs)), "Readers.bottomK" + what);
+            }
+        }
+
+        // Y int 𒴂ĂɌꂽc
+        final long big = Integer.MAX_VALUE;
+        final TopKHeap<String> h = TopKHeap.top(2, BY_HEAD);
+        h.offer("a1", big - 1);
+        h.offer("a2", big);
+        h.offer("a3", big + 1);
+        h.offer("a4", 3 * big);
+        eq(list("a1", "a2"), h.toList(), "long indices");
+        final TopKHeap<String> late = TopKHeap.top(1, BY_HEAD);
+        late.offer("z", big + 1);
+        late.offer("z2", big + 2);
+        eq(list("z"), late.toList(), "long indices past int");
+        Check.throwsEx(ArithmeticException.class, new Runnable() {
+            @Override
+            public void run() {
+                late.toIndices();
+            }
+        }, "toIndices overflow");
+
+        // merge  offer Ƃ̓YŔׂ
+        final TopKHeap<String> left = TopKHeap.bottom(2, BY_HEAD);
+        final TopKHeap<String> right = TopKHeap.bottom(2, BY_HEAD);
+        right.offer("b9", 9);
+        right.offer("a8", 8);
+        left.offer("a5", 5);
+        left.offer("c1", 1);
+        eq(list("a5", "a8"), left.merge(right).toList(), "merge");
+        eq(IntList.of(5, 8), left.toIndices(), "merge indices");
+        check(!TopKHeap.top(0, BY_HEAD).offer("a", 0), "k=0");
+
+        System.out.println("TestTopK OK");
+    }
+}
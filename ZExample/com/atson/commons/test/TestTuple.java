@@ -0,0 +1,117 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+
+import java.sql.ResultSet;
+import java.util.HashSet;
+
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.FP.T8;
+import com.atson.commons.sql.Accessors;
+import com.atson.commons.sql.JdbcFP;
+
+public class TestTuple {
+
+    /**
+     * v ̐擪 n Ȃ Tn
+     */
+    static Object tuple(final int n, final Object[] v) {
+        switch (n) {
+        case 3: return FP.t3(v[0], v[1], v[2]);
+        case 4: return FP.t4(v[0], v[1], v[2], v[3]);
+        case 5: return FP.t5(v[0], v[1], v[2], v[3], v[4]);
+        case 6: return FP.t6(v[0], v[1], v[2], v[3], v[4], v[5]);
+        case 7: return FP.t7(v[0], v[1], v[2], v[3], v[4], v[5], v[6]);
+        case 8: return FP.t8(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7]);
+        default: throw new IllegalArgumentException("n=" + n);
+        }
+    }
+
+    static String show(final int n, final Object[] v) {
+        final StringBuilder b = new StringBuilder("(");
+        for (int i = 0; i < n; i++) {
+            b.append(i == 0 ? "" : ",").append(v[i]);
+        }
+        return b.append(")").toString();
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Object[] v = { "a", 1, 2L, 'c', null, 1.5, "g", Boolean.TRUE };
+        for (int n = 3; n <= 8; n++) {
+            final String what = " T" + n;
+            final Object t = tuple(n, v);
+            final Object same = tuple(n, v.clone());
+            // ׂēΓAnbVl null ׂ̐
+            eq(t, same, "equals" + what);
+            eq(t.hashCode(), same.hashCode(), "hashCode" + what);
+            check(t.equals(t), "reflexive" + what);
+            check(!t.equals(null), "null" + what);
+            check(!t.equals(FP.t2(v[0], v[1])), "other type" + what);
+            check(!t.equals(tuple(n == 3 ? 4 : 3, v)), "other arity" + what);
+            eq(show(n, v), t.toString(), "toString" + what);
+
+            // 1łႦΓȂ
+            for (int i = 0; i < n; i++) {
+                final Object[] w = v.clone();
+                w[i] = v[i] == null ? "x" : null;
+                check(!t.equals(tuple(n, w)), "differs at " + i + what);
+                check(!tuple(n, w).equals(t), "differs at " + i + " symmetric" + what);
+                final Object[] u = v.clone();
+                u[i] = "u" + i;
+                check(!t.equals(tuple(n, u)), "differs at " + i + " value" + what);
+            }
+
+            // HashSet ̃L[Ɏg
+            final HashSet<Object> set = new HashSet<Object>();
+            set.add(t);
+            set.add(same);
+            eq(1, set.size(), "HashSet" + what);
+            check(set.contains(tuple(n, v)), "contains" + what);
+        }
+
+        // ̎o
+        final T8<String, Integer, Long, Character, Object, Double, String, Boolean> t8 =
+            FP.t8("a", 1, 2L, 'c', null, 1.5, "g", true);
+        eq("a", t8.fst(), "fst");
+        eq(1, t8.snd(), "snd");
+        eq(2L, t8.trd(), "trd");
+        eq('c', t8.fth(), "fth");
+        eq(null, t8.fifth(), "fifth");
+        eq(1.5, t8.sixth(), "sixth");
+        eq("g", t8.seventh(), "seventh");
+        eq(true, t8.eighth(), "eighth");
+
+        //  Composer  Creator ͓ Tn 
+        final String[] labels = { "C1", "C2", "C3", "C4", "C5", "C6", "C7", "C8", "C9" };
+        final Object[][] rows = { { "x", "a", 1, "b", "c", "d", "e", "f", "g" } };
+        final Accessors.Composer<String> s = JdbcFP.composer(String.class);
+        final Accessors.Composer<Integer> i = JdbcFP.composer(Integer.class);
+        final ResultSet rs = FakeJdbc.resultSet(labels, rows);
+        check(rs.next(), "next");
+        eq(FP.t3("a", 1, "b"), JdbcFP.t3Composer(s, i, s).create(rs, 2), "t3Composer");
+        eq(FP.t4("a", 1, "b", "c"), JdbcFP.t4Composer(s, i, s, s).create(rs, 2), "t4Composer");
+        eq(FP.t5("a", 1, "b", "c", "d"), JdbcFP.t5Composer(s, i, s, s, s).create(rs, 2), "t5Composer");
+        eq(FP.t6("a", 1, "b", "c", "d", "e"), JdbcFP.t6Composer(s, i, s, s, s, s).create(rs, 2), "t6Composer");
+        eq(FP.t7("a", 1, "b", "c", "d", "e", "f"), JdbcFP.t7Composer(s, i, s, s, s, s, s).create(rs, 2),
+                "t7Composer");
+        eq(FP.t8("a", 1, "b", "c", "d", "e", "f", "g"), JdbcFP.t8Composer(s, i, s, s, s, s, s, s).create(rs, 2),
+                "t8Composer");
+        eq(8, JdbcFP.t8Composer(s, i, s, s, s, s, s, s).width(), "t8Composer width");
+        eq(FP.t3("x", "a", 1), JdbcFP.t3Composer(s, s, i).create(rs, 1), "t3Composer offset");
+        eq(JdbcFP.t5Composer(s, i, s, s, s).create(rs, 2),
+                JdbcFP.t5Creator(String.class, Integer.class, String.class, String.class, String.class).create(rs, 2),
+                "t5Creator");
+        eq(JdbcFP.t6Composer(s, i, s, s, s, s).create(rs, 2),
+                JdbcFP.t6Creator(String.class, Integer.class, String.class, String.class, String.class,
+                        String.class).create(rs, 2), "t6Creator");
+        eq(JdbcFP.t7Composer(s, i, s, s, s, s, s).create(rs, 2),
+                JdbcFP.t7Creator(String.class, Integer.class, String.class, String.class, String.class,
+                        String.class, String.class).create(rs, 2), "t7Creator");
+        eq(JdbcFP.t8Composer(s, i, s, s, s, s, s, s).create(rs, 2),
+                JdbcFP.t8Creator(String.class, Integer.class, String.class, String.class, String.class,
+                        String.class, String.class, String.class).create(rs, 2), "t8Creator");
+
+        System.out.println("TestTuple OK");
+    }
+}
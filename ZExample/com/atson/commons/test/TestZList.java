@@ -0,0 +1,128 @@
+package com.atson.commons.test;
+
+import static com.atson.commons.test.Check.check;
+import static com.atson.commons.test.Check.eq;
+import static com.atson.commons.test.Check.list;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.atson.commons.lang.FP;
+import com.atson.commons.lang.FP.Eq;
+import com.atson.commons.lang.FP.Fun;
+import com.atson.commons.lang.FP.ZList;
+
+public class TestZList {
+
+    static final Eq<Integer> NEAR = new Eq<Integer>() {
+        @Override
+        public boolean eq(final Integer a, final Integer b) {
+            return Math.abs(a - b) <= 1;
+        }
+    };
+
+    static final Fun<Integer, Integer> INC = new Fun<Integer, Integer>() {
+        @Override
+        public Integer app(final Integer a) {
+            return a + 1;
+        }
+    };
+
+    static final Fun<Integer, Boolean> EVEN = new Fun<Integer, Boolean>() {
+        @Override
+        public Boolean app(final Integer a) {
+            return a % 2 == 0;
+        }
+    };
+
+    /**
+     * ǂ񂾗vf̐𐔂 Iterable
+     */
+    static final class Counting implements Iterable<Integer> {
+        final List<Integer> xs;
+        int read = 0;
+
+        Counting(final List<Integer> xs) {
+            this.xs = xs;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            final Iterator<Integer> it = this.xs.iterator();
+            return new Iterator<Integer>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Integer next() {
+                    Counting.this.read++;
+                    return it.next();
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+
+    public static void main(final String[] args) {
+        // O̗vfƔׂĂ܂Ƃ߂
+        final ZList<ArrayList<Integer>> groups = ZList.of(1, 2, 3, 5, 5, 7).groupBy(NEAR);
+        eq(list(list(1, 2, 3), list(5, 5), list(7)), groups.toArrayList(), "groupBy");
+        eq(FP.ArrayListJ.groupBy(NEAR, list(1, 2, 3, 5, 5, 7)).toString(), groups.toArrayList().toString(),
+                "groupBy same as ArrayListJ");
+        eq(list(), ZList.<Integer> nil().groupBy(NEAR).toArrayList(), "groupBy empty");
+
+        // Kvȕǂ
+        final Counting src = new Counting(list(1, 2, 3, 4, 5, 6));
+        final ZList<Integer> lazy = ZList.fromIterable(src).map(INC);
+        eq(0, src.read, "not read yet");
+        eq(list(2, 3), lazy.take(2).toArrayList(), "take");
+        eq(2, src.read, "read 2");
+        eq(list(2, 3, 4, 5, 6, 7), lazy.toArrayList(), "all");
+        eq(list(2, 3, 4, 5, 6, 7), lazy.toArrayList(), "again");
+        eq(6, src.read, "read once");
+
+        final ZList<Integer> nat = ZList.iterate(INC, 0);
+        eq(list(0, 2, 4), nat.filter(EVEN).take(3).toArrayList(), "filter infinite");
+        eq(list(5, 6), nat.drop(5).take(2).toArrayList(), "drop");
+        eq(list(0, 1, 2), nat.takeWhile(new Fun<Integer, Boolean>() {
+            @Override
+            public Boolean app(final Integer a) {
+                return a < 3;
+            }
+        }).toArrayList(), "takeWhile");
+        eq(FP.t2(2, "c"), nat.zip(ZList.of("a", "b", "c")).toArrayList().get(2), "zip");
+        eq(list(1, 2, 3), ZList.of(1).append(ZList.of(2, 3)).toArrayList(), "append");
+        final ZList<Integer> part = ZList.of(1, 2, 3).map(INC);
+        part.head();
+        eq("ZList[2, ...]", part.toString(), "toString partial");
+
+        // łċAȂ
+        final ArrayList<Integer> big = new ArrayList<Integer>();
+        for (int i = 0; i < 200000; i++) {
+            big.add(i);
+        }
+        eq(100000, ZList.fromIterable(big).filter(EVEN).toArrayList().size(), "long filter");
+
+        // ]͌̃XgێȂ
+        ZList<Integer> source = ZList.fromIterable(list(1, 2, 3));
+        final WeakReference<ZList<Integer>> ref = new WeakReference<ZList<Integer>>(source);
+        final ZList<Integer> mapped = source.map(INC);
+        source = null;
+        eq(list(2, 3, 4), mapped.toArrayList(), "mapped");
+        for (int i = 0; i < 20 && ref.get() != null; i++) {
+            System.gc();
+        }
+        check(ref.get() == null, "source released");
+        eq(list(2, 3, 4), mapped.toArrayList(), "mapped after gc");
+
+        System.out.println("TestZList OK");
+    }
+}